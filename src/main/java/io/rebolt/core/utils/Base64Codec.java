@@ -0,0 +1,436 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * 스트리밍 Base64 인코딩/디코딩 (RFC 4648)
+ * <p>
+ * {@link ByteBuffer} 사이에서 3바이트(인코딩) 또는 4글자(디코딩) 단위로 변환하며, 남은 조각은 다음 호출로 넘긴다.
+ * 채널 사이의 변환은 고정 크기의 버퍼만 사용하므로 입력 크기와 관계없이 메모리 사용량이 일정하다.
+ * 인스턴스는 불변이며 스레드에 안전하다.
+ * <p>
+ * 예)
+ * {@code
+ * try (FileChannel in = FileChannel.open(source); FileChannel out = FileChannel.open(target, CREATE, WRITE)) {
+ *   Base64Codec.BASIC.encode(in, out);
+ * }
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class Base64Codec {
+  private static final int BUFFER_SIZE = 8192 * 3;
+  private static final byte PAD = '=';
+
+  /**
+   * 기본 알파벳 ('+', '/'), 패딩 사용
+   */
+  public static final Base64Codec BASIC = new Base64Codec(
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/", true);
+
+  /**
+   * URL, 파일명에 안전한 알파벳 ('-', '_'), 패딩 사용
+   */
+  public static final Base64Codec URL_SAFE = new Base64Codec(
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", true);
+
+  private final byte[] alphabet;
+  // 6비트 값 2개(12비트) -> ASCII 2글자를 합친 값
+  private final short[] pairs;
+  // ASCII -> 6비트 값, 알파벳이 아닌 글자는 -1
+  private final int[] values;
+  private final boolean padding;
+
+  private Base64Codec(String alphabet, boolean padding) {
+    this.alphabet = alphabet.getBytes(ISO_8859_1);
+    this.padding = padding;
+    this.pairs = new short[4096];
+    for (int i = 0; i < pairs.length; i++) {
+      pairs[i] = (short) (this.alphabet[i >>> 6] << 8 | this.alphabet[i & 0x3f]);
+    }
+    this.values = new int[256];
+    Arrays.fill(values, -1);
+    for (int i = 0; i < this.alphabet.length; i++) {
+      values[this.alphabet[i]] = i;
+    }
+  }
+
+  private Base64Codec(Base64Codec codec, boolean padding) {
+    this.alphabet = codec.alphabet;
+    this.pairs = codec.pairs;
+    this.values = codec.values;
+    this.padding = padding;
+  }
+
+  /**
+   * 인코딩시 패딩('=')을 붙이지 않는다. 디코딩은 패딩 유무와 관계없이 처리한다.
+   *
+   * @return 새로운 {@link Base64Codec}
+   */
+  public Base64Codec withoutPadding() {
+    return padding ? new Base64Codec(this, false) : this;
+  }
+
+  // region encode
+
+  /**
+   * 인코딩된 길이
+   *
+   * @param length 원본 길이
+   * @return 인코딩된 길이
+   */
+  public int encodedLength(int length) {
+    long encoded = padding ? (length + 2L) / 3 * 4 : (length * 4L + 2) / 3;
+    if (encoded > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("encoded length exceeds " + Integer.MAX_VALUE);
+    }
+    return (int) encoded;
+  }
+
+  /**
+   * 바이트 배열 인코딩
+   *
+   * @param bytes 원본
+   * @return Base64 ASCII 바이트
+   */
+  public byte[] encode(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    byte[] encoded = new byte[encodedLength(bytes.length)];
+    encode(ByteBuffer.wrap(bytes), ByteBuffer.wrap(encoded), true);
+    return encoded;
+  }
+
+  /**
+   * 바이트 배열을 Base64 문자열로 인코딩
+   *
+   * @param bytes 원본
+   * @return Base64 문자열
+   */
+  public String encodeToString(byte[] bytes) {
+    return new String(encode(bytes), ISO_8859_1);
+  }
+
+  /**
+   * source의 남은 바이트를 인코딩하여 target에 쓴다
+   * <p>
+   * 3바이트 단위로 target의 공간이 허락하는 만큼 변환하며 두 버퍼의 position은 처리한 만큼 증가한다.
+   * 버퍼의 byte order와 관계없이 결과는 같다.
+   * endOfInput이 false이면 3바이트가 되지 않는 나머지는 source에 남겨 두므로, 호출자는 source를 compact 후 이어서 채운다.
+   *
+   * @param source 원본 버퍼
+   * @param target 결과를 쓸 버퍼
+   * @param endOfInput 마지막 입력 여부, true이면 나머지 1~2바이트까지 인코딩한다
+   * @return 쓴 바이트 수
+   */
+  public int encode(ByteBuffer source, ByteBuffer target, boolean endOfInput) {
+    Objects.requireNonNull(source);
+    Objects.requireNonNull(target);
+    final int start = target.position();
+    int groups = Math.min(source.remaining() / 3, target.remaining() >>> 2);
+    for (int i = 0; i < groups; i++) {
+      int bits = (source.get() & 0xff) << 16 | (source.get() & 0xff) << 8 | source.get() & 0xff;
+      BinaryUtil.putInt(target, (pairs[bits >>> 12] & 0xffff) << 16 | pairs[bits & 0xfff] & 0xffff, ByteOrder.BIG_ENDIAN);
+    }
+    int remaining = source.remaining();
+    if (endOfInput && remaining > 0 && remaining < 3) {
+      int length = padding ? 4 : remaining + 1;
+      if (target.remaining() >= length) {
+        int bits = (source.get() & 0xff) << 16 | (remaining == 2 ? (source.get() & 0xff) << 8 : 0);
+        target.put(alphabet[bits >>> 18]);
+        target.put(alphabet[(bits >>> 12) & 0x3f]);
+        if (remaining == 2) {
+          target.put(alphabet[(bits >>> 6) & 0x3f]);
+        } else if (padding) {
+          target.put(PAD);
+        }
+        if (padding) {
+          target.put(PAD);
+        }
+      }
+    }
+    return target.position() - start;
+  }
+
+  /**
+   * 채널의 모든 바이트를 인코딩하여 out에 쓴다. 채널은 닫지 않는다.
+   *
+   * @param in 입력 채널
+   * @param out 출력 채널
+   * @return 쓴 바이트 수
+   * @throws IOException 입출력 오류
+   */
+  public long encode(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+    return encode(in, out, ByteBuffer.allocateDirect(BUFFER_SIZE), ByteBuffer.allocateDirect(BUFFER_SIZE / 3 * 4));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하여 채널의 모든 바이트를 인코딩하여 out에 쓴다. 채널은 닫지 않는다.
+   *
+   * @param in 입력 채널
+   * @param out 출력 채널
+   * @param inBuffer 입력 버퍼 (3바이트 이상)
+   * @param outBuffer 출력 버퍼 (4바이트 이상)
+   * @return 쓴 바이트 수
+   * @throws IOException 입출력 오류
+   */
+  public long encode(ReadableByteChannel in, WritableByteChannel out, ByteBuffer inBuffer, ByteBuffer outBuffer)
+      throws IOException {
+    Objects.requireNonNull(in);
+    Objects.requireNonNull(out);
+    checkCapacity(inBuffer, 3);
+    checkCapacity(outBuffer, 4);
+    inBuffer.clear();
+    outBuffer.clear();
+    long total = 0;
+    boolean end = false;
+    while (!end) {
+      end = fill(in, inBuffer);
+      inBuffer.flip();
+      while (inBuffer.remaining() >= (end ? 1 : 3)) {
+        encode(inBuffer, outBuffer, end);
+        total += flush(out, outBuffer);
+      }
+      inBuffer.compact();
+    }
+    return total;
+  }
+
+  // endregion
+
+  // region decode
+
+  /**
+   * Base64 ASCII 바이트 디코딩
+   *
+   * @param bytes Base64 ASCII 바이트
+   * @return 디코딩된 바이트
+   * @throws IllegalParameterException Base64 형식이 아닌 경우
+   */
+  public byte[] decode(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    int length = bytes.length;
+    while (length > 0 && length > bytes.length - 2 && bytes[length - 1] == PAD) {
+      length--;
+    }
+    ByteBuffer source = ByteBuffer.wrap(bytes);
+    ByteBuffer target = ByteBuffer.allocate(length / 4 * 3 + Math.max(length % 4 - 1, 0));
+    decode(source, target, true);
+    if (source.hasRemaining()) {
+      throw invalid(source.position());
+    }
+    return target.array();
+  }
+
+  /**
+   * Base64 문자열 디코딩
+   *
+   * @param base64 Base64 문자열
+   * @return 디코딩된 바이트
+   * @throws IllegalParameterException Base64 형식이 아닌 경우
+   */
+  public byte[] decode(String base64) {
+    Objects.requireNonNull(base64);
+    return decode(base64.getBytes(ISO_8859_1));
+  }
+
+  /**
+   * source의 남은 Base64 ASCII 바이트를 디코딩하여 target에 쓴다
+   * <p>
+   * 4글자 단위로 target의 공간이 허락하는 만큼 변환하며 두 버퍼의 position은 처리한 만큼 증가한다.
+   * endOfInput이 false이면 4글자가 되지 않는 나머지는 source에 남겨 두므로, 호출자는 source를 compact 후 이어서 채운다.
+   * 패딩이 있는 경우 패딩 뒤에는 입력이 없어야 한다.
+   *
+   * @param source Base64 ASCII 버퍼
+   * @param target 결과를 쓸 버퍼
+   * @param endOfInput 마지막 입력 여부, true이면 패딩 없는 나머지 2~3글자까지 디코딩한다
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException Base64 형식이 아닌 경우
+   */
+  public int decode(ByteBuffer source, ByteBuffer target, boolean endOfInput) {
+    Objects.requireNonNull(source);
+    Objects.requireNonNull(target);
+    final int start = target.position();
+    while (source.remaining() >= 4) {
+      int position = source.position();
+      int bits = values[source.get(position) & 0xff] << 18 | values[source.get(position + 1) & 0xff] << 12
+          | values[source.get(position + 2) & 0xff] << 6 | values[source.get(position + 3) & 0xff];
+      if (bits < 0) {
+        // 패딩 또는 잘못된 글자
+        if (source.get(position + 3) == PAD) {
+          decodeLast(source, target, 4);
+        } else {
+          throw invalid(position);
+        }
+        return target.position() - start;
+      }
+      if (target.remaining() < 3) {
+        return target.position() - start;
+      }
+      source.position(position + 4);
+      target.put((byte) (bits >>> 16)).put((byte) (bits >>> 8)).put((byte) bits);
+    }
+    int remaining = source.remaining();
+    if (endOfInput && remaining > 0 && remaining < 4 && target.remaining() >= remaining - 1) {
+      if (remaining == 1) {
+        throw invalid(source.position());
+      }
+      decodeLast(source, target, remaining);
+    }
+    return target.position() - start;
+  }
+
+  /**
+   * 마지막 2~4글자 (패딩 포함) 디코딩
+   */
+  private void decodeLast(ByteBuffer source, ByteBuffer target, int length) {
+    final int position = source.position();
+    int count = length;
+    while (count > 2 && source.get(position + count - 1) == PAD) {
+      count--;
+    }
+    if (count < 2 || (length == 4 && count == 4) || (count < length && length != 4)) {
+      throw invalid(position);
+    }
+    int bits = 0;
+    for (int i = 0; i < count; i++) {
+      int value = values[source.get(position + i) & 0xff];
+      if (value < 0) {
+        throw invalid(position + i);
+      }
+      bits |= value << (18 - 6 * i);
+    }
+    if (count - 1 > target.remaining()) {
+      return;
+    }
+    source.position(position + length);
+    target.put((byte) (bits >>> 16));
+    if (count == 3) {
+      target.put((byte) (bits >>> 8));
+    }
+    if (length == 4 && source.hasRemaining()) {
+      throw invalid(source.position());
+    }
+  }
+
+  /**
+   * 채널의 모든 Base64 ASCII 바이트를 디코딩하여 out에 쓴다. 채널은 닫지 않는다.
+   *
+   * @param in 입력 채널
+   * @param out 출력 채널
+   * @return 쓴 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws IllegalParameterException Base64 형식이 아닌 경우
+   */
+  public long decode(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+    return decode(in, out, ByteBuffer.allocateDirect(BUFFER_SIZE / 3 * 4), ByteBuffer.allocateDirect(BUFFER_SIZE));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하여 채널의 모든 Base64 ASCII 바이트를 디코딩하여 out에 쓴다. 채널은 닫지 않는다.
+   *
+   * @param in 입력 채널
+   * @param out 출력 채널
+   * @param inBuffer 입력 버퍼 (4바이트 이상)
+   * @param outBuffer 출력 버퍼 (3바이트 이상)
+   * @return 쓴 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws IllegalParameterException Base64 형식이 아닌 경우
+   */
+  public long decode(ReadableByteChannel in, WritableByteChannel out, ByteBuffer inBuffer, ByteBuffer outBuffer)
+      throws IOException {
+    Objects.requireNonNull(in);
+    Objects.requireNonNull(out);
+    checkCapacity(inBuffer, 4);
+    checkCapacity(outBuffer, 3);
+    inBuffer.clear();
+    outBuffer.clear();
+    long total = 0;
+    long consumed = 0;
+    boolean padded = false;
+    boolean end = false;
+    while (!end) {
+      end = fill(in, inBuffer);
+      inBuffer.flip();
+      if (padded && inBuffer.hasRemaining()) {
+        // 패딩 뒤에 이어진 입력
+        throw invalid(consumed);
+      }
+      int decoded;
+      do {
+        decoded = decode(inBuffer, outBuffer, end);
+        total += flush(out, outBuffer);
+      } while (decoded > 0 && inBuffer.hasRemaining());
+      if (end && inBuffer.hasRemaining()) {
+        throw invalid(consumed + inBuffer.position());
+      }
+      padded = inBuffer.position() > 0 && inBuffer.get(inBuffer.position() - 1) == PAD;
+      consumed += inBuffer.position();
+      inBuffer.compact();
+    }
+    return total;
+  }
+
+  // endregion
+
+  /**
+   * 버퍼가 가득 차거나 입력이 끝날 때까지 읽는다
+   *
+   * @return 입력 종료 여부
+   */
+  private static boolean fill(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (in.read(buffer) == -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int flush(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    int length = buffer.remaining();
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+    buffer.clear();
+    return length;
+  }
+
+  private static void checkCapacity(ByteBuffer buffer, int minimum) {
+    Objects.requireNonNull(buffer);
+    if (buffer.capacity() < minimum) {
+      throw new IllegalParameterException("buffer capacity >= " + minimum);
+    }
+  }
+
+  private static IllegalParameterException invalid(long position) {
+    return new IllegalParameterException("invalid base64 at " + position);
+  }
+}
@@ -0,0 +1,567 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * int, long, float, double의 바이너리 인코딩/디코딩
+ * <p>
+ * byte[]에는 지정한 위치(offset)에 직접 쓰고 읽으며, 쓰기 메소드는 쓰기가 끝난 위치를 반환하므로 이어서 쓸 수 있다.
+ * 고정 길이는 big endian(네트워크 순서)과 little endian(LE 접미사)을 모두 지원한다.
+ * {@link ByteBuffer}의 고정 길이 메소드는 버퍼의 order를 바꾸지 않고 지정한 순서로 쓰고 읽는다.
+ * <p>
+ * 가변 길이는 LEB128 varint(7비트씩, 낮은 자리부터)이며, 음수가 많은 값은 ZigZag로 먼저 바꾸어 쓴다.
+ * <p>
+ * 예)
+ * {@code
+ * byte[] key = new byte[BinaryUtil.varLongSize(userId) + 4];
+ * int offset = BinaryUtil.putVarLong(key, 0, userId);
+ * BinaryUtil.putInt(key, offset, shard);
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class BinaryUtil {
+  private static final int MAX_VAR_INT_SIZE = 5;
+  private static final int MAX_VAR_LONG_SIZE = 10;
+
+  // region fixed (byte[], big endian)
+
+  /**
+   * int 쓰기 (big endian)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 4)
+   */
+  public static int putInt(byte[] target, int offset, int value) {
+    target[offset] = (byte) (value >>> 24);
+    target[offset + 1] = (byte) (value >>> 16);
+    target[offset + 2] = (byte) (value >>> 8);
+    target[offset + 3] = (byte) value;
+    return offset + 4;
+  }
+
+  /**
+   * int 읽기 (big endian)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static int getInt(byte[] source, int offset) {
+    return source[offset] << 24
+        | (source[offset + 1] & 0xff) << 16
+        | (source[offset + 2] & 0xff) << 8
+        | source[offset + 3] & 0xff;
+  }
+
+  /**
+   * long 쓰기 (big endian)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 8)
+   */
+  public static int putLong(byte[] target, int offset, long value) {
+    putInt(target, offset, (int) (value >>> 32));
+    return putInt(target, offset + 4, (int) value);
+  }
+
+  /**
+   * long 읽기 (big endian)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static long getLong(byte[] source, int offset) {
+    return (long) getInt(source, offset) << 32 | getInt(source, offset + 4) & 0xffffffffL;
+  }
+
+  /**
+   * float 쓰기 (big endian, IEEE 754)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 4)
+   */
+  public static int putFloat(byte[] target, int offset, float value) {
+    return putInt(target, offset, Float.floatToRawIntBits(value));
+  }
+
+  /**
+   * float 읽기 (big endian, IEEE 754)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static float getFloat(byte[] source, int offset) {
+    return Float.intBitsToFloat(getInt(source, offset));
+  }
+
+  /**
+   * double 쓰기 (big endian, IEEE 754)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 8)
+   */
+  public static int putDouble(byte[] target, int offset, double value) {
+    return putLong(target, offset, Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * double 읽기 (big endian, IEEE 754)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static double getDouble(byte[] source, int offset) {
+    return Double.longBitsToDouble(getLong(source, offset));
+  }
+
+  // endregion
+
+  // region fixed (byte[], little endian)
+
+  /**
+   * int 쓰기 (little endian)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 4)
+   */
+  public static int putIntLE(byte[] target, int offset, int value) {
+    target[offset] = (byte) value;
+    target[offset + 1] = (byte) (value >>> 8);
+    target[offset + 2] = (byte) (value >>> 16);
+    target[offset + 3] = (byte) (value >>> 24);
+    return offset + 4;
+  }
+
+  /**
+   * int 읽기 (little endian)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static int getIntLE(byte[] source, int offset) {
+    return source[offset] & 0xff
+        | (source[offset + 1] & 0xff) << 8
+        | (source[offset + 2] & 0xff) << 16
+        | source[offset + 3] << 24;
+  }
+
+  /**
+   * long 쓰기 (little endian)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 8)
+   */
+  public static int putLongLE(byte[] target, int offset, long value) {
+    putIntLE(target, offset, (int) value);
+    return putIntLE(target, offset + 4, (int) (value >>> 32));
+  }
+
+  /**
+   * long 읽기 (little endian)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static long getLongLE(byte[] source, int offset) {
+    return getIntLE(source, offset) & 0xffffffffL | (long) getIntLE(source, offset + 4) << 32;
+  }
+
+  /**
+   * float 쓰기 (little endian, IEEE 754)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 4)
+   */
+  public static int putFloatLE(byte[] target, int offset, float value) {
+    return putIntLE(target, offset, Float.floatToRawIntBits(value));
+  }
+
+  /**
+   * float 읽기 (little endian, IEEE 754)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static float getFloatLE(byte[] source, int offset) {
+    return Float.intBitsToFloat(getIntLE(source, offset));
+  }
+
+  /**
+   * double 쓰기 (little endian, IEEE 754)
+   *
+   * @param target 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @param value 값
+   * @return 쓰기가 끝난 위치 (offset + 8)
+   */
+  public static int putDoubleLE(byte[] target, int offset, double value) {
+    return putLongLE(target, offset, Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * double 읽기 (little endian, IEEE 754)
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   */
+  public static double getDoubleLE(byte[] source, int offset) {
+    return Double.longBitsToDouble(getLongLE(source, offset));
+  }
+
+  // endregion
+
+  // region fixed (ByteBuffer)
+
+  /**
+   * int 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return buffer
+   */
+  public static ByteBuffer putInt(ByteBuffer buffer, int value, ByteOrder order) {
+    return buffer.putInt(buffer.order() == order ? value : Integer.reverseBytes(value));
+  }
+
+  /**
+   * int 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return 값
+   */
+  public static int getInt(ByteBuffer buffer, ByteOrder order) {
+    int value = buffer.getInt();
+    return buffer.order() == order ? value : Integer.reverseBytes(value);
+  }
+
+  /**
+   * long 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return buffer
+   */
+  public static ByteBuffer putLong(ByteBuffer buffer, long value, ByteOrder order) {
+    return buffer.putLong(buffer.order() == order ? value : Long.reverseBytes(value));
+  }
+
+  /**
+   * long 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return 값
+   */
+  public static long getLong(ByteBuffer buffer, ByteOrder order) {
+    long value = buffer.getLong();
+    return buffer.order() == order ? value : Long.reverseBytes(value);
+  }
+
+  /**
+   * float 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return buffer
+   */
+  public static ByteBuffer putFloat(ByteBuffer buffer, float value, ByteOrder order) {
+    return putInt(buffer, Float.floatToRawIntBits(value), order);
+  }
+
+  /**
+   * float 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return 값
+   */
+  public static float getFloat(ByteBuffer buffer, ByteOrder order) {
+    return Float.intBitsToFloat(getInt(buffer, order));
+  }
+
+  /**
+   * double 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return buffer
+   */
+  public static ByteBuffer putDouble(ByteBuffer buffer, double value, ByteOrder order) {
+    return putLong(buffer, Double.doubleToRawLongBits(value), order);
+  }
+
+  /**
+   * double 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @param order 바이트 순서 (버퍼의 order는 바뀌지 않는다)
+   * @return 값
+   */
+  public static double getDouble(ByteBuffer buffer, ByteOrder order) {
+    return Double.longBitsToDouble(getLong(buffer, order));
+  }
+
+  // endregion
+
+  // region varint
+
+  /**
+   * int의 varint 길이
+   *
+   * @param value 값 (unsigned로 취급, 음수는 5바이트)
+   * @return 바이트 수 (1 ~ 5)
+   */
+  public static int varIntSize(int value) {
+    // 유효 비트 수를 7로 나눈 올림, 0은 1바이트
+    return ((31 - Integer.numberOfLeadingZeros(value | 1)) * 9 + 73) >>> 6;
+  }
+
+  /**
+   * long의 varint 길이
+   *
+   * @param value 값 (unsigned로 취급, 음수는 10바이트)
+   * @return 바이트 수 (1 ~ 10)
+   */
+  public static int varLongSize(long value) {
+    return ((63 - Long.numberOfLeadingZeros(value | 1)) * 9 + 73) >>> 6;
+  }
+
+  /**
+   * int varint 쓰기
+   *
+   * @param target 쓸 배열, offset부터 {@link #varIntSize(int)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @param value 값 (unsigned로 취급, 음수가 많다면 {@link #encodeZigZag(int)}를 먼저 적용한다)
+   * @return 쓰기가 끝난 위치
+   */
+  public static int putVarInt(byte[] target, int offset, int value) {
+    while ((value & ~0x7f) != 0) {
+      target[offset++] = (byte) (value & 0x7f | 0x80);
+      value >>>= 7;
+    }
+    target[offset++] = (byte) value;
+    return offset;
+  }
+
+  /**
+   * int varint 읽기
+   * <p>
+   * 읽은 바이트 수는 {@link #varIntSize(int)}와 같다 (이 클래스로 쓴 값인 경우).
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   * @throws IllegalParameterException 5바이트 안에 끝나지 않는 경우
+   */
+  public static int getVarInt(byte[] source, int offset) {
+    int value = 0;
+    for (int i = 0, shift = 0; i < MAX_VAR_INT_SIZE; i++, shift += 7) {
+      byte b = source[offset + i];
+      value |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalParameterException("malformed varint at " + offset);
+  }
+
+  /**
+   * long varint 쓰기
+   *
+   * @param target 쓸 배열, offset부터 {@link #varLongSize(long)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @param value 값 (unsigned로 취급, 음수가 많다면 {@link #encodeZigZag(long)}를 먼저 적용한다)
+   * @return 쓰기가 끝난 위치
+   */
+  public static int putVarLong(byte[] target, int offset, long value) {
+    while ((value & ~0x7fL) != 0) {
+      target[offset++] = (byte) (value & 0x7f | 0x80);
+      value >>>= 7;
+    }
+    target[offset++] = (byte) value;
+    return offset;
+  }
+
+  /**
+   * long varint 읽기
+   * <p>
+   * 읽은 바이트 수는 {@link #varLongSize(long)}와 같다 (이 클래스로 쓴 값인 경우).
+   *
+   * @param source 읽을 배열
+   * @param offset 읽기 시작 위치
+   * @return 값
+   * @throws IllegalParameterException 10바이트 안에 끝나지 않는 경우
+   */
+  public static long getVarLong(byte[] source, int offset) {
+    long value = 0;
+    for (int i = 0, shift = 0; i < MAX_VAR_LONG_SIZE; i++, shift += 7) {
+      byte b = source[offset + i];
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalParameterException("malformed varint at " + offset);
+  }
+
+  /**
+   * int varint 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값 (unsigned로 취급)
+   * @return buffer
+   */
+  public static ByteBuffer putVarInt(ByteBuffer buffer, int value) {
+    while ((value & ~0x7f) != 0) {
+      buffer.put((byte) (value & 0x7f | 0x80));
+      value >>>= 7;
+    }
+    return buffer.put((byte) value);
+  }
+
+  /**
+   * int varint 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @return 값
+   * @throws IllegalParameterException 5바이트 안에 끝나지 않는 경우
+   */
+  public static int getVarInt(ByteBuffer buffer) {
+    int value = 0;
+    for (int i = 0, shift = 0; i < MAX_VAR_INT_SIZE; i++, shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalParameterException("malformed varint at " + (buffer.position() - MAX_VAR_INT_SIZE));
+  }
+
+  /**
+   * long varint 쓰기 (position 이동)
+   *
+   * @param buffer 쓸 버퍼
+   * @param value 값 (unsigned로 취급)
+   * @return buffer
+   */
+  public static ByteBuffer putVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7fL) != 0) {
+      buffer.put((byte) (value & 0x7f | 0x80));
+      value >>>= 7;
+    }
+    return buffer.put((byte) value);
+  }
+
+  /**
+   * long varint 읽기 (position 이동)
+   *
+   * @param buffer 읽을 버퍼
+   * @return 값
+   * @throws IllegalParameterException 10바이트 안에 끝나지 않는 경우
+   */
+  public static long getVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int i = 0, shift = 0; i < MAX_VAR_LONG_SIZE; i++, shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalParameterException("malformed varint at " + (buffer.position() - MAX_VAR_LONG_SIZE));
+  }
+
+  // endregion
+
+  // region zigzag
+
+  /**
+   * ZigZag 인코딩 (0, -1, 1, -2 ... -&gt; 0, 1, 2, 3 ...)
+   *
+   * @param value 값
+   * @return 인코딩된 값
+   */
+  public static int encodeZigZag(int value) {
+    return value << 1 ^ value >> 31;
+  }
+
+  /**
+   * ZigZag 디코딩
+   *
+   * @param value 인코딩된 값
+   * @return 값
+   */
+  public static int decodeZigZag(int value) {
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  /**
+   * ZigZag 인코딩 (0, -1, 1, -2 ... -&gt; 0, 1, 2, 3 ...)
+   *
+   * @param value 값
+   * @return 인코딩된 값
+   */
+  public static long encodeZigZag(long value) {
+    return value << 1 ^ value >> 63;
+  }
+
+  /**
+   * ZigZag 디코딩
+   *
+   * @param value 인코딩된 값
+   * @return 값
+   */
+  public static long decodeZigZag(long value) {
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  // endregion
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기가 제한된 동시성 캐시
+ * <p>
+ * {@link ConcurrentHashMap}에 값을 보관하고 삽입 순서(FIFO)로 오래된 항목을 제거한다.
+ * 조회는 잠금 없이 이루어지며, 동시에 삽입되는 경우 일시적으로 capacity를 조금 넘을 수 있다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @since 0.2.28
+ */
+public final class BoundedCache<K, V> {
+  private final int capacity;
+  private final Map<K, V> map;
+  private final Queue<K> order = new ConcurrentLinkedQueue<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param capacity 최대 항목 수
+   */
+  public BoundedCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalParameterException("capacity > 0");
+    }
+    this.capacity = capacity;
+    this.map = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+  }
+
+  /**
+   * 조회
+   *
+   * @param key 키
+   * @return 값, 없으면 null
+   */
+  public V get(K key) {
+    V value = map.get(key);
+    if (value == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return value;
+  }
+
+  /**
+   * 조회, 없으면 생성하여 보관
+   * <p>
+   * 같은 키를 동시에 생성하는 경우 loader가 여러번 호출될 수 있으며, 먼저 보관된 값을 반환한다.
+   *
+   * @param key 키
+   * @param loader 값 생성 함수, null을 반환하면 보관하지 않는다
+   * @return 값
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value == null) {
+      value = loader.apply(key);
+      if (value != null) {
+        value = put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * 보관 (이미 있다면 기존 값을 유지)
+   *
+   * @param key 키
+   * @param value 값
+   * @return 보관된 값 (기존 값 또는 value)
+   */
+  public V put(K key, V value) {
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(value);
+    V previous = map.putIfAbsent(key, value);
+    if (previous != null) {
+      return previous;
+    }
+    order.offer(key);
+    while (map.size() > capacity) {
+      K eldest = order.poll();
+      if (eldest == null) {
+        break;
+      }
+      map.remove(eldest);
+    }
+    return value;
+  }
+
+  /**
+   * 제거
+   *
+   * @param key 키
+   */
+  public void invalidate(K key) {
+    if (map.remove(key) != null) {
+      order.remove(key);
+    }
+  }
+
+  /**
+   * 모두 제거
+   */
+  public void clear() {
+    map.clear();
+    order.clear();
+  }
+
+  /**
+   * 현재 항목 수
+   *
+   * @return 항목 수
+   */
+  public int size() {
+    return map.size();
+  }
+
+  /**
+   * 최대 항목 수
+   *
+   * @return capacity
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * 조회 성공 횟수
+   *
+   * @return hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * 조회 실패 횟수
+   *
+   * @return miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 문자열 -&gt; 타입 변환기 저장소
+ * <p>
+ * 타입 별 변환기는 처음 요청될 때 한번만 결정하여 {@link ClassValue}에 보관하므로, 이후 조회는 타입 이름 비교나 맵 조회 없이 이루어진다.
+ * 변환기를 반복해서 사용한다면 {@link #converter(Class)}로 받아 두고 직접 호출한다.
+ * <p>
+ * 지원 타입
+ * <ul>
+ * <li>{@link String}, {@link CharSequence}, {@link Object}</li>
+ * <li>primitive와 wrapper (boolean, byte, short, int, long, float, double, char)</li>
+ * <li>{@link BigDecimal}, {@link BigInteger}</li>
+ * <li>{@link Duration} (ISO-8601 "PT10S" 또는 밀리초 숫자)</li>
+ * <li>enum (상수 이름, 대소문자 무관)</li>
+ * <li>{@link #register(Class, Function)}로 등록한 타입</li>
+ * </ul>
+ *
+ * @since 0.2.28
+ */
+public final class CastUtil {
+  private static final Map<Class<?>, Function<String, ?>> BUILT_IN = new HashMap<>();
+  private static final Map<Class<?>, Function<String, ?>> registered = new ConcurrentHashMap<>();
+  private static final ClassValue<Function<String, ?>> converters = new ClassValue<Function<String, ?>>() {
+    @Override
+    protected Function<String, ?> computeValue(Class<?> type) {
+      return resolve(type);
+    }
+  };
+
+  static {
+    BUILT_IN.put(String.class, Function.identity());
+    BUILT_IN.put(CharSequence.class, Function.identity());
+    BUILT_IN.put(Object.class, Function.identity());
+    putPrimitive(boolean.class, Boolean.class, Boolean::valueOf);
+    putPrimitive(byte.class, Byte.class, Byte::valueOf);
+    putPrimitive(short.class, Short.class, Short::valueOf);
+    putPrimitive(int.class, Integer.class, Integer::valueOf);
+    putPrimitive(long.class, Long.class, Long::valueOf);
+    putPrimitive(float.class, Float.class, Float::valueOf);
+    putPrimitive(double.class, Double.class, Double::valueOf);
+    putPrimitive(char.class, Character.class, CastUtil::toCharacter);
+    BUILT_IN.put(BigDecimal.class, BigDecimal::new);
+    BUILT_IN.put(BigInteger.class, BigInteger::new);
+    BUILT_IN.put(Duration.class, CastUtil::toDuration);
+  }
+
+  private static <T> void putPrimitive(Class<?> primitive, Class<T> wrapper, Function<String, T> converter) {
+    BUILT_IN.put(primitive, converter);
+    BUILT_IN.put(wrapper, converter);
+  }
+
+  /**
+   * 문자열 변환
+   *
+   * @param value 문자열, null이면 null을 반환한다
+   * @param type 변환할 타입 (primitive는 wrapper로 반환)
+   * @param <T> 변환할 타입
+   * @return 변환된 값
+   * @throws IllegalParameterException 지원하지 않는 타입이거나 enum 상수가 없는 경우
+   * @throws NumberFormatException 숫자 형식이 잘못된 경우
+   */
+  public static <T> T cast(String value, Class<T> type) {
+    return value == null ? null : converter(type).apply(value);
+  }
+
+  /**
+   * 타입 별 변환기
+   *
+   * @param type 변환할 타입 (primitive는 wrapper로 반환)
+   * @param <T> 변환할 타입
+   * @return 변환기
+   * @throws IllegalParameterException 지원하지 않는 타입
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Function<String, T> converter(Class<T> type) {
+    Objects.requireNonNull(type);
+    return (Function<String, T>) converters.get(type);
+  }
+
+  /**
+   * 변환기 등록 (이미 등록된 타입은 교체)
+   * <p>
+   * 내장 변환기가 있는 타입도 교체할 수 있다.
+   *
+   * @param type 변환할 타입
+   * @param converter 변환기
+   * @param <T> 변환할 타입
+   */
+  public static <T> void register(Class<T> type, Function<String, ? extends T> converter) {
+    Objects.requireNonNull(type);
+    Objects.requireNonNull(converter);
+    registered.put(type, converter);
+    converters.remove(type);
+  }
+
+  /**
+   * 등록된 변환기 제거
+   *
+   * @param type 변환할 타입
+   */
+  public static void unregister(Class<?> type) {
+    if (registered.remove(type) != null) {
+      converters.remove(type);
+    }
+  }
+
+  private static Function<String, ?> resolve(Class<?> type) {
+    Function<String, ?> converter = registered.get(type);
+    if (converter != null) {
+      return converter;
+    }
+    converter = BUILT_IN.get(type);
+    if (converter != null) {
+      return converter;
+    }
+    if (type.isEnum()) {
+      return enumConverter(type);
+    }
+    throw new IllegalParameterException("unsupported type: " + type.getName());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Function<String, ?> enumConverter(Class<?> type) {
+    Enum[] constants = ((Class<? extends Enum>) type).getEnumConstants();
+    Map<String, Enum> byName = new HashMap<>(constants.length * 2);
+    for (Enum constant : constants) {
+      byName.put(constant.name(), constant);
+      byName.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+    }
+    return value -> {
+      Enum constant = byName.get(value);
+      if (constant == null) {
+        constant = byName.get(value.trim().toUpperCase(Locale.ROOT));
+      }
+      if (constant == null) {
+        throw new IllegalParameterException("no enum constant " + type.getName() + "." + value);
+      }
+      return constant;
+    };
+  }
+
+  private static Character toCharacter(String value) {
+    if (value.length() != 1) {
+      throw new IllegalParameterException("not a single character: " + value);
+    }
+    return value.charAt(0);
+  }
+
+  private static Duration toDuration(String value) {
+    if (value.indexOf('P') != -1 || value.indexOf('p') != -1) {
+      return Duration.parse(value);
+    }
+    return Duration.ofMillis(Long.parseLong(value));
+  }
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 비트셋으로 컴파일된 문자 집합
+ * <p>
+ * 집합에 속하는 문자를 long[] 비트셋에 기록하고, 비트셋이 덮지 않는 나머지 문자는 하나의 값(beyond)으로 판정한다.
+ * 검사는 배열 조회와 비트 연산 한번이며, 모든 검색은 분기가 적은 counted loop로 돈다.
+ * 인스턴스는 불변이므로 상수로 만들어 두고 여러 스레드에서 재사용한다.
+ * <p>
+ * byte[]는 UTF-8로 보며, 0x80 이상의 바이트(멀티바이트 문자의 일부)는 집합이 모든 비 ASCII 문자를 포함할 때만 일치한다.
+ * 비 ASCII 문자를 일부만 포함하는 집합은 바이트 단위로 판정할 수 없으므로 byte[] 메소드에서 {@link IllegalParameterException}을 던진다.
+ * <p>
+ * 예)
+ * {@code
+ * private static final CharMatcher TOKEN = CharMatcher.ALNUM.or(CharMatcher.anyOf("-_"));
+ * TOKEN.matchesAll("user_01"); // true
+ * CharMatcher.DIGIT.removeFrom("010-1234-5678"); // "--"
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class CharMatcher {
+  /**
+   * 일치하는 문자 없음
+   */
+  public static final CharMatcher NONE = new CharMatcher(new long[0], false);
+  /**
+   * 모든 문자
+   */
+  public static final CharMatcher ANY = new CharMatcher(new long[0], true);
+  /**
+   * '0' ~ '9'
+   */
+  public static final CharMatcher DIGIT = inRange('0', '9');
+  /**
+   * ASCII (0x00 ~ 0x7f)
+   */
+  public static final CharMatcher ASCII = inRange('\0', '\u007f');
+  /**
+   * 16진수 문자 (0-9, a-f, A-F)
+   */
+  public static final CharMatcher HEX = DIGIT.or(inRange('a', 'f')).or(inRange('A', 'F'));
+  /**
+   * ASCII 영문자
+   */
+  public static final CharMatcher ALPHA = inRange('a', 'z').or(inRange('A', 'Z'));
+  /**
+   * ASCII 영문자와 숫자
+   */
+  public static final CharMatcher ALNUM = ALPHA.or(DIGIT);
+  /**
+   * 공백과 제어문자 (0x00 ~ 0x20, {@link StringUtil#trim(CharSequence)}와 같은 기준)
+   */
+  public static final CharMatcher WHITESPACE = inRange('\0', ' ');
+
+  private static final int NON_ASCII_NONE = 0;
+  private static final int NON_ASCII_ALL = 1;
+  private static final int NON_ASCII_MIXED = 2;
+
+  // bits.length * 64 미만의 문자
+  private final long[] bits;
+  // 비트셋 범위 밖의 문자
+  private final boolean beyond;
+  // UTF-8 바이트 (0x00 ~ 0xff) 판정용, 0x80 이상은 비 ASCII 문자 전체의 판정을 따른다
+  private final long[] byteBits;
+  private final int nonAscii;
+
+  private CharMatcher(long[] bits, boolean beyond) {
+    // 끝의 beyond와 같은 word는 잘라낸다
+    final long fill = beyond ? -1L : 0L;
+    int length = bits.length;
+    while (length > 0 && bits[length - 1] == fill) {
+      length--;
+    }
+    this.bits = length == bits.length ? bits : Arrays.copyOf(bits, length);
+    this.beyond = beyond;
+    this.nonAscii = computeNonAscii();
+    this.byteBits = new long[4];
+    byteBits[0] = word(0);
+    byteBits[1] = word(1);
+    if (nonAscii == NON_ASCII_ALL) {
+      byteBits[2] = -1L;
+      byteBits[3] = -1L;
+    }
+  }
+
+  // region factory
+
+  /**
+   * 문자 하나
+   *
+   * @param c 문자
+   * @return {@link CharMatcher}
+   */
+  public static CharMatcher is(char c) {
+    return inRange(c, c);
+  }
+
+  /**
+   * 문자 목록 중 하나
+   *
+   * @param chars 문자 목록
+   * @return {@link CharMatcher}, chars가 empty이면 {@link #NONE}
+   */
+  public static CharMatcher anyOf(CharSequence chars) {
+    Objects.requireNonNull(chars);
+    if (chars.length() == 0) {
+      return NONE;
+    }
+    int max = 0;
+    for (int i = 0; i < chars.length(); i++) {
+      max = Math.max(max, chars.charAt(i));
+    }
+    long[] bits = new long[(max >>> 6) + 1];
+    for (int i = 0; i < chars.length(); i++) {
+      char c = chars.charAt(i);
+      bits[c >>> 6] |= 1L << c;
+    }
+    return new CharMatcher(bits, false);
+  }
+
+  /**
+   * 문자 범위
+   *
+   * @param start 시작 문자 (inclusive)
+   * @param end 끝 문자 (inclusive)
+   * @return {@link CharMatcher}
+   * @throws IllegalParameterException start가 end보다 큰 경우
+   */
+  public static CharMatcher inRange(char start, char end) {
+    if (start > end) {
+      throw new IllegalParameterException("start > end: " + (int) start + ", " + (int) end);
+    }
+    long[] bits = new long[(end >>> 6) + 1];
+    for (int c = start; c <= end; c++) {
+      bits[c >>> 6] |= 1L << c;
+    }
+    return new CharMatcher(bits, false);
+  }
+
+  /**
+   * 합집합
+   *
+   * @param other 다른 {@link CharMatcher}
+   * @return {@link CharMatcher}
+   */
+  public CharMatcher or(CharMatcher other) {
+    long[] result = new long[Math.max(bits.length, other.bits.length)];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = word(i) | other.word(i);
+    }
+    return new CharMatcher(result, beyond || other.beyond);
+  }
+
+  /**
+   * 교집합
+   *
+   * @param other 다른 {@link CharMatcher}
+   * @return {@link CharMatcher}
+   */
+  public CharMatcher and(CharMatcher other) {
+    long[] result = new long[Math.max(bits.length, other.bits.length)];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = word(i) & other.word(i);
+    }
+    return new CharMatcher(result, beyond && other.beyond);
+  }
+
+  /**
+   * 여집합
+   *
+   * @return {@link CharMatcher}
+   */
+  public CharMatcher negate() {
+    long[] result = new long[bits.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ~bits[i];
+    }
+    return new CharMatcher(result, !beyond);
+  }
+
+  // endregion
+
+  // region CharSequence
+
+  /**
+   * 문자 일치 여부
+   *
+   * @param c 문자
+   * @return 집합에 속하면 true
+   */
+  public boolean matches(char c) {
+    final int index = c >>> 6;
+    return index < bits.length ? (bits[index] & 1L << c) != 0 : beyond;
+  }
+
+  /**
+   * 모든 문자 일치 여부
+   *
+   * @param chars 문자열
+   * @return 모든 문자가 집합에 속하면 true (empty도 true)
+   */
+  public boolean matchesAll(CharSequence chars) {
+    return indexNotIn(chars) == -1;
+  }
+
+  /**
+   * 일치하는 첫 문자의 위치
+   *
+   * @param chars 문자열
+   * @return 위치, 없다면 -1
+   */
+  public int indexIn(CharSequence chars) {
+    return indexIn(chars, 0);
+  }
+
+  /**
+   * start부터 일치하는 첫 문자의 위치
+   *
+   * @param chars 문자열
+   * @param start 검색 시작 위치
+   * @return 위치, 없다면 -1
+   */
+  public int indexIn(CharSequence chars, int start) {
+    final int length = chars.length();
+    for (int i = Math.max(start, 0); i < length; i++) {
+      if (matches(chars.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 일치하는 문자 수
+   *
+   * @param chars 문자열
+   * @return 문자 수
+   */
+  public int countIn(CharSequence chars) {
+    final int length = chars.length();
+    int count = 0;
+    for (int i = 0; i < length; i++) {
+      if (matches(chars.charAt(i))) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 일치하는 문자 제거
+   *
+   * @param chars 문자열
+   * @return 제거된 문자열, 제거할 문자가 없다면 chars.toString()
+   */
+  public String removeFrom(CharSequence chars) {
+    int first = indexIn(chars);
+    if (first == -1) {
+      return chars.toString();
+    }
+    final int length = chars.length();
+    char[] result = new char[length - 1];
+    int count = 0;
+    for (int i = 0; i < first; i++) {
+      result[count++] = chars.charAt(i);
+    }
+    for (int i = first + 1; i < length; i++) {
+      char c = chars.charAt(i);
+      if (!matches(c)) {
+        result[count++] = c;
+      }
+    }
+    return new String(result, 0, count);
+  }
+
+  /**
+   * 앞뒤의 일치하는 문자 제거
+   *
+   * @param chars 문자열
+   * @return 제거된 문자열, 제거할 문자가 없다면 chars
+   */
+  public CharSequence trimFrom(CharSequence chars) {
+    final int length = chars.length();
+    int start = 0;
+    while (start < length && matches(chars.charAt(start))) {
+      start++;
+    }
+    int end = length;
+    while (end > start && matches(chars.charAt(end - 1))) {
+      end--;
+    }
+    return start == 0 && end == length ? chars : chars.subSequence(start, end);
+  }
+
+  /**
+   * 앞뒤의 일치하는 문자 제거
+   *
+   * @param value 문자열
+   * @return 제거된 문자열, 제거할 문자가 없다면 value
+   */
+  public String trimFrom(String value) {
+    return (String) trimFrom((CharSequence) value);
+  }
+
+  private int indexNotIn(CharSequence chars) {
+    final int length = chars.length();
+    for (int i = 0; i < length; i++) {
+      if (!matches(chars.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // endregion
+
+  // region byte[] (UTF-8)
+
+  /**
+   * 바이트 일치 여부
+   *
+   * @param b UTF-8 바이트
+   * @return 집합에 속하면 true
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public boolean matches(byte b) {
+    checkBytes();
+    return matchesByte(b);
+  }
+
+  /**
+   * 구간의 모든 바이트 일치 여부
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 모든 바이트가 집합에 속하면 true (empty도 true)
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public boolean matchesAll(byte[] bytes, int from, int to) {
+    checkBytes(bytes, from, to);
+    for (int i = from; i < to; i++) {
+      if (!matchesByte(bytes[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 구간에서 일치하는 첫 바이트의 위치
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 위치, 없다면 -1
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public int indexIn(byte[] bytes, int from, int to) {
+    checkBytes(bytes, from, to);
+    for (int i = from; i < to; i++) {
+      if (matchesByte(bytes[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 구간에서 일치하는 바이트 수
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 바이트 수
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public int countIn(byte[] bytes, int from, int to) {
+    checkBytes(bytes, from, to);
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      if (matchesByte(bytes[i])) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 구간에서 일치하는 바이트 제거
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 제거된 바이트 (새 배열)
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public byte[] removeFrom(byte[] bytes, int from, int to) {
+    checkBytes(bytes, from, to);
+    byte[] result = new byte[to - from];
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      byte b = bytes[i];
+      if (!matchesByte(b)) {
+        result[count++] = b;
+      }
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+
+  /**
+   * 구간 앞뒤의 일치하는 바이트 제거
+   * <p>
+   * 결과는 원본 배열을 공유하는 {@link ByteBuffer} slice이며 복사가 발생하지 않는다.
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 제거된 구간
+   * @throws IllegalParameterException 비 ASCII 문자를 일부만 포함하는 집합인 경우
+   */
+  public ByteBuffer trimFrom(byte[] bytes, int from, int to) {
+    checkBytes(bytes, from, to);
+    int start = from;
+    while (start < to && matchesByte(bytes[start])) {
+      start++;
+    }
+    int end = to;
+    while (end > start && matchesByte(bytes[end - 1])) {
+      end--;
+    }
+    return ByteBuffer.wrap(bytes, start, end - start).slice();
+  }
+
+  private boolean matchesByte(byte b) {
+    return (byteBits[(b & 0xff) >>> 6] & 1L << b) != 0;
+  }
+
+  private void checkBytes(byte[] bytes, int from, int to) {
+    Objects.requireNonNull(bytes);
+    if (from < 0 || from > to || to > bytes.length) {
+      throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + bytes.length);
+    }
+    checkBytes();
+  }
+
+  private void checkBytes() {
+    if (nonAscii == NON_ASCII_MIXED) {
+      throw new IllegalParameterException("matcher contains some but not all non-ASCII chars, can't match UTF-8 bytes");
+    }
+  }
+
+  // endregion
+
+  private long word(int index) {
+    return index < bits.length ? bits[index] : beyond ? -1L : 0L;
+  }
+
+  private int computeNonAscii() {
+    // 128 이상의 word가 모두 beyond와 같은지 확인한다 (끝의 같은 word는 잘라냈으므로 길이로 충분하다)
+    if (bits.length <= 2) {
+      return beyond ? NON_ASCII_ALL : NON_ASCII_NONE;
+    }
+    return NON_ASCII_MIXED;
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스레드별 {@link Cipher} 제공자
+ * <p>
+ * {@link Cipher}는 스레드에 안전하지 않으므로 transformation 별로 스레드마다 하나의 인스턴스를 만들어 재사용한다.
+ * 스레드간 공유나 잠금이 없으므로 동시 암복호화가 코어 수에 비례하여 확장된다.
+ * 반환된 {@link Cipher}는 같은 스레드에서 다시 조회하기 전까지만 사용해야 한다.
+ * <p>
+ * 키 바이트로 초기화하는 {@link #init(String, int, byte[], byte[])}는 키 별로 초기화된 {@link Cipher}를
+ * 스레드마다 최대 {@link #CONTEXT_SIZE}개까지 LRU로 보관한다. 같은 키를 반복해서 사용하면 키 스펙 생성과 키 스케줄 계산을 건너뛴다.
+ *
+ * @since 0.2.28
+ */
+public final class CipherProvider {
+  /**
+   * 스레드별로 보관하는 키 별 {@link Cipher} 수
+   */
+  public static final int CONTEXT_SIZE = 8;
+  private static final ThreadLocal<Map<String, Cipher>> ciphers = ThreadLocal.withInitial(HashMap::new);
+  private static final ThreadLocal<Context[]> contexts = ThreadLocal.withInitial(() -> new Context[CONTEXT_SIZE]);
+
+  /**
+   * 현재 스레드의 {@link Cipher} 조회
+   *
+   * @param transformation transformation (예: "AES/CBC/PKCS5Padding")
+   * @return 현재 스레드 전용 {@link Cipher}
+   * @throws NoSuchAlgorithmException 지원하지 않는 알고리즘
+   * @throws NoSuchPaddingException 지원하지 않는 패딩
+   */
+  public static Cipher get(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+    Objects.requireNonNull(transformation);
+    Map<String, Cipher> map = ciphers.get();
+    Cipher cipher = map.get(transformation);
+    if (cipher == null) {
+      cipher = Cipher.getInstance(transformation);
+      map.put(transformation, cipher);
+    }
+    return cipher;
+  }
+
+  /**
+   * 현재 스레드의 {@link Cipher}를 초기화하여 반환
+   *
+   * @param transformation transformation
+   * @param mode {@link Cipher#ENCRYPT_MODE} 또는 {@link Cipher#DECRYPT_MODE}
+   * @param key 키
+   * @return 초기화된 현재 스레드 전용 {@link Cipher}
+   * @throws GeneralSecurityException 알고리즘, 패딩, 키 오류
+   */
+  public static Cipher init(String transformation, int mode, Key key) throws GeneralSecurityException {
+    Cipher cipher = get(transformation);
+    cipher.init(mode, key);
+    return cipher;
+  }
+
+  /**
+   * 현재 스레드의 {@link Cipher}를 초기화하여 반환
+   *
+   * @param transformation transformation
+   * @param mode {@link Cipher#ENCRYPT_MODE} 또는 {@link Cipher#DECRYPT_MODE}
+   * @param key 키
+   * @param parameter 알고리즘 파라미터 (예: {@link javax.crypto.spec.IvParameterSpec})
+   * @return 초기화된 현재 스레드 전용 {@link Cipher}
+   * @throws GeneralSecurityException 알고리즘, 패딩, 키, 파라미터 오류
+   */
+  public static Cipher init(String transformation, int mode, Key key, AlgorithmParameterSpec parameter)
+      throws GeneralSecurityException {
+    Cipher cipher = get(transformation);
+    cipher.init(mode, key, parameter);
+    return cipher;
+  }
+
+  /**
+   * 키 별로 초기화된 현재 스레드의 {@link Cipher} 반환
+   * <p>
+   * 같은 transformation, mode, key로 초기화된 {@link Cipher}가 있다면 재사용한다.
+   * 이전 사용이 doFinal 없이 끝났을 수 있으므로 iv로 항상 다시 초기화한다 (키 스케줄은 다시 계산하지 않는다).
+   * doFinal 이후 재사용할 수 없는 GCM 모드는 지원하지 않는다.
+   *
+   * @param transformation transformation (예: "AES/CBC/PKCS5Padding")
+   * @param mode {@link Cipher#ENCRYPT_MODE} 또는 {@link Cipher#DECRYPT_MODE}
+   * @param key 키 바이트 (복사하여 보관한다)
+   * @param iv iv 바이트
+   * @return 초기화된 현재 스레드 전용 {@link Cipher}
+   * @throws GeneralSecurityException 알고리즘, 패딩, 키, 파라미터 오류
+   */
+  public static Cipher init(String transformation, int mode, byte[] key, byte[] iv) throws GeneralSecurityException {
+    Objects.requireNonNull(transformation);
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(iv);
+    if (transformation.contains("/GCM/")) {
+      throw new IllegalParameterException("GCM cipher can not be reused: " + transformation);
+    }
+    Context[] cache = contexts.get();
+    for (int i = 0; i < cache.length && cache[i] != null; i++) {
+      Context context = cache[i];
+      if (context.mode == mode && Arrays.equals(context.key, key) && context.transformation.equals(transformation)) {
+        try {
+          context.cipher.init(mode, context.keySpec, new IvParameterSpec(iv));
+        } catch (GeneralSecurityException | RuntimeException e) {
+          System.arraycopy(cache, i + 1, cache, i, cache.length - i - 1);
+          cache[cache.length - 1] = null;
+          throw e;
+        }
+        // move to front
+        System.arraycopy(cache, 0, cache, 1, i);
+        cache[0] = context;
+        return context.cipher;
+      }
+    }
+    Context context = new Context(transformation, mode, key, iv);
+    System.arraycopy(cache, 0, cache, 1, cache.length - 1);
+    cache[0] = context;
+    return context.cipher;
+  }
+
+  /**
+   * 현재 스레드의 {@link Cipher}를 모두 제거한다
+   * <p>
+   * 암복호화 도중 예외가 발생하여 {@link Cipher}의 상태를 알 수 없는 경우에도 사용한다.
+   */
+  public static void clear() {
+    ciphers.remove();
+    contexts.remove();
+  }
+
+  /**
+   * 키 별로 초기화된 {@link Cipher}
+   */
+  private static final class Context {
+    private final String transformation;
+    private final int mode;
+    private final byte[] key;
+    private final SecretKeySpec keySpec;
+    private final Cipher cipher;
+
+    private Context(String transformation, int mode, byte[] key, byte[] iv) throws GeneralSecurityException {
+      int index = transformation.indexOf('/');
+      this.transformation = transformation;
+      this.mode = mode;
+      this.key = key.clone();
+      this.keySpec = new SecretKeySpec(this.key, index == -1 ? transformation : transformation.substring(0, index));
+      this.cipher = Cipher.getInstance(transformation);
+      this.cipher.init(mode, keySpec, new IvParameterSpec(iv));
+    }
+  }
+}
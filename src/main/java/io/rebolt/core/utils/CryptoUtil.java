@@ -0,0 +1,432 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 채널 기반 스트리밍 AES 암복호화
+ * <p>
+ * 고정 크기의 (direct) {@link ByteBuffer}만 사용하므로 입력 크기와 관계없이 메모리 사용량이 일정하다.
+ * 버퍼를 넘겨받는 메소드는 호출자가 버퍼를 재사용할 수 있다. {@link Cipher}는 {@link CipherProvider}에서 얻는다.
+ * <ul>
+ * <li>CTR: AES/CTR/NoPadding, 길이가 보존되며 무결성 검증은 없다</li>
+ * <li>GCM: 세그먼트 단위 AES/GCM, 변조, 순서 변경, 잘림을 검출한다</li>
+ * </ul>
+ * <p>
+ * JCE의 GCM 복호화는 태그를 검증하기 전까지 전체 평문을 메모리에 보관하므로, GCM 스트림은 입력을
+ * {@link #GCM_SEGMENT_SIZE} 단위의 세그먼트로 나누어 각각 암호화한다.
+ * 스트림마다 임의의 salt로 세그먼트 키를 유도(HKDF-SHA256)하고, nonce는 임의의 prefix(7) + 세그먼트 번호(4) + 마지막 여부(1)이다.
+ * <pre>
+ * header  : version(1) | salt(16) | nonce prefix(7)
+ * segment : ciphertext | tag(16)   (마지막 세그먼트 외에는 모두 {@link #GCM_SEGMENT_SIZE} 바이트)
+ * </pre>
+ *
+ * @since 0.2.28
+ */
+public final class CryptoUtil {
+  /**
+   * GCM 스트림의 암호문 세그먼트 크기 (태그 포함)
+   */
+  public static final int GCM_SEGMENT_SIZE = 64 * 1024;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int IV_SIZE = 16;
+  private static final int TAG_SIZE = 16;
+  private static final int PLAIN_SEGMENT_SIZE = GCM_SEGMENT_SIZE - TAG_SIZE;
+  private static final byte VERSION = 1;
+  private static final int SALT_SIZE = 16;
+  private static final int PREFIX_SIZE = 7;
+  private static final int HEADER_SIZE = 1 + SALT_SIZE + PREFIX_SIZE;
+  private static final byte[] HKDF_INFO = "rebolt-aes-gcm-stream".getBytes(CHARSET_UTF8);
+  private static final String TRANSFORMATION_CTR = "AES/CTR/NoPadding";
+  private static final String TRANSFORMATION_GCM = "AES/GCM/NoPadding";
+  private static final SecureRandom random = new SecureRandom();
+
+  // region ctr
+
+  /**
+   * AES/CTR 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트), 같은 키에 같은 iv를 재사용하지 않는다
+   * @param in 평문 채널
+   * @param out 암호문 채널
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptCtr(byte[] key, byte[] iv, ReadableByteChannel in, WritableByteChannel out)
+      throws IOException, GeneralSecurityException {
+    return encryptCtr(key, iv, in, out, ByteBuffer.allocateDirect(BUFFER_SIZE), ByteBuffer.allocateDirect(BUFFER_SIZE));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하는 AES/CTR 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트), 같은 키에 같은 iv를 재사용하지 않는다
+   * @param in 평문 채널
+   * @param out 암호문 채널
+   * @param inBuffer 입력 버퍼
+   * @param outBuffer 출력 버퍼 (inBuffer 이상의 크기)
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptCtr(byte[] key, byte[] iv, ReadableByteChannel in, WritableByteChannel out,
+                                ByteBuffer inBuffer, ByteBuffer outBuffer) throws IOException, GeneralSecurityException {
+    return ctr(Cipher.ENCRYPT_MODE, key, iv, in, out, inBuffer, outBuffer);
+  }
+
+  /**
+   * AES/CTR 복호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트)
+   * @param in 암호문 채널
+   * @param out 평문 채널
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 복호화 오류
+   */
+  public static long decryptCtr(byte[] key, byte[] iv, ReadableByteChannel in, WritableByteChannel out)
+      throws IOException, GeneralSecurityException {
+    return decryptCtr(key, iv, in, out, ByteBuffer.allocateDirect(BUFFER_SIZE), ByteBuffer.allocateDirect(BUFFER_SIZE));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하는 AES/CTR 복호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트)
+   * @param in 암호문 채널
+   * @param out 평문 채널
+   * @param inBuffer 입력 버퍼
+   * @param outBuffer 출력 버퍼 (inBuffer 이상의 크기)
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 복호화 오류
+   */
+  public static long decryptCtr(byte[] key, byte[] iv, ReadableByteChannel in, WritableByteChannel out,
+                                ByteBuffer inBuffer, ByteBuffer outBuffer) throws IOException, GeneralSecurityException {
+    return ctr(Cipher.DECRYPT_MODE, key, iv, in, out, inBuffer, outBuffer);
+  }
+
+  /**
+   * 파일 AES/CTR 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트)
+   * @param source 평문 파일
+   * @param target 암호문 파일 (덮어쓴다)
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptCtr(byte[] key, byte[] iv, Path source, Path target) throws IOException, GeneralSecurityException {
+    try (FileChannel in = FileChannel.open(source, READ);
+         FileChannel out = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return encryptCtr(key, iv, in, out);
+    }
+  }
+
+  /**
+   * 파일 AES/CTR 복호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param iv 초기 카운터 (16 바이트)
+   * @param source 암호문 파일
+   * @param target 평문 파일 (덮어쓴다)
+   * @return 처리한 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 복호화 오류
+   */
+  public static long decryptCtr(byte[] key, byte[] iv, Path source, Path target) throws IOException, GeneralSecurityException {
+    try (FileChannel in = FileChannel.open(source, READ);
+         FileChannel out = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return decryptCtr(key, iv, in, out);
+    }
+  }
+
+  private static long ctr(int mode, byte[] key, byte[] iv, ReadableByteChannel in, WritableByteChannel out,
+                          ByteBuffer inBuffer, ByteBuffer outBuffer) throws IOException, GeneralSecurityException {
+    Objects.requireNonNull(in);
+    Objects.requireNonNull(out);
+    checkKey(key);
+    if (iv == null || iv.length != IV_SIZE) {
+      throw new IllegalParameterException("iv must be " + IV_SIZE + " bytes");
+    }
+    Objects.requireNonNull(inBuffer);
+    Objects.requireNonNull(outBuffer);
+    if (inBuffer.capacity() == 0 || outBuffer.capacity() < inBuffer.capacity()) {
+      throw new IllegalParameterException("0 < inBuffer.capacity <= outBuffer.capacity");
+    }
+    Cipher cipher = CipherProvider.init(TRANSFORMATION_CTR, mode, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+    long total = 0;
+    inBuffer.clear();
+    while (in.read(inBuffer) != -1) {
+      inBuffer.flip();
+      total += inBuffer.remaining();
+      outBuffer.clear();
+      cipher.update(inBuffer, outBuffer);
+      write(out, outBuffer);
+      inBuffer.clear();
+    }
+    inBuffer.flip();
+    outBuffer.clear();
+    cipher.doFinal(inBuffer, outBuffer);
+    write(out, outBuffer);
+    return total;
+  }
+
+  // endregion
+
+  // region gcm
+
+  /**
+   * 세그먼트 AES/GCM 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param in 평문 채널
+   * @param out 암호문 채널
+   * @return 암호화한 평문 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptGcm(byte[] key, ReadableByteChannel in, WritableByteChannel out)
+      throws IOException, GeneralSecurityException {
+    return encryptGcm(key, in, out, ByteBuffer.allocateDirect(GCM_SEGMENT_SIZE + 1), ByteBuffer.allocateDirect(GCM_SEGMENT_SIZE));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하는 세그먼트 AES/GCM 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param in 평문 채널
+   * @param out 암호문 채널
+   * @param inBuffer 입력 버퍼 ({@link #GCM_SEGMENT_SIZE} + 1 이상)
+   * @param outBuffer 출력 버퍼 ({@link #GCM_SEGMENT_SIZE} 이상)
+   * @return 암호화한 평문 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptGcm(byte[] key, ReadableByteChannel in, WritableByteChannel out,
+                                ByteBuffer inBuffer, ByteBuffer outBuffer) throws IOException, GeneralSecurityException {
+    Objects.requireNonNull(in);
+    Objects.requireNonNull(out);
+    checkKey(key);
+    checkSegmentBuffers(inBuffer, outBuffer);
+    byte[] header = new byte[HEADER_SIZE];
+    random.nextBytes(header);
+    header[0] = VERSION;
+    outBuffer.clear();
+    outBuffer.put(header);
+    write(out, outBuffer);
+    return gcm(Cipher.ENCRYPT_MODE, key, header, in, out, inBuffer, outBuffer, PLAIN_SEGMENT_SIZE);
+  }
+
+  /**
+   * 세그먼트 AES/GCM 복호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param in 암호문 채널
+   * @param out 평문 채널
+   * @return 복호화한 평문 바이트 수
+   * @throws IOException 입출력 오류, 잘못된 헤더
+   * @throws GeneralSecurityException 복호화 오류, 변조되거나 잘린 경우 {@link javax.crypto.AEADBadTagException}
+   */
+  public static long decryptGcm(byte[] key, ReadableByteChannel in, WritableByteChannel out)
+      throws IOException, GeneralSecurityException {
+    return decryptGcm(key, in, out, ByteBuffer.allocateDirect(GCM_SEGMENT_SIZE + 1), ByteBuffer.allocateDirect(GCM_SEGMENT_SIZE));
+  }
+
+  /**
+   * 호출자의 버퍼를 사용하는 세그먼트 AES/GCM 복호화
+   * <p>
+   * 각 세그먼트는 태그 검증 후에 out에 쓰인다. 중간 세그먼트에서 오류가 나면 그 앞의 세그먼트는 이미 쓰여 있으므로
+   * 예외가 발생한 경우 out의 내용을 폐기해야 한다.
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param in 암호문 채널
+   * @param out 평문 채널
+   * @param inBuffer 입력 버퍼 ({@link #GCM_SEGMENT_SIZE} + 1 이상)
+   * @param outBuffer 출력 버퍼 ({@link #GCM_SEGMENT_SIZE} 이상)
+   * @return 복호화한 평문 바이트 수
+   * @throws IOException 입출력 오류, 잘못된 헤더
+   * @throws GeneralSecurityException 복호화 오류, 변조되거나 잘린 경우 {@link javax.crypto.AEADBadTagException}
+   */
+  public static long decryptGcm(byte[] key, ReadableByteChannel in, WritableByteChannel out,
+                                ByteBuffer inBuffer, ByteBuffer outBuffer) throws IOException, GeneralSecurityException {
+    Objects.requireNonNull(in);
+    Objects.requireNonNull(out);
+    checkKey(key);
+    checkSegmentBuffers(inBuffer, outBuffer);
+    inBuffer.clear().limit(HEADER_SIZE);
+    if (fill(in, inBuffer) || inBuffer.get(0) != VERSION) {
+      throw new IOException("invalid gcm stream header");
+    }
+    byte[] header = new byte[HEADER_SIZE];
+    inBuffer.flip();
+    inBuffer.get(header);
+    return gcm(Cipher.DECRYPT_MODE, key, header, in, out, inBuffer, outBuffer, GCM_SEGMENT_SIZE);
+  }
+
+  /**
+   * 파일 세그먼트 AES/GCM 암호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param source 평문 파일
+   * @param target 암호문 파일 (덮어쓴다)
+   * @return 암호화한 평문 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static long encryptGcm(byte[] key, Path source, Path target) throws IOException, GeneralSecurityException {
+    try (FileChannel in = FileChannel.open(source, READ);
+         FileChannel out = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return encryptGcm(key, in, out);
+    }
+  }
+
+  /**
+   * 파일 세그먼트 AES/GCM 복호화
+   *
+   * @param key AES 키 (16, 24, 32 바이트)
+   * @param source 암호문 파일
+   * @param target 평문 파일 (덮어쓴다, 예외가 발생한 경우 폐기해야 한다)
+   * @return 복호화한 평문 바이트 수
+   * @throws IOException 입출력 오류, 잘못된 헤더
+   * @throws GeneralSecurityException 복호화 오류, 변조되거나 잘린 경우 {@link javax.crypto.AEADBadTagException}
+   */
+  public static long decryptGcm(byte[] key, Path source, Path target) throws IOException, GeneralSecurityException {
+    try (FileChannel in = FileChannel.open(source, READ);
+         FileChannel out = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return decryptGcm(key, in, out);
+    }
+  }
+
+  /**
+   * 세그먼트 단위 처리
+   * <p>
+   * 세그먼트 크기보다 1바이트 더 읽어, 버퍼가 가득 차지 않으면 마지막 세그먼트로 판단한다.
+   */
+  private static long gcm(int mode, byte[] key, byte[] header, ReadableByteChannel in, WritableByteChannel out,
+                          ByteBuffer inBuffer, ByteBuffer outBuffer, int segmentSize)
+      throws IOException, GeneralSecurityException {
+    SecretKeySpec segmentKey = new SecretKeySpec(hkdf(key, Arrays.copyOfRange(header, 1, 1 + SALT_SIZE)), "AES");
+    byte[] nonce = new byte[12];
+    System.arraycopy(header, 1 + SALT_SIZE, nonce, 0, PREFIX_SIZE);
+    long total = 0;
+    inBuffer.clear().limit(segmentSize + 1);
+    for (long index = 0; ; index++) {
+      if (index > 0xffffffffL) {
+        throw new IOException("too many segments");
+      }
+      boolean last = fill(in, inBuffer);
+      inBuffer.flip();
+      int limit = inBuffer.limit();
+      inBuffer.limit(Math.min(limit, segmentSize));
+      nonce[7] = (byte) (index >>> 24);
+      nonce[8] = (byte) (index >>> 16);
+      nonce[9] = (byte) (index >>> 8);
+      nonce[10] = (byte) index;
+      nonce[11] = (byte) (last ? 1 : 0);
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_GCM, mode, segmentKey, new GCMParameterSpec(TAG_SIZE * 8, nonce));
+      outBuffer.clear();
+      cipher.doFinal(inBuffer, outBuffer);
+      total += mode == Cipher.ENCRYPT_MODE ? inBuffer.position() : outBuffer.position();
+      write(out, outBuffer);
+      if (last) {
+        return total;
+      }
+      // 더 읽은 1바이트를 앞으로
+      inBuffer.limit(limit);
+      inBuffer.compact();
+      inBuffer.limit(segmentSize + 1);
+    }
+  }
+
+  private static byte[] hkdf(byte[] key, byte[] salt) throws GeneralSecurityException {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(salt, "HmacSHA256"));
+    byte[] pseudoRandomKey = mac.doFinal(key);
+    mac.init(new SecretKeySpec(pseudoRandomKey, "HmacSHA256"));
+    mac.update(HKDF_INFO);
+    mac.update((byte) 1);
+    return Arrays.copyOf(mac.doFinal(), key.length);
+  }
+
+  private static void checkSegmentBuffers(ByteBuffer inBuffer, ByteBuffer outBuffer) {
+    Objects.requireNonNull(inBuffer);
+    Objects.requireNonNull(outBuffer);
+    if (inBuffer.capacity() < GCM_SEGMENT_SIZE + 1 || outBuffer.capacity() < GCM_SEGMENT_SIZE) {
+      throw new IllegalParameterException("inBuffer.capacity > " + GCM_SEGMENT_SIZE + ", outBuffer.capacity >= " + GCM_SEGMENT_SIZE);
+    }
+  }
+
+  // endregion
+
+  private static void checkKey(byte[] key) {
+    if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+      throw new IllegalParameterException("aes key must be 16, 24 or 32 bytes");
+    }
+  }
+
+  /**
+   * 버퍼가 가득 차거나 입력이 끝날 때까지 읽는다
+   *
+   * @return 입력 종료 여부
+   */
+  private static boolean fill(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (in.read(buffer) == -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void write(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RSA + AES 하이브리드(envelope) 암호화
+ * <p>
+ * 임의의 AES 데이터 키로 본문을 AES/GCM 암호화하고, 데이터 키는 RSA-OAEP로 감싸(wrap) 메시지에 함께 담는다.
+ * 본문 크기에 제한이 없고, 하나의 {@link DataKey}로 여러 메시지를 암호화하면 RSA 연산은 키를 만들 때 한번뿐이다.
+ * 복호화시 풀어낸(unwrap) 데이터 키는 {@link BoundedCache}에 보관하므로, 같은 데이터 키의 메시지는 RSA 연산 없이 복호화된다.
+ * <pre>
+ * message : version(1) | wrapped key length(2) | wrapped key | nonce(12) | ciphertext | tag(16)
+ * </pre>
+ * version과 wrapped key는 GCM의 AAD로 인증된다.
+ *
+ * @since 0.2.28
+ */
+public final class Envelope {
+  private static final byte VERSION = 1;
+  private static final int NONCE_SIZE = 12;
+  private static final int TAG_SIZE = 16;
+  private static final int DATA_KEY_SIZE = 128;
+  private static final int CACHE_SIZE = 1024;
+  private static final String TRANSFORMATION_WRAP = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+  private static final String TRANSFORMATION_DATA = "AES/GCM/NoPadding";
+  private static final SecureRandom random = new SecureRandom();
+  private static final BoundedCache<CacheKey, SecretKey> cache = new BoundedCache<>(CACHE_SIZE);
+  private static final LongAdder unwraps = new LongAdder();
+
+  /**
+   * 새로운 데이터 키 생성 (RSA 연산 1회)
+   *
+   * @param publicKey 데이터 키를 감쌀 RSA 공개키
+   * @return {@link DataKey}
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static DataKey newDataKey(PublicKey publicKey) throws GeneralSecurityException {
+    Objects.requireNonNull(publicKey);
+    KeyGenerator generator = KeyGenerator.getInstance("AES");
+    generator.init(DATA_KEY_SIZE, random);
+    SecretKey key = generator.generateKey();
+    byte[] wrapped = CipherProvider.init(TRANSFORMATION_WRAP, Cipher.WRAP_MODE, publicKey).wrap(key);
+    return new DataKey(key, wrapped);
+  }
+
+  /**
+   * 새로운 데이터 키로 메시지 하나를 암호화
+   *
+   * @param publicKey RSA 공개키
+   * @param plainText 평문
+   * @return envelope 메시지
+   * @throws GeneralSecurityException 암호화 오류
+   */
+  public static byte[] seal(PublicKey publicKey, byte[] plainText) throws GeneralSecurityException {
+    return newDataKey(publicKey).seal(plainText);
+  }
+
+  /**
+   * envelope 메시지 복호화
+   * <p>
+   * 데이터 키가 캐시에 있다면 RSA 연산을 하지 않는다.
+   *
+   * @param privateKey RSA 개인키
+   * @param message envelope 메시지
+   * @return 평문
+   * @throws GeneralSecurityException 복호화 오류, 변조된 경우 {@link AEADBadTagException}
+   */
+  public static byte[] open(PrivateKey privateKey, byte[] message) throws GeneralSecurityException {
+    Objects.requireNonNull(privateKey);
+    Objects.requireNonNull(message);
+    if (message.length < 3 || message[0] != VERSION) {
+      throw new AEADBadTagException("invalid envelope header");
+    }
+    int wrappedLength = (message[1] & 0xff) << 8 | message[2] & 0xff;
+    int header = 3 + wrappedLength;
+    if (message.length < header + NONCE_SIZE + TAG_SIZE) {
+      throw new AEADBadTagException("invalid envelope length");
+    }
+    byte[] wrapped = Arrays.copyOfRange(message, 3, header);
+    CacheKey cacheKey = new CacheKey(privateKey, wrapped);
+    SecretKey key = cache.get(cacheKey);
+    if (key == null) {
+      key = (SecretKey) CipherProvider.init(TRANSFORMATION_WRAP, Cipher.UNWRAP_MODE, privateKey)
+          .unwrap(wrapped, "AES", Cipher.SECRET_KEY);
+      unwraps.increment();
+      key = cache.put(cacheKey, key);
+    }
+    Cipher cipher = CipherProvider.init(TRANSFORMATION_DATA, Cipher.DECRYPT_MODE, key,
+        new GCMParameterSpec(TAG_SIZE * 8, message, header, NONCE_SIZE));
+    cipher.updateAAD(message, 0, header);
+    return cipher.doFinal(message, header + NONCE_SIZE, message.length - header - NONCE_SIZE);
+  }
+
+  /**
+   * 복호화에 사용한 RSA unwrap 횟수 (데이터 키 캐시 miss)
+   *
+   * @return unwrap 횟수
+   */
+  public static long unwrapCount() {
+    return unwraps.sum();
+  }
+
+  /**
+   * 데이터 키 캐시 비우기
+   */
+  public static void clearCache() {
+    cache.clear();
+  }
+
+  /**
+   * RSA 공개키로 감싼 AES 데이터 키
+   * <p>
+   * 스레드에 안전하며, 메시지마다 임의의 nonce를 사용하므로 하나의 데이터 키로 2^32개 이하의 메시지를 암호화한다.
+   */
+  public static final class DataKey {
+    private final SecretKey key;
+    private final byte[] header;
+
+    private DataKey(SecretKey key, byte[] wrapped) {
+      this.key = key;
+      this.header = new byte[3 + wrapped.length];
+      header[0] = VERSION;
+      header[1] = (byte) (wrapped.length >>> 8);
+      header[2] = (byte) wrapped.length;
+      System.arraycopy(wrapped, 0, header, 3, wrapped.length);
+    }
+
+    /**
+     * 메시지 암호화 (RSA 연산 없음)
+     *
+     * @param plainText 평문
+     * @return envelope 메시지
+     * @throws GeneralSecurityException 암호화 오류
+     */
+    public byte[] seal(byte[] plainText) throws GeneralSecurityException {
+      Objects.requireNonNull(plainText);
+      byte[] nonce = new byte[NONCE_SIZE];
+      random.nextBytes(nonce);
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_DATA, Cipher.ENCRYPT_MODE, key,
+          new GCMParameterSpec(TAG_SIZE * 8, nonce));
+      cipher.updateAAD(header);
+      ByteBuffer message = ByteBuffer.allocate(header.length + NONCE_SIZE + cipher.getOutputSize(plainText.length));
+      message.put(header).put(nonce);
+      cipher.doFinal(ByteBuffer.wrap(plainText), message);
+      return message.array();
+    }
+  }
+
+  /**
+   * 개인키(identity)와 wrapped key로 구분되는 캐시 키
+   */
+  private static final class CacheKey {
+    private final PrivateKey privateKey;
+    private final byte[] wrapped;
+    private final int hash;
+
+    private CacheKey(PrivateKey privateKey, byte[] wrapped) {
+      this.privateKey = privateKey;
+      this.wrapped = wrapped;
+      this.hash = 31 * System.identityHashCode(privateKey) + Arrays.hashCode(wrapped);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) object;
+      return privateKey == other.privateKey && Arrays.equals(wrapped, other.wrapped);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * 16진수(hex) 인코딩/디코딩
+ * <p>
+ * 바이트 하나를 두 글자로 바꾸는 조회 테이블을 사용하며, 호출자가 넘긴 char[], byte[], {@link ByteBuffer}에 직접 쓴다.
+ * 인코딩은 소문자, 디코딩은 대소문자를 모두 허용한다.
+ * 디코딩시 잘못된 문자는 분기 없이 누적하여 검사하고 끝에서 한번에 {@link IllegalParameterException}을 던진다.
+ *
+ * @since 0.2.28
+ */
+public final class HexUtil {
+  private static final int BUFFER_SIZE = 8192;
+  private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+  // 바이트 -> 두 글자 (char, ASCII byte 2개를 합친 short)
+  private static final char[] ENCODE_CHARS = new char[512];
+  private static final short[] ENCODE_SHORTS = new short[256];
+  // 글자 -> 상위/하위 nibble, 잘못된 글자는 -1
+  private static final int[] DECODE_HIGH = new int[128];
+  private static final int[] DECODE_LOW = new int[128];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      char high = DIGITS[i >>> 4];
+      char low = DIGITS[i & 0x0f];
+      ENCODE_CHARS[i << 1] = high;
+      ENCODE_CHARS[(i << 1) + 1] = low;
+      ENCODE_SHORTS[i] = (short) (high << 8 | low);
+    }
+    for (int i = 0; i < 128; i++) {
+      int value = Character.digit(i, 16);
+      DECODE_HIGH[i] = value == -1 ? -1 : value << 4;
+      DECODE_LOW[i] = value;
+    }
+  }
+
+  // region encode
+
+  /**
+   * 바이트 배열을 hex 문자열로 변환
+   *
+   * @param bytes 바이트 배열
+   * @return hex 문자열 (소문자)
+   */
+  public static String encode(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    char[] chars = new char[bytes.length << 1];
+    encode(bytes, 0, bytes.length, chars, 0);
+    return new String(chars);
+  }
+
+  /**
+   * 바이트 배열의 일부를 hex 문자로 변환하여 target에 쓴다
+   *
+   * @param bytes 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열 (length * 2 이상의 공간 필요)
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 문자 수
+   */
+  public static int encode(byte[] bytes, int offset, int length, char[] target, int targetOffset) {
+    checkRange(bytes.length, offset, length);
+    checkRange(target.length, targetOffset, length << 1);
+    int index = targetOffset;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      int position = (bytes[i] & 0xff) << 1;
+      target[index++] = ENCODE_CHARS[position];
+      target[index++] = ENCODE_CHARS[position + 1];
+    }
+    return length << 1;
+  }
+
+  /**
+   * 바이트 배열의 일부를 hex ASCII 바이트로 변환하여 target에 쓴다
+   *
+   * @param bytes 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열 (length * 2 이상의 공간 필요)
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   */
+  public static int encode(byte[] bytes, int offset, int length, byte[] target, int targetOffset) {
+    checkRange(bytes.length, offset, length);
+    checkRange(target.length, targetOffset, length << 1);
+    int index = targetOffset;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      int position = (bytes[i] & 0xff) << 1;
+      target[index++] = (byte) ENCODE_CHARS[position];
+      target[index++] = (byte) ENCODE_CHARS[position + 1];
+    }
+    return length << 1;
+  }
+
+  /**
+   * source의 남은 바이트를 hex ASCII 바이트로 변환하여 target에 쓴다
+   * <p>
+   * 4바이트씩 읽어 8바이트(long) 단위로 쓴다. target의 공간이 부족하면 들어가는 만큼만 변환한다.
+   * 버퍼의 byte order와 관계없이 결과는 같다.
+   * 두 버퍼의 position은 처리한 만큼 증가한다.
+   *
+   * @param source 원본 버퍼
+   * @param target 결과를 쓸 버퍼
+   * @return 쓴 바이트 수
+   */
+  public static int encode(ByteBuffer source, ByteBuffer target) {
+    Objects.requireNonNull(source);
+    Objects.requireNonNull(target);
+    final int count = Math.min(source.remaining(), target.remaining() >>> 1);
+    final int words = count >>> 2;
+    for (int i = 0; i < words; i++) {
+      int value = BinaryUtil.getInt(source, ByteOrder.BIG_ENDIAN);
+      BinaryUtil.putLong(target, (long) (ENCODE_SHORTS[value >>> 24] & 0xffff) << 48
+          | (long) (ENCODE_SHORTS[(value >>> 16) & 0xff] & 0xffff) << 32
+          | (long) (ENCODE_SHORTS[(value >>> 8) & 0xff] & 0xffff) << 16
+          | ENCODE_SHORTS[value & 0xff] & 0xffff, ByteOrder.BIG_ENDIAN);
+    }
+    for (int i = words << 2; i < count; i++) {
+      int position = (source.get() & 0xff) << 1;
+      target.put((byte) ENCODE_CHARS[position]).put((byte) ENCODE_CHARS[position + 1]);
+    }
+    return count << 1;
+  }
+
+  /**
+   * 스트림을 hex 문자로 변환하여 writer에 쓴다
+   * <p>
+   * 고정 크기의 버퍼만 사용하므로 입력 크기와 관계없이 메모리 사용량이 일정하다. 스트림은 닫지 않는다.
+   *
+   * @param input 입력 스트림
+   * @param writer 결과를 쓸 {@link Writer}
+   * @return 읽은 바이트 수
+   * @throws IOException 입출력 오류
+   */
+  public static long encode(InputStream input, Writer writer) throws IOException {
+    Objects.requireNonNull(input);
+    Objects.requireNonNull(writer);
+    byte[] bytes = new byte[BUFFER_SIZE];
+    char[] chars = new char[BUFFER_SIZE << 1];
+    long total = 0;
+    int read;
+    while ((read = input.read(bytes)) != -1) {
+      writer.write(chars, 0, encode(bytes, 0, read, chars, 0));
+      total += read;
+    }
+    return total;
+  }
+
+  // endregion
+
+  // region decode
+
+  /**
+   * hex 문자열을 바이트 배열로 변환
+   *
+   * @param hex hex 문자열 (대소문자 무관)
+   * @return 바이트 배열
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static byte[] decode(CharSequence hex) {
+    Objects.requireNonNull(hex);
+    byte[] bytes = new byte[decodedLength(hex.length())];
+    decode(hex, 0, hex.length(), bytes, 0);
+    return bytes;
+  }
+
+  /**
+   * hex 문자열의 일부를 바이트로 변환하여 target에 쓴다
+   *
+   * @param hex hex 문자열
+   * @param start 시작 위치 (inclusive)
+   * @param end 끝 위치 (exclusive)
+   * @param target 결과를 쓸 배열
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static int decode(CharSequence hex, int start, int end, byte[] target, int targetOffset) {
+    final int length = decodedLength(end - start);
+    checkRange(hex.length(), start, end - start);
+    checkRange(target.length, targetOffset, length);
+    int error = 0;
+    for (int i = start, index = targetOffset; i < end; i += 2) {
+      int value = high(hex.charAt(i)) | low(hex.charAt(i + 1));
+      error |= value;
+      target[index++] = (byte) value;
+    }
+    checkError(error);
+    return length;
+  }
+
+  /**
+   * hex 문자 배열의 일부를 바이트로 변환하여 target에 쓴다
+   *
+   * @param hex hex 문자 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static int decode(char[] hex, int offset, int length, byte[] target, int targetOffset) {
+    final int decoded = decodedLength(length);
+    checkRange(hex.length, offset, length);
+    checkRange(target.length, targetOffset, decoded);
+    int error = 0;
+    for (int i = offset, end = offset + length, index = targetOffset; i < end; i += 2) {
+      int value = high(hex[i]) | low(hex[i + 1]);
+      error |= value;
+      target[index++] = (byte) value;
+    }
+    checkError(error);
+    return decoded;
+  }
+
+  /**
+   * hex ASCII 바이트 배열의 일부를 바이트로 변환하여 target에 쓴다
+   *
+   * @param hex hex ASCII 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static int decode(byte[] hex, int offset, int length, byte[] target, int targetOffset) {
+    final int decoded = decodedLength(length);
+    checkRange(hex.length, offset, length);
+    checkRange(target.length, targetOffset, decoded);
+    int error = 0;
+    for (int i = offset, end = offset + length, index = targetOffset; i < end; i += 2) {
+      int value = high(hex[i] & 0xff) | low(hex[i + 1] & 0xff);
+      error |= value;
+      target[index++] = (byte) value;
+    }
+    checkError(error);
+    return decoded;
+  }
+
+  /**
+   * source의 남은 hex ASCII 바이트를 바이트로 변환하여 target에 쓴다
+   * <p>
+   * 8바이트(long)씩 읽어 4바이트(int) 단위로 쓴다. target의 공간이 부족하면 들어가는 만큼만 변환한다.
+   * 버퍼의 byte order와 관계없이 결과는 같다.
+   * 두 버퍼의 position은 처리한 만큼 증가한다.
+   *
+   * @param source hex ASCII 바이트 버퍼 (남은 길이는 짝수)
+   * @param target 결과를 쓸 버퍼
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static int decode(ByteBuffer source, ByteBuffer target) {
+    Objects.requireNonNull(source);
+    Objects.requireNonNull(target);
+    final int count = Math.min(decodedLength(source.remaining()), target.remaining());
+    final int words = count >>> 2;
+    int error = 0;
+    for (int i = 0; i < words; i++) {
+      long word = BinaryUtil.getLong(source, ByteOrder.BIG_ENDIAN);
+      int b0 = high((int) (word >>> 56)) | low((int) (word >>> 48) & 0xff);
+      int b1 = high((int) (word >>> 40) & 0xff) | low((int) (word >>> 32) & 0xff);
+      int b2 = high((int) (word >>> 24) & 0xff) | low((int) (word >>> 16) & 0xff);
+      int b3 = high((int) (word >>> 8) & 0xff) | low((int) word & 0xff);
+      error |= b0 | b1 | b2 | b3;
+      BinaryUtil.putInt(target, b0 << 24 | (b1 & 0xff) << 16 | (b2 & 0xff) << 8 | b3 & 0xff, ByteOrder.BIG_ENDIAN);
+    }
+    for (int i = words << 2; i < count; i++) {
+      int value = high(source.get() & 0xff) | low(source.get() & 0xff);
+      error |= value;
+      target.put((byte) value);
+    }
+    checkError(error);
+    return count;
+  }
+
+  /**
+   * hex 문자 스트림을 바이트로 변환하여 output에 쓴다
+   * <p>
+   * 고정 크기의 버퍼만 사용하므로 입력 크기와 관계없이 메모리 사용량이 일정하다. 스트림은 닫지 않는다.
+   *
+   * @param reader hex 문자 {@link Reader}
+   * @param output 결과를 쓸 스트림
+   * @return 쓴 바이트 수
+   * @throws IOException 입출력 오류
+   * @throws IllegalParameterException 길이가 홀수이거나 hex 문자가 아닌 경우
+   */
+  public static long decode(Reader reader, OutputStream output) throws IOException {
+    Objects.requireNonNull(reader);
+    Objects.requireNonNull(output);
+    char[] chars = new char[BUFFER_SIZE << 1];
+    byte[] bytes = new byte[BUFFER_SIZE];
+    long total = 0;
+    int length = 0;
+    int read;
+    while ((read = reader.read(chars, length, chars.length - length)) != -1) {
+      length += read;
+      // 홀수로 끊긴 마지막 글자는 다음 읽기로 넘긴다
+      int even = length & ~1;
+      int decoded = decode(chars, 0, even, bytes, 0);
+      output.write(bytes, 0, decoded);
+      total += decoded;
+      if (even < length) {
+        chars[0] = chars[even];
+      }
+      length -= even;
+    }
+    if (length != 0) {
+      throw new IllegalParameterException("hex length must be even");
+    }
+    return total;
+  }
+
+  // endregion
+
+  private static int high(int c) {
+    // 128 이상의 글자는 -(c >>> 7)이 음수가 되어 오류로 누적된다
+    return DECODE_HIGH[c & 0x7f] | -(c >>> 7);
+  }
+
+  private static int low(int c) {
+    return DECODE_LOW[c & 0x7f] | -(c >>> 7);
+  }
+
+  private static int decodedLength(int length) {
+    if ((length & 1) != 0) {
+      throw new IllegalParameterException("hex length must be even: " + length);
+    }
+    return length >>> 1;
+  }
+
+  private static void checkError(int error) {
+    if (error < 0) {
+      throw new IllegalParameterException("invalid hex character");
+    }
+  }
+
+  private static void checkRange(int size, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > size - length) {
+      throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + size);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+/**
+ * Uri 문자열 별 정규화된 host, origin 캐시
+ * <p>
+ * Origin, Referer처럼 몇 가지 값이 반복되는 uri를 {@link UriUtil#getHost(String)}, {@link UriUtil#getOrigin(String)}과
+ * 같은 규칙으로 한번만 파싱하여 {@link BoundedCache}에 보관한다.
+ * host, origin 문자열은 {@link StringPool}로 정규화하므로 같은 host는 대부분 같은 인스턴스이며,
+ * {@link #containsHost(String, String)}는 캐시 조회 두번과 참조 비교로 끝난다.
+ * 인스턴스는 스레드에 안전하다.
+ *
+ * @since 0.2.28
+ */
+public final class HostCache {
+  /**
+   * 공유 캐시 (4096개)
+   */
+  public static final HostCache DEFAULT = new HostCache(4096);
+
+  // 파싱할 수 없거나 host가 없는 uri
+  private static final Entry INVALID = new Entry(null, null);
+
+  private final BoundedCache<String, Entry> cache;
+  private final StringPool pool;
+
+  /**
+   * @param capacity 보관할 uri 수
+   */
+  public HostCache(int capacity) {
+    this.cache = new BoundedCache<>(capacity);
+    this.pool = new StringPool(capacity, 256);
+  }
+
+  /**
+   * 정규화된 host
+   *
+   * @param uri 웹주소
+   * @return 소문자, 앞의 "www."를 제외한 host, 없다면 null
+   * @see UriUtil#getHost(String)
+   */
+  public String getHost(String uri) {
+    return StringUtil.isNullOrEmpty(uri) ? null : entry(uri).host;
+  }
+
+  /**
+   * 정규화된 origin
+   *
+   * @param uri 웹주소
+   * @return origin, scheme 또는 host가 없다면 null
+   * @see UriUtil#getOrigin(String)
+   */
+  public String getOrigin(String uri) {
+    return StringUtil.isNullOrEmpty(uri) ? null : entry(uri).origin;
+  }
+
+  /**
+   * Host (도메인) 동일 여부
+   *
+   * @param origin 원본 도메인
+   * @param diff 비교대상 도메인
+   * @return 도메인 동일 여부
+   * @see UriUtil#containsHost(String, String)
+   */
+  public boolean containsHost(String origin, String diff) {
+    String originHost = getHost(origin);
+    if (originHost == null) {
+      return false;
+    }
+    String diffHost = getHost(diff);
+    // 정규화된 문자열은 대부분 같은 인스턴스이며, 풀에서 교체된 경우에만 내용을 비교한다
+    return originHost == diffHost || originHost.equals(diffHost);
+  }
+
+  private Entry entry(String uri) {
+    Entry entry = cache.get(uri);
+    if (entry == null) {
+      UriComponents components = UriComponents.parse(uri);
+      String host = UriUtil.host(uri, components);
+      if (host == null) {
+        entry = INVALID;
+      } else {
+        String origin = UriUtil.origin(uri, components);
+        entry = new Entry(pool.intern(host), origin == null ? null : pool.intern(origin));
+      }
+      entry = cache.put(uri, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * 모두 제거
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * @return 보관된 uri 수
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return 조회 성공 횟수
+   */
+  public long hitCount() {
+    return cache.hitCount();
+  }
+
+  /**
+   * @return 조회 실패 횟수
+   */
+  public long missCount() {
+    return cache.missCount();
+  }
+
+  private static final class Entry {
+    private final String host;
+    private final String origin;
+
+    private Entry(String host, String origin) {
+      this.host = host;
+      this.origin = origin;
+    }
+  }
+}
@@ -18,10 +18,16 @@
 package io.rebolt.core.utils;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.io.IOException;
 import java.util.List;
@@ -37,6 +43,8 @@ import static io.rebolt.core.constants.Constants.STRING_JSON_INITIALIZE;
 public final class JsonUtil {
   private final static JsonFactory _jsonFactory = new MappingJsonFactory();
   private final static ObjectMapper _objectMapper = new ObjectMapper(_jsonFactory);
+  private final static ObjectMapper _pooledObjectMapper = new ObjectMapper(new MappingJsonFactory())
+      .registerModule(new SimpleModule().addDeserializer(String.class, new PooledStringDeserializer()));
 
   // region read
 
@@ -76,6 +84,29 @@ public final class JsonUtil {
     }
   }
 
+  /**
+   * Json 문자열을 사용자 객체로 전환 (문자열 정규화)
+   * <p>
+   * 문자열 값을 {@link StringPool}로 정규화하여 중복된 문자열 인스턴스를 줄인다.
+   * String 타입으로 선언된 필드, 배열, 컬렉션, 맵의 값에 적용된다. (Object 타입과 맵의 키는 제외)
+   *
+   * @param jsonString json 문자열
+   * @param type 사용자 객체
+   * @param pool {@link StringPool}
+   * @param <T> 사용자 객체 타입
+   * @return 전환된 사용자 객체
+   * @since 0.2.28
+   */
+  public static <T> T read(String jsonString, Class<T> type, StringPool pool) {
+    ObjectUtil.requireNonNull(pool);
+    try {
+      return _pooledObjectMapper.readerFor(type).withAttribute(StringPool.class, pool).readValue(jsonString);
+    } catch (IOException e) {
+      LogUtil.debug(e);
+      return null;
+    }
+  }
+
   /**
    * Json 문자열로부터 {@link JsonNode}로 전환
    *
@@ -145,6 +176,28 @@ public final class JsonUtil {
     }
   }
 
+  /**
+   * Json 배열로부터 사용자 객체 리스트로 전환 (문자열 정규화)
+   *
+   * @param jsonArray json 배열
+   * @param type 사용자 객체
+   * @param pool {@link StringPool}
+   * @param <T> 사용자 객체 타입
+   * @return 전환된 사용자 객체 리스트
+   * @since 0.2.28
+   */
+  public static <T> List<T> readList(String jsonArray, Class<T> type, StringPool pool) {
+    ObjectUtil.requireNonNull(pool);
+    try {
+      return _pooledObjectMapper.readerFor(_pooledObjectMapper.getTypeFactory().constructCollectionType(List.class, type))
+          .withAttribute(StringPool.class, pool)
+          .readValue(jsonArray);
+    } catch (IOException e) {
+      LogUtil.debug(e);
+      return null;
+    }
+  }
+
   /**
    * Json 배열로부터 문자열 리스트로 전환
    *
@@ -236,4 +289,28 @@ public final class JsonUtil {
   }
   // endregion
 
+  /**
+   * 문자열 값을 {@link StringPool}로 정규화하는 deserializer
+   * <p>
+   * 파서의 문자 버퍼에서 바로 조회하므로 풀에 있는 문자열은 새로 생성하지 않는다.
+   */
+  private static final class PooledStringDeserializer extends StdScalarDeserializer<String> {
+    private static final long serialVersionUID = 2470985340148335719L;
+
+    private PooledStringDeserializer() {
+      super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      if (parser.hasToken(JsonToken.VALUE_STRING)) {
+        StringPool pool = (StringPool) context.getAttribute(StringPool.class);
+        if (pool != null) {
+          return pool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+      }
+      return StringDeserializer.instance.deserialize(parser, context);
+    }
+  }
+
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link Map}을 "key=value;" 형식으로 쓰는 renderer
+ * <p>
+ * 결과를 {@link Appendable}에 바로 쓰며, 문자열로 만들 때는 예상 길이로 크기를 잡은 버퍼를 사용한다.
+ * 배열 값은 원소를 ','로 이어 쓰고(Object[]의 null 원소는 제외), primitive 배열은 boxing 없이 쓴다.
+ * null 키와 값은 "null"로 쓴다.
+ * {@link #sorted()}는 키의 문자열 순서로 정렬하여 쓰므로 Map 구현과 무관하게 결과가 같으며, 캐시 키나 해시에 사용할 수 있다.
+ * 인스턴스는 불변이므로 상수로 만들어 두고 여러 스레드에서 재사용한다.
+ * <p>
+ * 예)
+ * {@code
+ * MapRenderer.DEFAULT.render(map); // "a=1;b=x,y;"
+ * MapRenderer.DEFAULT.sorted().appendTo(builder, map);
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class MapRenderer {
+  /**
+   * 입력 순서 그대로 쓰는 renderer
+   */
+  public static final MapRenderer DEFAULT = new MapRenderer(false);
+
+  private static final Comparator<Map.Entry<?, ?>> KEY_ORDER = Comparator.comparing(entry -> String.valueOf(entry.getKey()));
+  private static final String NULL = "null";
+  // 길이를 알 수 없는 값의 예상 길이
+  private static final int ESTIMATED_VALUE_LENGTH = 8;
+
+  private final boolean sorted;
+
+  private MapRenderer(boolean sorted) {
+    this.sorted = sorted;
+  }
+
+  /**
+   * 키의 문자열 순서로 정렬하여 쓴다
+   *
+   * @return 새로운 {@link MapRenderer}
+   */
+  public MapRenderer sorted() {
+    return sorted ? this : new MapRenderer(true);
+  }
+
+  /**
+   * 문자열로 쓰기
+   *
+   * @param map 대상 {@link Map}
+   * @return "key=value;" 형식의 문자열, map이 null이면 empty
+   */
+  public String render(Map<?, ?> map) {
+    if (map == null || map.isEmpty()) {
+      return "";
+    }
+    return appendTo(new StringBuilder(estimateLength(map)), map).toString();
+  }
+
+  /**
+   * builder에 쓰기
+   *
+   * @param builder 결과를 쓸 {@link StringBuilder}
+   * @param map 대상 {@link Map}, null이면 쓰지 않는다
+   * @return builder
+   */
+  public StringBuilder appendTo(StringBuilder builder, Map<?, ?> map) {
+    try {
+      write(builder, map);
+      return builder;
+    } catch (IOException e) {
+      // StringBuilder는 IOException을 던지지 않는다
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * target에 쓰기
+   *
+   * @param target 결과를 쓸 {@link Appendable}
+   * @param map 대상 {@link Map}, null이면 쓰지 않는다
+   * @param <A> {@link Appendable} 타입
+   * @return target
+   * @throws IOException target 쓰기 오류
+   */
+  public <A extends Appendable> A appendTo(A target, Map<?, ?> map) throws IOException {
+    write(target, map);
+    return target;
+  }
+
+  private void write(Appendable target, Map<?, ?> map) throws IOException {
+    Objects.requireNonNull(target);
+    if (map == null || map.isEmpty()) {
+      return;
+    }
+    final char[] scratch = target instanceof StringBuilder ? null : new char[20];
+    if (sorted) {
+      List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
+      entries.sort(KEY_ORDER);
+      for (Map.Entry<?, ?> entry : entries) {
+        appendEntry(target, entry.getKey(), entry.getValue(), scratch);
+      }
+    } else {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        appendEntry(target, entry.getKey(), entry.getValue(), scratch);
+      }
+    }
+  }
+
+  private static void appendEntry(Appendable target, Object key, Object value, char[] scratch) throws IOException {
+    appendValue(target, key, scratch);
+    target.append('=');
+    appendValue(target, value, scratch);
+    target.append(';');
+  }
+
+  private static void appendValue(Appendable target, Object value, char[] scratch) throws IOException {
+    if (value == null) {
+      target.append(NULL);
+    } else if (value instanceof CharSequence) {
+      target.append((CharSequence) value);
+    } else if (value.getClass().isArray()) {
+      appendArray(target, value, scratch);
+    } else {
+      target.append(value.toString());
+    }
+  }
+
+  private static void appendArray(Appendable target, Object array, char[] scratch) throws IOException {
+    if (array instanceof Object[]) {
+      boolean first = true;
+      for (Object element : (Object[]) array) {
+        if (element != null) {
+          if (!first) {
+            target.append(',');
+          }
+          target.append(element.toString());
+          first = false;
+        }
+      }
+    } else if (array instanceof int[]) {
+      int[] values = (int[]) array;
+      for (int i = 0; i < values.length; i++) {
+        appendLong(target, i, values[i], scratch);
+      }
+    } else if (array instanceof long[]) {
+      long[] values = (long[]) array;
+      for (int i = 0; i < values.length; i++) {
+        appendLong(target, i, values[i], scratch);
+      }
+    } else if (array instanceof byte[]) {
+      byte[] values = (byte[]) array;
+      for (int i = 0; i < values.length; i++) {
+        appendLong(target, i, values[i], scratch);
+      }
+    } else if (array instanceof short[]) {
+      short[] values = (short[]) array;
+      for (int i = 0; i < values.length; i++) {
+        appendLong(target, i, values[i], scratch);
+      }
+    } else if (array instanceof char[]) {
+      char[] values = (char[]) array;
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          target.append(',');
+        }
+        target.append(values[i]);
+      }
+    } else if (array instanceof boolean[]) {
+      boolean[] values = (boolean[]) array;
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          target.append(',');
+        }
+        target.append(values[i] ? "true" : "false");
+      }
+    } else if (array instanceof float[]) {
+      float[] values = (float[]) array;
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          target.append(',');
+        }
+        if (target instanceof StringBuilder) {
+          ((StringBuilder) target).append(values[i]);
+        } else {
+          target.append(Float.toString(values[i]));
+        }
+      }
+    } else {
+      double[] values = (double[]) array;
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          target.append(',');
+        }
+        if (target instanceof StringBuilder) {
+          ((StringBuilder) target).append(values[i]);
+        } else {
+          target.append(Double.toString(values[i]));
+        }
+      }
+    }
+  }
+
+  private static void appendLong(Appendable target, int index, long value, char[] scratch) throws IOException {
+    if (index > 0) {
+      target.append(',');
+    }
+    if (scratch == null) {
+      ((StringBuilder) target).append(value);
+      return;
+    }
+    int end = NumberUtil.format(value, scratch, 0);
+    for (int i = 0; i < end; i++) {
+      target.append(scratch[i]);
+    }
+  }
+
+  private static int estimateLength(Map<?, ?> map) {
+    long length = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      // '=', ';'
+      length += estimateLength(entry.getKey()) + estimateLength(entry.getValue()) + 2;
+    }
+    return (int) Math.min(length, Integer.MAX_VALUE - 8);
+  }
+
+  private static int estimateLength(Object value) {
+    if (value instanceof CharSequence) {
+      return ((CharSequence) value).length();
+    }
+    if (value != null && value.getClass().isArray()) {
+      // 원소 하나에 숫자 몇 글자와 ','
+      return Array.getLength(value) * 4;
+    }
+    return ESTIMATED_VALUE_LENGTH;
+  }
+}
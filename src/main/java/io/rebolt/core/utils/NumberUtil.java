@@ -0,0 +1,598 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * 문자열 구간, UTF-8 바이트 구간의 숫자 파싱과 char[], byte[]로의 숫자 쓰기
+ * <p>
+ * substring, boxing 없이 primitive를 반환한다. 정수는 음수로 누적하여 {@code MIN_VALUE}까지 overflow를 검사한다.
+ * 기본값을 받는 메소드는 형식이 잘못되었거나 범위를 넘으면 예외 없이 기본값을 반환한다.
+ * 실수는 유효숫자를 정수로 모은 값이 2^53 미만이고 10진 지수가 ±22 이내인 표기를 직접 계산하고(정확히 반올림됨),
+ * 그 밖의 입력("1e300", "NaN", 16진수 등)은 {@link Double#parseDouble(String)}으로 넘긴다.
+ * <p>
+ * 예)
+ * {@code
+ * int id = NumberUtil.parseInt(line, cursor.start(), cursor.end());
+ * int end = NumberUtil.format(id, buffer, offset);
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class NumberUtil {
+  // 0 ~ 99의 십의 자리, 일의 자리
+  private static final byte[] DIGIT_TENS = new byte[100];
+  private static final byte[] DIGIT_ONES = new byte[100];
+  // 2^53, 이보다 작은 정수는 double로 정확히 표현된다
+  private static final long EXACT_MANTISSA = 1L << 53;
+  private static final int EXACT_EXPONENT = 22;
+  private static final int MAX_EXPONENT = 1000;
+  private static final double[] POWERS_OF_TEN = new double[EXACT_EXPONENT + 1];
+
+  static {
+    for (int i = 0; i < 100; i++) {
+      DIGIT_TENS[i] = (byte) ('0' + i / 10);
+      DIGIT_ONES[i] = (byte) ('0' + i % 10);
+    }
+    double power = 1;
+    for (int i = 0; i <= EXACT_EXPONENT; i++) {
+      POWERS_OF_TEN[i] = power;
+      power *= 10;
+    }
+  }
+
+  // region parse (CharSequence)
+
+  /**
+   * 문자열 구간의 int 파싱
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못되었거나 범위를 넘는 경우
+   */
+  public static int parseInt(CharSequence chars, int from, int to) {
+    return (int) parseLong(chars, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, true);
+  }
+
+  /**
+   * 문자열 구간의 int 파싱 (예외 없음)
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못되었거나 범위를 넘는 경우의 값
+   * @return 파싱된 값
+   */
+  public static int parseInt(CharSequence chars, int from, int to, int defaultValue) {
+    return (int) parseLong(chars, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue, false);
+  }
+
+  /**
+   * 문자열 구간의 long 파싱
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못되었거나 범위를 넘는 경우
+   */
+  public static long parseLong(CharSequence chars, int from, int to) {
+    return parseLong(chars, from, to, Long.MIN_VALUE, Long.MAX_VALUE, 0, true);
+  }
+
+  /**
+   * 문자열 구간의 long 파싱 (예외 없음)
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못되었거나 범위를 넘는 경우의 값
+   * @return 파싱된 값
+   */
+  public static long parseLong(CharSequence chars, int from, int to, long defaultValue) {
+    return parseLong(chars, from, to, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue, false);
+  }
+
+  /**
+   * 문자열 구간의 double 파싱
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못된 경우
+   */
+  public static double parseDouble(CharSequence chars, int from, int to) {
+    return parseDouble(chars, from, to, 0, true);
+  }
+
+  /**
+   * 문자열 구간의 double 파싱 (빠른 경로에서는 예외 없음)
+   *
+   * @param chars 문자열
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못된 경우의 값
+   * @return 파싱된 값
+   */
+  public static double parseDouble(CharSequence chars, int from, int to, double defaultValue) {
+    return parseDouble(chars, from, to, defaultValue, false);
+  }
+
+  private static long parseLong(CharSequence chars, int from, int to, long min, long max, long defaultValue, boolean strict) {
+    checkRange(chars.length(), from, to);
+    int i = from;
+    boolean negative = false;
+    if (i < to) {
+      char c = chars.charAt(i);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        i++;
+      }
+    }
+    if (i == to) {
+      return fail(chars, from, to, defaultValue, strict);
+    }
+    // 음수로 누적하여 MIN_VALUE까지 표현한다
+    final long limit = negative ? min : -max;
+    final long multiplyMin = limit / 10;
+    long result = 0;
+    for (; i < to; i++) {
+      int digit = chars.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || result < multiplyMin) {
+        return fail(chars, from, to, defaultValue, strict);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return fail(chars, from, to, defaultValue, strict);
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  private static double parseDouble(CharSequence chars, int from, int to, double defaultValue, boolean strict) {
+    checkRange(chars.length(), from, to);
+    int i = from;
+    boolean negative = false;
+    if (i < to) {
+      char c = chars.charAt(i);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        i++;
+      }
+    }
+    long mantissa = 0;
+    int significant = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean dot = false;
+    for (; i < to; i++) {
+      char c = chars.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits++;
+        if (mantissa != 0 || c != '0') {
+          if (++significant > 18) {
+            return parseDoubleSlow(chars, from, to, defaultValue, strict);
+          }
+          mantissa = mantissa * 10 + (c - '0');
+        }
+        if (dot) {
+          exponent--;
+        }
+      } else if (c == '.' && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0) {
+      return parseDoubleSlow(chars, from, to, defaultValue, strict);
+    }
+    if (i < to) {
+      char c = chars.charAt(i);
+      if (c != 'e' && c != 'E' || ++i == to) {
+        return parseDoubleSlow(chars, from, to, defaultValue, strict);
+      }
+      boolean negativeExponent = false;
+      c = chars.charAt(i);
+      if (c == '-' || c == '+') {
+        negativeExponent = c == '-';
+        if (++i == to) {
+          return parseDoubleSlow(chars, from, to, defaultValue, strict);
+        }
+      }
+      int value = 0;
+      for (; i < to; i++) {
+        int digit = chars.charAt(i) - '0';
+        if (digit < 0 || digit > 9 || value > MAX_EXPONENT) {
+          return parseDoubleSlow(chars, from, to, defaultValue, strict);
+        }
+        value = value * 10 + digit;
+      }
+      exponent += negativeExponent ? -value : value;
+    }
+    if (mantissa < EXACT_MANTISSA && exponent >= -EXACT_EXPONENT && exponent <= EXACT_EXPONENT) {
+      return exact(negative, mantissa, exponent);
+    }
+    return parseDoubleSlow(chars, from, to, defaultValue, strict);
+  }
+
+  private static double parseDoubleSlow(CharSequence chars, int from, int to, double defaultValue, boolean strict) {
+    try {
+      return Double.parseDouble(chars.subSequence(from, to).toString());
+    } catch (NumberFormatException e) {
+      if (strict) {
+        throw e;
+      }
+      return defaultValue;
+    }
+  }
+
+  private static long fail(CharSequence chars, int from, int to, long defaultValue, boolean strict) {
+    if (strict) {
+      throw new NumberFormatException("For input string: \"" + chars.subSequence(from, to) + "\"");
+    }
+    return defaultValue;
+  }
+
+  // endregion
+
+  // region parse (UTF-8 bytes)
+
+  /**
+   * UTF-8 바이트 구간의 int 파싱
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못되었거나 범위를 넘는 경우
+   */
+  public static int parseInt(byte[] bytes, int from, int to) {
+    return (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, true);
+  }
+
+  /**
+   * UTF-8 바이트 구간의 int 파싱 (예외 없음)
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못되었거나 범위를 넘는 경우의 값
+   * @return 파싱된 값
+   */
+  public static int parseInt(byte[] bytes, int from, int to, int defaultValue) {
+    return (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue, false);
+  }
+
+  /**
+   * UTF-8 바이트 구간의 long 파싱
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못되었거나 범위를 넘는 경우
+   */
+  public static long parseLong(byte[] bytes, int from, int to) {
+    return parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE, 0, true);
+  }
+
+  /**
+   * UTF-8 바이트 구간의 long 파싱 (예외 없음)
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못되었거나 범위를 넘는 경우의 값
+   * @return 파싱된 값
+   */
+  public static long parseLong(byte[] bytes, int from, int to, long defaultValue) {
+    return parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue, false);
+  }
+
+  /**
+   * UTF-8 바이트 구간의 double 파싱
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 파싱된 값
+   * @throws NumberFormatException 형식이 잘못된 경우
+   */
+  public static double parseDouble(byte[] bytes, int from, int to) {
+    return parseDouble(bytes, from, to, 0, true);
+  }
+
+  /**
+   * UTF-8 바이트 구간의 double 파싱 (빠른 경로에서는 예외 없음)
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @param defaultValue 형식이 잘못된 경우의 값
+   * @return 파싱된 값
+   */
+  public static double parseDouble(byte[] bytes, int from, int to, double defaultValue) {
+    return parseDouble(bytes, from, to, defaultValue, false);
+  }
+
+  private static long parseLong(byte[] bytes, int from, int to, long min, long max, long defaultValue, boolean strict) {
+    checkRange(bytes.length, from, to);
+    int i = from;
+    boolean negative = false;
+    if (i < to) {
+      byte b = bytes[i];
+      if (b == '-' || b == '+') {
+        negative = b == '-';
+        i++;
+      }
+    }
+    if (i == to) {
+      return fail(bytes, from, to, defaultValue, strict);
+    }
+    final long limit = negative ? min : -max;
+    final long multiplyMin = limit / 10;
+    long result = 0;
+    for (; i < to; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9 || result < multiplyMin) {
+        return fail(bytes, from, to, defaultValue, strict);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return fail(bytes, from, to, defaultValue, strict);
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  private static double parseDouble(byte[] bytes, int from, int to, double defaultValue, boolean strict) {
+    checkRange(bytes.length, from, to);
+    int i = from;
+    boolean negative = false;
+    if (i < to) {
+      byte b = bytes[i];
+      if (b == '-' || b == '+') {
+        negative = b == '-';
+        i++;
+      }
+    }
+    long mantissa = 0;
+    int significant = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean dot = false;
+    for (; i < to; i++) {
+      byte b = bytes[i];
+      if (b >= '0' && b <= '9') {
+        digits++;
+        if (mantissa != 0 || b != '0') {
+          if (++significant > 18) {
+            return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+          }
+          mantissa = mantissa * 10 + (b - '0');
+        }
+        if (dot) {
+          exponent--;
+        }
+      } else if (b == '.' && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0) {
+      return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+    }
+    if (i < to) {
+      byte b = bytes[i];
+      if (b != 'e' && b != 'E' || ++i == to) {
+        return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+      }
+      boolean negativeExponent = false;
+      b = bytes[i];
+      if (b == '-' || b == '+') {
+        negativeExponent = b == '-';
+        if (++i == to) {
+          return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+        }
+      }
+      int value = 0;
+      for (; i < to; i++) {
+        int digit = bytes[i] - '0';
+        if (digit < 0 || digit > 9 || value > MAX_EXPONENT) {
+          return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+        }
+        value = value * 10 + digit;
+      }
+      exponent += negativeExponent ? -value : value;
+    }
+    if (mantissa < EXACT_MANTISSA && exponent >= -EXACT_EXPONENT && exponent <= EXACT_EXPONENT) {
+      return exact(negative, mantissa, exponent);
+    }
+    return parseDoubleSlow(bytes, from, to, defaultValue, strict);
+  }
+
+  private static double parseDoubleSlow(byte[] bytes, int from, int to, double defaultValue, boolean strict) {
+    try {
+      // 숫자 형식은 ASCII이므로 ISO-8859-1로 충분하다 (멀티바이트 문자는 어차피 잘못된 형식)
+      return Double.parseDouble(new String(bytes, from, to - from, ISO_8859_1));
+    } catch (NumberFormatException e) {
+      if (strict) {
+        throw e;
+      }
+      return defaultValue;
+    }
+  }
+
+  private static long fail(byte[] bytes, int from, int to, long defaultValue, boolean strict) {
+    if (strict) {
+      throw new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, ISO_8859_1) + "\"");
+    }
+    return defaultValue;
+  }
+
+  // endregion
+
+  // region format
+
+  /**
+   * int를 10진수로 쓸 때의 길이
+   *
+   * @param value 값
+   * @return 부호를 포함한 글자 수
+   */
+  public static int stringSize(int value) {
+    return stringSize((long) value);
+  }
+
+  /**
+   * long을 10진수로 쓸 때의 길이
+   *
+   * @param value 값
+   * @return 부호를 포함한 글자 수
+   */
+  public static int stringSize(long value) {
+    int sign = 0;
+    if (value >= 0) {
+      value = -value;
+    } else {
+      sign = 1;
+    }
+    long power = -10;
+    for (int i = 1; i < 19; i++) {
+      if (value > power) {
+        return i + sign;
+      }
+      power *= 10;
+    }
+    return 19 + sign;
+  }
+
+  /**
+   * int를 10진수로 쓰기
+   *
+   * @param value 값
+   * @param target 쓸 배열, offset부터 {@link #stringSize(int)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @return 쓰기가 끝난 위치 (exclusive)
+   */
+  public static int format(int value, char[] target, int offset) {
+    return format((long) value, target, offset);
+  }
+
+  /**
+   * long을 10진수로 쓰기
+   *
+   * @param value 값
+   * @param target 쓸 배열, offset부터 {@link #stringSize(long)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @return 쓰기가 끝난 위치 (exclusive)
+   */
+  public static int format(long value, char[] target, int offset) {
+    Objects.requireNonNull(target);
+    final int end = offset + stringSize(value);
+    checkRange(target.length, offset, end);
+    // MIN_VALUE를 위해 음수로 계산한다
+    long remain = value < 0 ? value : -value;
+    int i = end;
+    while (remain <= -100) {
+      long quotient = remain / 100;
+      int pair = (int) (quotient * 100 - remain);
+      remain = quotient;
+      target[--i] = (char) DIGIT_ONES[pair];
+      target[--i] = (char) DIGIT_TENS[pair];
+    }
+    int pair = (int) -remain;
+    target[--i] = (char) DIGIT_ONES[pair];
+    if (pair >= 10) {
+      target[--i] = (char) DIGIT_TENS[pair];
+    }
+    if (value < 0) {
+      target[--i] = '-';
+    }
+    return end;
+  }
+
+  /**
+   * int를 10진수 ASCII 바이트로 쓰기
+   *
+   * @param value 값
+   * @param target 쓸 배열, offset부터 {@link #stringSize(int)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @return 쓰기가 끝난 위치 (exclusive)
+   */
+  public static int format(int value, byte[] target, int offset) {
+    return format((long) value, target, offset);
+  }
+
+  /**
+   * long을 10진수 ASCII 바이트로 쓰기
+   *
+   * @param value 값
+   * @param target 쓸 배열, offset부터 {@link #stringSize(long)}만큼의 공간이 필요하다
+   * @param offset 쓰기 시작 위치
+   * @return 쓰기가 끝난 위치 (exclusive)
+   */
+  public static int format(long value, byte[] target, int offset) {
+    Objects.requireNonNull(target);
+    final int end = offset + stringSize(value);
+    checkRange(target.length, offset, end);
+    long remain = value < 0 ? value : -value;
+    int i = end;
+    while (remain <= -100) {
+      long quotient = remain / 100;
+      int pair = (int) (quotient * 100 - remain);
+      remain = quotient;
+      target[--i] = DIGIT_ONES[pair];
+      target[--i] = DIGIT_TENS[pair];
+    }
+    int pair = (int) -remain;
+    target[--i] = DIGIT_ONES[pair];
+    if (pair >= 10) {
+      target[--i] = DIGIT_TENS[pair];
+    }
+    if (value < 0) {
+      target[--i] = '-';
+    }
+    return end;
+  }
+
+  // endregion
+
+  // 가수와 10의 거듭제곱이 모두 double로 정확하면 곱셈(나눗셈) 한번의 결과도 정확히 반올림된다
+  private static double exact(boolean negative, long mantissa, int exponent) {
+    double value = mantissa;
+    value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+    return negative ? -value : value;
+  }
+
+  private static void checkRange(int length, int from, int to) {
+    if (from < 0 || from > to || to > length) {
+      throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+    }
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Public suffix, registrable domain 추출
+ * <p>
+ * 함께 배포되는 public suffix list(public_suffix_list.dat)를 클래스 초기화시 한번 읽어, 규칙을 뒤집은 문자열(예: "kr.oc")의
+ * 문자 단위 trie로 컴파일한다. 각 노드의 자식은 정렬된 배열에 연속으로 놓이므로 이진 탐색으로 찾는다.
+ * 조회는 host의 끝에서부터 문자를 한번만 읽으며, 위치(offset)만 반환하는 메소드는 할당이 없다.
+ * 규칙이 없는 TLD는 PSL의 기본 규칙("*")과 같이 마지막 label을 public suffix로 본다.
+ * <p>
+ * 예)
+ * {@code
+ * PublicSuffix.getRegistrableDomain("a.b.example.co.kr"); // "example.co.kr"
+ * PublicSuffix.getPublicSuffix("a.b.example.co.kr"); // "co.kr"
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class PublicSuffix {
+  private static final String RESOURCE = "public_suffix_list.dat";
+  private static final byte RULE = 1;
+  private static final byte WILDCARD = 2;
+  private static final byte EXCEPTION = 4;
+  private static final int ROOT = 0;
+
+  // node 별 문자, 자식 시작 위치, 자식 수, 규칙 flag
+  private static final char[] chars;
+  private static final int[] childStart;
+  private static final int[] childCount;
+  private static final byte[] flags;
+
+  static {
+    Builder builder = new Builder();
+    try (InputStream input = PublicSuffix.class.getResourceAsStream(RESOURCE)) {
+      if (input == null) {
+        throw new IllegalStateException(RESOURCE + " not found");
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int space = line.indexOf(' ');
+        String rule = (space == -1 ? line : line.substring(0, space)).trim();
+        if (!rule.isEmpty() && !rule.startsWith("//")) {
+          builder.add(rule.toLowerCase(Locale.ROOT));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    int size = builder.size;
+    chars = new char[size];
+    childStart = new int[size];
+    childCount = new int[size];
+    flags = new byte[size];
+    builder.compile(chars, childStart, childCount, flags);
+  }
+
+  // region offsets
+
+  /**
+   * host의 public suffix 시작 위치
+   *
+   * @param host host (대소문자 무관, 끝의 '.' 제외)
+   * @param start host 시작 위치 (inclusive)
+   * @param end host 끝 위치 (exclusive)
+   * @return public suffix 시작 위치, IP 주소이거나 비어있다면 -1
+   */
+  public static int publicSuffixStart(CharSequence host, int start, int end) {
+    Objects.requireNonNull(host);
+    if (start >= end || isIpAddress(host, start, end)) {
+      return -1;
+    }
+    int suffix = -1;
+    int node = ROOT;
+    boolean wildcard = false;
+    int labelEnd = end;
+    for (int i = end - 1; ; i--) {
+      char c = i < start ? '.' : host.charAt(i);
+      if (c == '.') {
+        int labelStart = i + 1;
+        if (labelStart == labelEnd) {
+          // 빈 label
+          return -1;
+        }
+        if (suffix == -1) {
+          // 기본 규칙 "*"
+          suffix = labelStart;
+        }
+        if (wildcard) {
+          suffix = labelStart;
+          wildcard = false;
+        }
+        if (node != -1) {
+          byte flag = flags[node];
+          if ((flag & EXCEPTION) != 0) {
+            return labelEnd + 1;
+          }
+          if ((flag & RULE) != 0) {
+            suffix = labelStart;
+          }
+          wildcard = (flag & WILDCARD) != 0;
+          node = child(node, '.');
+        }
+        if (i < start || (node == -1 && !wildcard)) {
+          break;
+        }
+        labelEnd = i;
+      } else if (node != -1) {
+        node = child(node, c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+      }
+    }
+    return suffix;
+  }
+
+  /**
+   * host의 registrable domain(public suffix + label 하나) 시작 위치
+   *
+   * @param host host (대소문자 무관, 끝의 '.' 제외)
+   * @param start host 시작 위치 (inclusive)
+   * @param end host 끝 위치 (exclusive)
+   * @return registrable domain 시작 위치, host가 public suffix이거나 IP 주소라면 -1
+   */
+  public static int registrableDomainStart(CharSequence host, int start, int end) {
+    int suffix = publicSuffixStart(host, start, end);
+    if (suffix <= start) {
+      return -1;
+    }
+    int i = suffix - 2;
+    while (i >= start && host.charAt(i) != '.') {
+      i--;
+    }
+    return i + 1 == suffix - 1 ? -1 : i + 1;
+  }
+
+  // endregion
+
+  // region strings
+
+  /**
+   * host의 public suffix
+   *
+   * @param host host
+   * @return public suffix, IP 주소이거나 비어있다면 null
+   */
+  public static String getPublicSuffix(String host) {
+    if (StringUtil.isNullOrEmpty(host)) {
+      return null;
+    }
+    int end = trimDot(host);
+    int start = publicSuffixStart(host, 0, end);
+    return start == -1 ? null : host.substring(start, end);
+  }
+
+  /**
+   * host의 registrable domain
+   *
+   * @param host host
+   * @return registrable domain (대소문자 유지), host가 public suffix이거나 IP 주소라면 null
+   */
+  public static String getRegistrableDomain(String host) {
+    if (StringUtil.isNullOrEmpty(host)) {
+      return null;
+    }
+    int end = trimDot(host);
+    int start = registrableDomainStart(host, 0, end);
+    return start == -1 ? null : start == 0 && end == host.length() ? host : host.substring(start, end);
+  }
+
+  /**
+   * public suffix 여부
+   *
+   * @param host host
+   * @return host 자체가 public suffix라면 true
+   */
+  public static boolean isPublicSuffix(String host) {
+    return !StringUtil.isNullOrEmpty(host) && publicSuffixStart(host, 0, trimDot(host)) == 0;
+  }
+
+  // endregion
+
+  private static int trimDot(String host) {
+    int end = host.length();
+    return end > 1 && host.charAt(end - 1) == '.' ? end - 1 : end;
+  }
+
+  private static boolean isIpAddress(CharSequence host, int start, int end) {
+    if (host.charAt(start) == '[') {
+      return true;
+    }
+    // 마지막 label이 숫자로만 되어있다면 IPv4
+    for (int i = end - 1; i >= start; i--) {
+      char c = host.charAt(i);
+      if (c == '.') {
+        return i != end - 1;
+      }
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int child(int node, char c) {
+    int low = childStart[node];
+    int high = low + childCount[node] - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      char value = chars[middle];
+      if (value < c) {
+        low = middle + 1;
+      } else if (value > c) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 규칙을 뒤집은 문자열의 trie를 만들고 너비 우선으로 배열에 펼친다
+   */
+  private static final class Builder {
+    private final Node root = new Node('\0');
+    private int size = 1;
+
+    private void add(String rule) {
+      byte flag = RULE;
+      if (rule.startsWith("!")) {
+        flag = EXCEPTION;
+        rule = rule.substring(1);
+      } else if (rule.startsWith("*.")) {
+        flag = WILDCARD;
+        rule = rule.substring(2);
+      }
+      Node node = root;
+      for (int i = rule.length() - 1; i >= 0; i--) {
+        char c = rule.charAt(i);
+        Node child = node.children.get(c);
+        if (child == null) {
+          child = new Node(c);
+          node.children.put(c, child);
+          size++;
+        }
+        node = child;
+      }
+      node.flag |= flag;
+    }
+
+    private void compile(char[] chars, int[] childStart, int[] childCount, byte[] flags) {
+      Queue<Node> queue = new ArrayDeque<>();
+      List<Node> order = new ArrayList<>(size);
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        Node node = queue.poll();
+        order.add(node);
+        queue.addAll(node.children.values());
+      }
+      int next = 1;
+      for (int i = 0; i < order.size(); i++) {
+        Node node = order.get(i);
+        chars[i] = node.c;
+        flags[i] = node.flag;
+        childStart[i] = next;
+        childCount[i] = node.children.size();
+        next += node.children.size();
+      }
+    }
+  }
+
+  private static final class Node {
+    private final char c;
+    private final TreeMap<Character, Node> children = new TreeMap<>();
+    private byte flag;
+
+    private Node(char c) {
+      this.c = c;
+    }
+  }
+}
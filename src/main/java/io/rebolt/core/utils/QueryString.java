@@ -0,0 +1,414 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Query string (application/x-www-form-urlencoded)
+ * <p>
+ * 한번의 순회로 각 파라미터의 key, '=', 끝 위치만 기록하고, key와 value는 읽을 때 디코딩한다.
+ * 인코딩된 문자('%', '+')가 없는 key, value는 디코딩 없이 원본의 일부를 그대로 사용한다.
+ * 디코딩한 value는 보관하여 다시 디코딩하지 않는다.
+ * 인스턴스는 스레드에 안전하다.
+ * <p>
+ * 예)
+ * {@code
+ * QueryString query = QueryString.parse("?id=1&name=%EB%8B%AD&tag=a&tag=b");
+ * query.get("name"); // "닭"
+ * query.getAll("tag"); // ["a", "b"]
+ * QueryString.builder().add("id", 1).add("name", "닭").build(); // "id=1&name=%EB%8B%AD"
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class QueryString {
+  private static final QueryString EMPTY = new QueryString("", new int[0], new byte[0], 0);
+  private static final int INITIAL_CAPACITY = 8;
+  private static final byte KEY_ENCODED = 1;
+  private static final byte VALUE_ENCODED = 2;
+  private static final byte HAS_VALUE = 4;
+
+  private final String source;
+  // 파라미터 별 key 시작, key 끝('=' 위치), 끝 위치
+  private final int[] offsets;
+  private final byte[] flags;
+  private final int size;
+  private final String[] values;
+
+  private QueryString(String source, int[] offsets, byte[] flags, int size) {
+    this.source = source;
+    this.offsets = offsets;
+    this.flags = flags;
+    this.size = size;
+    this.values = new String[size];
+  }
+
+  // region parse
+
+  /**
+   * Query string 파싱
+   * <p>
+   * 앞의 '?'는 무시하고, '#' 이후(fragment)는 파싱하지 않는다. 비어있는 파라미터("a=1&amp;&amp;b=2")는 건너뛴다.
+   *
+   * @param query query string
+   * @return {@link QueryString}, query가 비어있다면 빈 {@link QueryString}
+   */
+  public static QueryString parse(String query) {
+    if (StringUtil.isNullOrEmpty(query)) {
+      return EMPTY;
+    }
+    int start = query.charAt(0) == '?' ? 1 : 0;
+    int end = query.indexOf('#', start);
+    return parse(query, start, end == -1 ? query.length() : end);
+  }
+
+  /**
+   * 문자열 일부의 query string 파싱
+   *
+   * @param source 원본 (예: 전체 uri)
+   * @param start query 시작 위치 ('?' 다음, inclusive)
+   * @param end query 끝 위치 (exclusive)
+   * @return {@link QueryString}
+   */
+  public static QueryString parse(String source, int start, int end) {
+    Objects.requireNonNull(source);
+    if (start < 0 || start > end || end > source.length()) {
+      throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + source.length());
+    }
+    if (start == end) {
+      return EMPTY;
+    }
+    int[] offsets = new int[INITIAL_CAPACITY * 3];
+    byte[] flags = new byte[INITIAL_CAPACITY];
+    int size = 0;
+    int keyStart = start;
+    int separator = -1;
+    byte flag = 0;
+    for (int i = start; i <= end; i++) {
+      char c = i == end ? '&' : source.charAt(i);
+      if (c == '&') {
+        if (i > keyStart) {
+          if (size == flags.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length << 1);
+            flags = Arrays.copyOf(flags, flags.length << 1);
+          }
+          int index = size * 3;
+          offsets[index] = keyStart;
+          offsets[index + 1] = separator == -1 ? i : separator;
+          offsets[index + 2] = i;
+          flags[size++] = separator == -1 ? flag : (byte) (flag | HAS_VALUE);
+        }
+        keyStart = i + 1;
+        separator = -1;
+        flag = 0;
+      } else if (c == '=') {
+        if (separator == -1) {
+          separator = i;
+        }
+      } else if (c == '%' || c == '+') {
+        flag |= separator == -1 ? KEY_ENCODED : VALUE_ENCODED;
+      }
+    }
+    return size == 0 ? EMPTY : new QueryString(source, offsets, flags, size);
+  }
+
+  // endregion
+
+  // region read
+
+  /**
+   * 파라미터 수 (같은 key도 각각 센다)
+   *
+   * @return 파라미터 수
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return 파라미터가 없다면 true
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * index 번째 파라미터의 key
+   *
+   * @param index 파라미터 순서
+   * @return 디코딩된 key
+   * @throws IllegalParameterException key의 "%XX" 형식이 잘못된 경우
+   */
+  public String key(int index) {
+    checkIndex(index);
+    String key = source.substring(offsets[index * 3], offsets[index * 3 + 1]);
+    return (flags[index] & KEY_ENCODED) == 0 ? key : UrlCodec.FORM.decode(key);
+  }
+
+  /**
+   * index 번째 파라미터의 value
+   *
+   * @param index 파라미터 순서
+   * @return 디코딩된 value, '='가 없다면 빈 문자열
+   * @throws IllegalParameterException value의 "%XX" 형식이 잘못된 경우
+   */
+  public String value(int index) {
+    checkIndex(index);
+    String value = values[index];
+    if (value == null) {
+      byte flag = flags[index];
+      if ((flag & HAS_VALUE) == 0) {
+        value = "";
+      } else {
+        value = source.substring(offsets[index * 3 + 1] + 1, offsets[index * 3 + 2]);
+        if ((flag & VALUE_ENCODED) != 0) {
+          value = UrlCodec.FORM.decode(value);
+        }
+      }
+      values[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * 이름이 같은 첫번째 파라미터의 value
+   *
+   * @param name 파라미터 이름 (디코딩된 값)
+   * @return 디코딩된 value, 없다면 null
+   */
+  public String get(String name) {
+    int index = indexOf(name, 0);
+    return index == -1 ? null : value(index);
+  }
+
+  /**
+   * 이름이 같은 첫번째 파라미터의 value
+   *
+   * @param name 파라미터 이름 (디코딩된 값)
+   * @param defaultValue 파라미터가 없을 때 반환할 값
+   * @return 디코딩된 value, 없다면 defaultValue
+   */
+  public String get(String name, String defaultValue) {
+    int index = indexOf(name, 0);
+    return index == -1 ? defaultValue : value(index);
+  }
+
+  /**
+   * 이름이 같은 모든 파라미터의 value
+   *
+   * @param name 파라미터 이름 (디코딩된 값)
+   * @return 디코딩된 value 목록, 없다면 빈 목록
+   */
+  public List<String> getAll(String name) {
+    int index = indexOf(name, 0);
+    if (index == -1) {
+      return Collections.emptyList();
+    }
+    List<String> result = new ArrayList<>(2);
+    for (; index != -1; index = indexOf(name, index + 1)) {
+      result.add(value(index));
+    }
+    return result;
+  }
+
+  /**
+   * 파라미터 존재 여부
+   *
+   * @param name 파라미터 이름 (디코딩된 값)
+   * @return 존재하면 true
+   */
+  public boolean contains(String name) {
+    return indexOf(name, 0) != -1;
+  }
+
+  /**
+   * 모든 파라미터를 순서대로 순회
+   *
+   * @param consumer (디코딩된 key, 디코딩된 value)
+   */
+  public void forEach(BiConsumer<String, String> consumer) {
+    for (int i = 0; i < size; i++) {
+      consumer.accept(key(i), value(i));
+    }
+  }
+
+  /**
+   * 이름이 같은 파라미터의 순서
+   * <p>
+   * 인코딩된 문자가 없는 key는 디코딩 없이 원본과 직접 비교한다.
+   *
+   * @param name 파라미터 이름 (디코딩된 값)
+   * @param from 검색 시작 순서
+   * @return 파라미터 순서, 없다면 -1
+   */
+  public int indexOf(String name, int from) {
+    Objects.requireNonNull(name);
+    for (int i = Math.max(from, 0); i < size; i++) {
+      int start = offsets[i * 3];
+      int length = offsets[i * 3 + 1] - start;
+      if ((flags[i] & KEY_ENCODED) == 0) {
+        if (length == name.length() && source.regionMatches(start, name, 0, length)) {
+          return i;
+        }
+      } else if (name.equals(key(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return size == 0 ? "" : source.substring(offsets[0], offsets[size * 3 - 1]);
+  }
+
+  // endregion
+
+  // region build
+
+  /**
+   * Query string 생성기
+   *
+   * @return {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Query string 생성기
+   * <p>
+   * 파라미터를 모아두었다가 인코딩된 길이를 계산하여 크기가 맞는 버퍼에 한번에 쓴다. 스레드에 안전하지 않다.
+   */
+  public static final class Builder {
+    // name, value를 번갈아 보관 (value가 null이면 '=' 없이 name만 쓴다)
+    private final List<String> parameters = new ArrayList<>();
+
+    private Builder() {
+    }
+
+    /**
+     * 파라미터 추가
+     *
+     * @param name 이름
+     * @param value 값, null이면 '=' 없이 이름만 쓴다
+     * @return this
+     */
+    public Builder add(String name, Object value) {
+      parameters.add(Objects.requireNonNull(name));
+      parameters.add(value == null ? null : value.toString());
+      return this;
+    }
+
+    /**
+     * 파라미터 모두 추가
+     *
+     * @param map 파라미터
+     * @return this
+     */
+    public Builder addAll(Map<String, ?> map) {
+      map.forEach(this::add);
+      return this;
+    }
+
+    /**
+     * 인코딩된 query string의 길이
+     *
+     * @return 문자 수 ('?' 제외)
+     */
+    public int length() {
+      long length = 0;
+      for (int i = 0; i < parameters.size(); i += 2) {
+        String name = parameters.get(i);
+        String value = parameters.get(i + 1);
+        length += (i == 0 ? 0 : 1) + UrlCodec.FORM.encodedLength(name, 0, name.length());
+        if (value != null) {
+          length += 1 + UrlCodec.FORM.encodedLength(value, 0, value.length());
+        }
+      }
+      if (length > Integer.MAX_VALUE) {
+        throw new OutOfMemoryError("query string length exceeds " + Integer.MAX_VALUE);
+      }
+      return (int) length;
+    }
+
+    /**
+     * 인코딩된 query string을 target에 쓴다
+     *
+     * @param target 결과를 쓸 {@link Appendable}
+     * @param <A> {@link Appendable} 타입
+     * @return target
+     * @throws IOException target 쓰기 오류
+     */
+    public <A extends Appendable> A appendTo(A target) throws IOException {
+      for (int i = 0; i < parameters.size(); i += 2) {
+        if (i > 0) {
+          target.append('&');
+        }
+        String name = parameters.get(i);
+        UrlCodec.FORM.encode(name, 0, name.length(), target);
+        String value = parameters.get(i + 1);
+        if (value != null) {
+          target.append('=');
+          UrlCodec.FORM.encode(value, 0, value.length(), target);
+        }
+      }
+      return target;
+    }
+
+    /**
+     * 인코딩된 query string 생성
+     *
+     * @return query string ('?' 제외)
+     */
+    public String build() {
+      if (parameters.isEmpty()) {
+        return "";
+      }
+      try {
+        return appendTo(new StringBuilder(length())).toString();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return build();
+    }
+  }
+
+  // endregion
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.util.Objects;
+
+/**
+ * 원본 {@link CharSequence}를 복사하지 않고 토큰의 위치(start, end)만 알려주는 split 커서
+ * <p>
+ * {@link StringUtil#split(char, String, int, boolean)}와 동일한 trim, limit, remain 규칙을 따른다.
+ * 토큰마다 {@link String}을 생성하지 않으므로 한 번만 읽고 버리는 토큰을 처리할 때 사용한다.
+ * {@link #reset(CharSequence)}으로 인스턴스를 재사용할 수 있으며, 스레드에 안전하지 않다.
+ * <p>
+ * 예)
+ * {@code
+ * SplitCursor cursor = StringUtil.splitCursor(',', value);
+ * while (cursor.next()) {
+ *   consume(value, cursor.start(), cursor.end());
+ * }
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class SplitCursor {
+  private static final int STATE_SCAN = 0;
+  private static final int STATE_TAIL = 1;
+  private static final int STATE_DONE = 2;
+
+  private final char separator;
+  private final int limit;
+  private final boolean remain;
+
+  private CharSequence chars;
+  private String string;
+  private int length;
+  private int offset;
+  private int count;
+  private int state;
+  private boolean separated;
+  private int start;
+  private int end;
+
+  SplitCursor(char separator, CharSequence chars, int limit, boolean remain) {
+    if (limit < 0) {
+      throw new IllegalParameterException("limit >= 0");
+    }
+    this.separator = separator;
+    this.limit = limit;
+    this.remain = remain;
+    reset(chars);
+  }
+
+  /**
+   * 새로운 문자열로 커서를 초기화한다
+   *
+   * @param chars 나눌 문자열
+   * @return 초기화된 커서
+   */
+  public SplitCursor reset(CharSequence chars) {
+    Objects.requireNonNull(chars);
+    this.chars = chars;
+    this.string = chars instanceof String ? (String) chars : null;
+    this.length = chars.length();
+    this.offset = 0;
+    this.count = 0;
+    this.state = STATE_SCAN;
+    this.separated = false;
+    this.start = -1;
+    this.end = -1;
+    return this;
+  }
+
+  /**
+   * 다음 토큰으로 이동
+   *
+   * @return 토큰이 존재하면 true
+   */
+  public boolean next() {
+    while (state == STATE_SCAN) {
+      int next = indexOf(offset);
+      if (next == -1) {
+        state = STATE_TAIL;
+        break;
+      }
+      separated = true;
+      if (limit == 0 || count < limit - 1) {
+        boolean found = token(offset, next);
+        offset = next + 1;
+        if (found) {
+          return true;
+        }
+      } else {
+        boolean found = token(offset, remain ? length : next);
+        offset = length;
+        state = STATE_TAIL;
+        if (found) {
+          return true;
+        }
+      }
+    }
+    if (state == STATE_TAIL) {
+      state = STATE_DONE;
+      if (!separated) {
+        // 구분자가 없으면 원본 문자열 그대로
+        return emit(0, length);
+      }
+      if ((limit == 0 || count < limit) && !(limit == 0 && offset == length)) {
+        // 마지막 토큰은 trim하지 않는다
+        return emit(offset, length);
+      }
+    }
+    start = -1;
+    end = -1;
+    return false;
+  }
+
+  /**
+   * 현재 토큰의 시작 위치 (inclusive)
+   *
+   * @return 원본 문자열에서의 시작 위치
+   */
+  public int start() {
+    return start;
+  }
+
+  /**
+   * 현재 토큰의 끝 위치 (exclusive)
+   *
+   * @return 원본 문자열에서의 끝 위치
+   */
+  public int end() {
+    return end;
+  }
+
+  /**
+   * 현재 토큰의 길이
+   *
+   * @return 토큰 길이
+   */
+  public int length() {
+    return end - start;
+  }
+
+  /**
+   * 지금까지 반환된 토큰 수
+   *
+   * @return 토큰 수
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * 현재 토큰의 문자
+   *
+   * @param index 토큰 내 위치
+   * @return 문자
+   */
+  public char charAt(int index) {
+    return chars.charAt(start + index);
+  }
+
+  /**
+   * 현재 토큰을 {@link CharSequence}로 반환 (할당 발생)
+   *
+   * @return 현재 토큰
+   */
+  public CharSequence token() {
+    return chars.subSequence(start, end);
+  }
+
+  /**
+   * 현재 토큰을 {@link String}으로 반환 (할당 발생)
+   *
+   * @return 현재 토큰
+   */
+  public String tokenString() {
+    return string != null ? string.substring(start, end) : chars.subSequence(start, end).toString();
+  }
+
+  /**
+   * 현재 토큰과 문자열이 같은지 검사 (할당 없음)
+   *
+   * @param value 비교할 문자열
+   * @return 같으면 true
+   */
+  public boolean contentEquals(CharSequence value) {
+    int size = end - start;
+    if (value.length() != size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (chars.charAt(start + i) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int indexOf(int from) {
+    if (string != null) {
+      return string.indexOf(separator, from);
+    }
+    for (int i = from; i < length; i++) {
+      if (chars.charAt(i) == separator) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean token(int from, int to) {
+    while (from < to && chars.charAt(from) <= 32) {
+      ++from;
+    }
+    while (from < to && chars.charAt(to - 1) <= 32) {
+      --to;
+    }
+    return from < to && emit(from, to);
+  }
+
+  private boolean emit(int from, int to) {
+    start = from;
+    end = to;
+    count++;
+    return true;
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Reader}, {@link InputStream}, {@link ByteBuffer}로부터 토큰을 지연(lazy) 생성하는 split 반복자
+ * <p>
+ * 입력 전체를 문자열로 읽지 않고 고정된 크기의 버퍼만 사용한다.
+ * 따라서 메모리 사용량은 입력 크기와 무관하게 버퍼 크기 + 가장 긴 토큰으로 제한된다.
+ * 토큰 규칙은 {@link StringUtil#split(char, String)}와 같다.
+ * 구분자 앞의 토큰은 trim 후 빈 토큰을 제외하고, 마지막 구분자 뒤의 토큰은 trim하지 않는다 (비어있으면 제외, 구분자가 없으면 입력 그대로).
+ * <p>
+ * 예)
+ * {@code
+ * try (Stream<String> tokens = SplitReader.of(',', Files.newBufferedReader(path)).stream()) {
+ *   tokens.forEach(...);
+ * }
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class SplitReader implements Iterator<String>, Closeable {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final char separator;
+  private final Reader reader;
+  private final char[] buffer;
+  private final StringBuilder token = new StringBuilder();
+  private int maxTokenLength = Integer.MAX_VALUE;
+  private int position;
+  private int limit;
+  private boolean eof;
+  private boolean separated;
+  private boolean finished;
+  private String next;
+
+  private SplitReader(char separator, Reader reader, int bufferSize) {
+    Objects.requireNonNull(reader);
+    if (bufferSize < 2) {
+      throw new IllegalParameterException("bufferSize >= 2");
+    }
+    this.separator = separator;
+    this.reader = reader;
+    this.buffer = new char[bufferSize];
+  }
+
+  /**
+   * {@link Reader}로부터 토큰 생성
+   *
+   * @param separator 구분자
+   * @param reader {@link Reader}
+   * @return {@link SplitReader}
+   */
+  public static SplitReader of(char separator, Reader reader) {
+    return new SplitReader(separator, reader, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * {@link Reader}로부터 토큰 생성
+   *
+   * @param separator 구분자
+   * @param reader {@link Reader}
+   * @param bufferSize 읽기 버퍼 크기 (문자수)
+   * @return {@link SplitReader}
+   */
+  public static SplitReader of(char separator, Reader reader, int bufferSize) {
+    return new SplitReader(separator, reader, bufferSize);
+  }
+
+  /**
+   * {@link InputStream}으로부터 토큰 생성
+   *
+   * @param separator 구분자
+   * @param input {@link InputStream}
+   * @param charset 입력 문자셋
+   * @return {@link SplitReader}
+   */
+  public static SplitReader of(char separator, InputStream input, Charset charset) {
+    return new SplitReader(separator, new InputStreamReader(input, charset), DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * {@link ByteBuffer}(memory mapped 포함)로부터 토큰 생성
+   * <p>
+   * 버퍼 전체를 디코딩하지 않고 읽기 버퍼 단위로 디코딩한다. 원본 버퍼의 position은 변경되지 않는다.
+   *
+   * @param separator 구분자
+   * @param input {@link ByteBuffer}
+   * @param charset 입력 문자셋
+   * @return {@link SplitReader}
+   */
+  public static SplitReader of(char separator, ByteBuffer input, Charset charset) {
+    return new SplitReader(separator, new ByteBufferReader(input.duplicate(), charset), DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * 토큰 최대길이 설정. 초과하는 토큰을 만나면 {@link IllegalParameterException}
+   *
+   * @param maxTokenLength 토큰 최대길이
+   * @return {@link SplitReader}
+   */
+  public SplitReader maxTokenLength(int maxTokenLength) {
+    if (maxTokenLength <= 0) {
+      throw new IllegalParameterException("maxTokenLength > 0");
+    }
+    this.maxTokenLength = maxTokenLength;
+    return this;
+  }
+
+  /**
+   * 토큰 {@link Stream}, 스트림을 닫으면 입력도 닫힌다
+   *
+   * @return 토큰 {@link Stream}
+   */
+  public Stream<String> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(this::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = read();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String value = next;
+    next = null;
+    return value;
+  }
+
+  @Override
+  public void close() {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String read() throws IOException {
+    while (true) {
+      if (position == limit) {
+        if (eof || !fill()) {
+          return tail();
+        }
+      }
+      int start = position;
+      int end = indexOf(start, limit);
+      if (end == -1) {
+        append(start, limit);
+        position = limit;
+        continue;
+      }
+      position = end + 1;
+      separated = true;
+      String value;
+      if (token.length() == 0) {
+        // 버퍼 안에서 끝나는 토큰은 복사없이 바로 생성
+        while (start < end && buffer[start] <= 32) {
+          ++start;
+        }
+        while (start < end && buffer[end - 1] <= 32) {
+          --end;
+        }
+        checkLength(end - start);
+        value = start < end ? new String(buffer, start, end - start) : null;
+      } else {
+        append(start, end);
+        value = flush();
+      }
+      if (value != null) {
+        return value;
+      }
+    }
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    if (read < 0) {
+      eof = true;
+      position = limit = 0;
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+
+  private int indexOf(int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (buffer[i] == separator) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void append(int start, int end) {
+    checkLength(token.length() + end - start);
+    token.append(buffer, start, end - start);
+  }
+
+  private String flush() {
+    int start = 0;
+    int end = token.length();
+    while (start < end && token.charAt(start) <= 32) {
+      ++start;
+    }
+    while (start < end && token.charAt(end - 1) <= 32) {
+      --end;
+    }
+    String value = start < end ? token.substring(start, end) : null;
+    token.setLength(0);
+    return value;
+  }
+
+  /**
+   * 마지막 구분자 뒤의 토큰은 trim하지 않는다
+   */
+  private String tail() {
+    if (finished) {
+      return null;
+    }
+    finished = true;
+    if (token.length() == 0) {
+      // 구분자가 없는 빈 입력은 그대로
+      return separated ? null : "";
+    }
+    String value = token.toString();
+    token.setLength(0);
+    return value;
+  }
+
+  private void checkLength(int length) {
+    if (length > maxTokenLength) {
+      throw new IllegalParameterException("token length exceeds " + maxTokenLength);
+    }
+  }
+
+  /**
+   * {@link ByteBuffer}를 필요한 만큼씩 디코딩하는 {@link Reader}
+   */
+  private static final class ByteBufferReader extends Reader {
+    private final ByteBuffer source;
+    private final CharsetDecoder decoder;
+    private boolean flushed;
+
+    private ByteBufferReader(ByteBuffer source, Charset charset) {
+      this.source = source;
+      this.decoder = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      CharBuffer target = CharBuffer.wrap(chars, offset, length);
+      if (source.hasRemaining()) {
+        decoder.decode(source, target, true);
+      }
+      if (!source.hasRemaining() && !flushed && target.hasRemaining()) {
+        flushed = decoder.flush(target).isUnderflow();
+      }
+      int read = target.position() - offset;
+      return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
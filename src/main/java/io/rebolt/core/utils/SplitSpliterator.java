@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 구분자로 나누어진 {@link CharSequence}에 대한 {@link Spliterator}
+ * <p>
+ * trySplit은 입력의 중간 지점 이후 첫번째 구분자에서 범위를 나누므로 토큰이 잘리지 않는다.
+ * 따라서 {@code StreamSupport.stream(spliterator, true)}로 fork-join pool에서 병렬 처리할 수 있다.
+ * 토큰 규칙은 {@link StringUtil#split(char, String)}와 같다.
+ * 구분자 앞의 토큰은 trim 후 빈 토큰을 제외하고, 마지막 구분자 뒤의 토큰은 trim하지 않는다 (비어있으면 제외, 구분자가 없으면 입력 그대로).
+ *
+ * @since 0.2.28
+ */
+public final class SplitSpliterator implements Spliterator<CharSequence> {
+  /**
+   * 이보다 작은 범위는 더이상 나누지 않는다
+   */
+  private static final int MIN_SPLIT_SIZE = 1 << 12;
+
+  private final CharSequence chars;
+  private final char separator;
+  private int position;
+  private final int fence;
+  // 마지막 구분자 뒤의 토큰을 아직 내보내지 않았으면 true (입력의 끝을 포함하는 범위만)
+  private boolean tail;
+
+  SplitSpliterator(char separator, CharSequence chars) {
+    this(separator, Objects.requireNonNull(chars), 0, chars.length(), true);
+  }
+
+  private SplitSpliterator(char separator, CharSequence chars, int position, int fence, boolean tail) {
+    this.separator = separator;
+    this.chars = chars;
+    this.position = position;
+    this.fence = fence;
+    this.tail = tail;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super CharSequence> action) {
+    while (position < fence) {
+      int end = indexOf(position);
+      if (end == fence && tail) {
+        break;
+      }
+      int start = position;
+      position = end + 1;
+      CharSequence token = token(start, end);
+      if (token != null) {
+        action.accept(token);
+        return true;
+      }
+    }
+    return tail(action);
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super CharSequence> action) {
+    int start = position;
+    position = fence;
+    while (start < fence) {
+      int end = indexOf(start);
+      if (end == fence && tail) {
+        position = start;
+        break;
+      }
+      CharSequence token = token(start, end);
+      if (token != null) {
+        action.accept(token);
+      }
+      start = end + 1;
+    }
+    tail(action);
+  }
+
+  @Override
+  public Spliterator<CharSequence> trySplit() {
+    int size = fence - position;
+    if (size < MIN_SPLIT_SIZE) {
+      return null;
+    }
+    int middle = indexOf(position + (size >>> 1));
+    if (middle >= fence - 1) {
+      return null;
+    }
+    Spliterator<CharSequence> prefix = new SplitSpliterator(separator, chars, position, middle, false);
+    position = middle + 1;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Math.max(fence - position, tail ? 1 : 0);
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL | IMMUTABLE;
+  }
+
+  /**
+   * 구분자 위치, 없으면 fence
+   */
+  private int indexOf(int from) {
+    for (int i = from; i < fence; i++) {
+      if (chars.charAt(i) == separator) {
+        return i;
+      }
+    }
+    return fence;
+  }
+
+  /**
+   * 마지막 구분자 뒤의 토큰은 trim하지 않는다
+   */
+  private boolean tail(Consumer<? super CharSequence> action) {
+    if (!tail) {
+      return false;
+    }
+    tail = false;
+    int start = Math.min(position, fence);
+    position = fence;
+    if (start < fence || chars.length() == 0) {
+      // 구분자가 없는 빈 입력은 그대로
+      action.accept(chars.subSequence(start, fence));
+      return true;
+    }
+    return false;
+  }
+
+  private CharSequence token(int start, int end) {
+    while (start < end && chars.charAt(start) <= 32) {
+      ++start;
+    }
+    while (start < end && chars.charAt(end - 1) <= 32) {
+      --end;
+    }
+    return start < end ? chars.subSequence(start, end) : null;
+  }
+}
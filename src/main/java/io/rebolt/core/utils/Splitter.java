@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 고정된 구분자 문자열로 문자열을 나누는 Splitter
+ * <p>
+ * 인스턴스는 불변이므로 상수로 만들어 두고 여러 스레드에서 재사용한다.
+ * 옵션 메소드(trimResults, omitEmptyStrings, limit, intern)는 새로운 인스턴스를 반환한다.
+ * <p>
+ * 예)
+ * {@code
+ * private static final Splitter splitter = Splitter.on("::").trimResults().omitEmptyStrings();
+ * List<String> values = splitter.split("a :: b ::::c");  // ["a", "b", "c"]
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class Splitter {
+  private final String separator;
+  private final int separatorLength;
+  private final char first;
+  private final boolean trim;
+  private final boolean omitEmpty;
+  private final int limit;
+  private final StringPool pool;
+
+  private Splitter(String separator, boolean trim, boolean omitEmpty, int limit, StringPool pool) {
+    this.separator = separator;
+    this.separatorLength = separator.length();
+    this.first = separator.charAt(0);
+    this.trim = trim;
+    this.omitEmpty = omitEmpty;
+    this.limit = limit;
+    this.pool = pool;
+  }
+
+  /**
+   * 구분자 문자로 Splitter 생성
+   *
+   * @param separator 구분자
+   * @return {@link Splitter}
+   */
+  public static Splitter on(char separator) {
+    return new Splitter(String.valueOf(separator), false, false, 0, null);
+  }
+
+  /**
+   * 구분자 문자열로 Splitter 생성
+   *
+   * @param separator 구분자 (empty 불가)
+   * @return {@link Splitter}
+   */
+  public static Splitter on(String separator) {
+    if (StringUtil.isNullOrEmpty(separator)) {
+      throw new IllegalParameterException("separator must not be empty");
+    }
+    return new Splitter(separator, false, false, 0, null);
+  }
+
+  /**
+   * 결과 토큰을 trim 한다
+   *
+   * @return 새로운 {@link Splitter}
+   */
+  public Splitter trimResults() {
+    return new Splitter(separator, true, omitEmpty, limit, pool);
+  }
+
+  /**
+   * 빈 토큰을 결과에서 제외한다
+   *
+   * @return 새로운 {@link Splitter}
+   */
+  public Splitter omitEmptyStrings() {
+    return new Splitter(separator, trim, true, limit, pool);
+  }
+
+  /**
+   * 결과 토큰수를 제한한다. 마지막 토큰에는 나머지 문자열이 모두 포함된다.
+   *
+   * @param limit 결과물 목록수 (0: unlimit)
+   * @return 새로운 {@link Splitter}
+   */
+  public Splitter limit(int limit) {
+    if (limit < 0) {
+      throw new IllegalParameterException("limit >= 0");
+    }
+    return new Splitter(separator, trim, omitEmpty, limit, pool);
+  }
+
+  /**
+   * 결과 토큰을 {@link StringPool}로 정규화한다. 풀에 있는 토큰은 새로 생성하지 않는다.
+   *
+   * @param pool {@link StringPool}
+   * @return 새로운 {@link Splitter}
+   */
+  public Splitter intern(StringPool pool) {
+    Objects.requireNonNull(pool);
+    return new Splitter(separator, trim, omitEmpty, limit, pool);
+  }
+
+  /**
+   * 문자열 나누기
+   *
+   * @param chars 문자열
+   * @return 나누어진 문자열 목록 ({@link ArrayList})
+   */
+  public List<String> split(CharSequence chars) {
+    Objects.requireNonNull(chars);
+    final int length = chars.length();
+    if (chars instanceof String && separatorLength == 1 && limit == 0 && pool == null) {
+      return split((String) chars, length);
+    }
+    final String string = chars instanceof String ? (String) chars : null;
+    List<String> list = new ArrayList<>();
+    int offset = 0;
+    while (true) {
+      int next = indexOf(chars, string, length, offset);
+      int start = offset;
+      int end = next == -1 ? length : next;
+      if (trim) {
+        while (start < end && chars.charAt(start) <= 32) {
+          ++start;
+        }
+        end = trimEnd(chars, start, end);
+      }
+      if (!omitEmpty || start < end) {
+        if (limit > 0 && list.size() == limit - 1) {
+          // 마지막 토큰은 나머지 문자열 전체
+          end = trim ? trimEnd(chars, start, length) : length;
+          next = -1;
+        }
+        if (pool != null) {
+          list.add(pool.intern(chars, start, end));
+        } else {
+          list.add(string != null ? string.substring(start, end) : chars.subSequence(start, end).toString());
+        }
+      }
+      if (next == -1) {
+        return list;
+      }
+      offset = next + separatorLength;
+    }
+  }
+
+  /**
+   * 단일 문자 구분자, String 입력의 빠른 경로 (limit, intern 없음)
+   */
+  private List<String> split(String string, int length) {
+    List<String> list = new ArrayList<>();
+    int offset = 0;
+    while (true) {
+      int next = string.indexOf(first, offset);
+      int start = offset;
+      int end = next == -1 ? length : next;
+      if (trim) {
+        while (start < end && string.charAt(start) <= 32) {
+          ++start;
+        }
+        while (start < end && string.charAt(end - 1) <= 32) {
+          --end;
+        }
+      }
+      if (!omitEmpty || start < end) {
+        list.add(string.substring(start, end));
+      }
+      if (next == -1) {
+        return list;
+      }
+      offset = next + 1;
+    }
+  }
+
+  private static int trimEnd(CharSequence chars, int start, int end) {
+    while (start < end && chars.charAt(end - 1) <= 32) {
+      --end;
+    }
+    return end;
+  }
+
+  private int indexOf(CharSequence chars, String string, int length, int from) {
+    if (string != null) {
+      return separatorLength == 1 ? string.indexOf(first, from) : string.indexOf(separator, from);
+    }
+    final int last = length - separatorLength;
+    for (int i = from; i <= last; i++) {
+      if (chars.charAt(i) != first) {
+        continue;
+      }
+      int j = 1;
+      while (j < separatorLength && chars.charAt(i + j) == separator.charAt(j)) {
+        j++;
+      }
+      if (j == separatorLength) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기가 제한된 동시성 문자열 정규화(canonicalization) 풀
+ * <p>
+ * 국가코드, enum 성격의 값, 헤더명처럼 반복되는 짧은 문자열을 하나의 인스턴스로 공유하여 힙 사용량을 줄인다.
+ * {@link String#intern()}과 달리 크기가 제한되며, 문자 범위(char range)로 조회하므로 hit인 경우 할당이 발생하지 않는다.
+ * <p>
+ * 내부는 4-way set associative 테이블이며 set이 가득 차면 사용빈도가 가장 낮은 문자열을 교체한다.
+ * 교체가 일어날 때마다 같은 set의 사용빈도를 절반으로 줄여 오래된 인기 문자열이 계속 남지 않도록 한다.
+ * 동시 접근시 빈도 계산이나 교체가 일부 유실될 수 있으나 반환값은 항상 입력과 같은 내용의 문자열이다.
+ *
+ * @since 0.2.28
+ */
+public final class StringPool {
+  private static final int WAYS = 4;
+  private static final int MAX_FREQUENCY = 1 << 16;
+  private static final int DEFAULT_MAX_LENGTH = 64;
+
+  private final AtomicReferenceArray<Entry> table;
+  private final int mask;
+  private final int maxLength;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param capacity 최대 문자열 수 (4의 배수인 2의 거듭제곱으로 올림)
+   */
+  public StringPool(int capacity) {
+    this(capacity, DEFAULT_MAX_LENGTH);
+  }
+
+  /**
+   * @param capacity 최대 문자열 수 (4의 배수인 2의 거듭제곱으로 올림)
+   * @param maxLength 풀에 보관할 문자열의 최대길이, 더 긴 문자열은 보관하지 않는다
+   */
+  public StringPool(int capacity, int maxLength) {
+    if (capacity <= 0 || capacity > 1 << 28) {
+      throw new IllegalParameterException("0 < capacity <= 2^28");
+    }
+    if (maxLength <= 0) {
+      throw new IllegalParameterException("maxLength > 0");
+    }
+    int required = (capacity + WAYS - 1) / WAYS;
+    int sets = required <= 1 ? 1 : Integer.highestOneBit(required - 1) << 1;
+    this.table = new AtomicReferenceArray<>(sets * WAYS);
+    this.mask = sets - 1;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * 정규화된 문자열 반환
+   *
+   * @param value 문자열
+   * @return 풀에 있는 같은 내용의 문자열, 없다면 value를 풀에 넣고 반환
+   */
+  public String intern(String value) {
+    if (value == null || value.length() > maxLength) {
+      return value;
+    }
+    int hash = value.hashCode();
+    int set = set(hash);
+    for (int i = set; i < set + WAYS; i++) {
+      Entry entry = table.get(i);
+      if (entry != null && entry.hash == hash && entry.value.equals(value)) {
+        return hit(entry);
+      }
+    }
+    return miss(set, hash, value);
+  }
+
+  /**
+   * 정규화된 문자열 반환
+   *
+   * @param chars 문자열
+   * @param start 시작 위치 (inclusive)
+   * @param end 끝 위치 (exclusive)
+   * @return 풀에 있는 같은 내용의 문자열, 없다면 새로 생성하여 풀에 넣고 반환
+   */
+  public String intern(CharSequence chars, int start, int end) {
+    Objects.requireNonNull(chars);
+    int length = end - start;
+    if (length > maxLength) {
+      return chars.subSequence(start, end).toString();
+    }
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + chars.charAt(i);
+    }
+    int set = set(hash);
+    for (int i = set; i < set + WAYS; i++) {
+      Entry entry = table.get(i);
+      if (entry != null && entry.hash == hash && regionEquals(entry.value, chars, start, length)) {
+        return hit(entry);
+      }
+    }
+    return miss(set, hash, chars.subSequence(start, end).toString());
+  }
+
+  /**
+   * 정규화된 문자열 반환
+   *
+   * @param chars 문자 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @return 풀에 있는 같은 내용의 문자열, 없다면 새로 생성하여 풀에 넣고 반환
+   */
+  public String intern(char[] chars, int offset, int length) {
+    Objects.requireNonNull(chars);
+    if (length > maxLength) {
+      return new String(chars, offset, length);
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    int set = set(hash);
+    for (int i = set; i < set + WAYS; i++) {
+      Entry entry = table.get(i);
+      if (entry != null && entry.hash == hash && regionEquals(entry.value, chars, offset, length)) {
+        return hit(entry);
+      }
+    }
+    return miss(set, hash, new String(chars, offset, length));
+  }
+
+  /**
+   * 조회 성공 횟수
+   *
+   * @return hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * 조회 실패 횟수
+   *
+   * @return miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 조회 성공률
+   *
+   * @return 0.0 ~ 1.0
+   */
+  public double hitRate() {
+    long hit = hits.sum();
+    long total = hit + misses.sum();
+    return total == 0 ? 0.0 : (double) hit / total;
+  }
+
+  /**
+   * 현재 보관중인 문자열 수
+   *
+   * @return 문자열 수
+   */
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < table.length(); i++) {
+      if (table.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * 최대 문자열 수
+   *
+   * @return capacity
+   */
+  public int capacity() {
+    return table.length();
+  }
+
+  private int set(int hash) {
+    return ((hash ^ (hash >>> 16)) & mask) * WAYS;
+  }
+
+  private String hit(Entry entry) {
+    if (entry.frequency < MAX_FREQUENCY) {
+      entry.frequency++;
+    }
+    hits.increment();
+    return entry.value;
+  }
+
+  private String miss(int set, int hash, String value) {
+    misses.increment();
+    int victim = set;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = set; i < set + WAYS; i++) {
+      Entry entry = table.get(i);
+      if (entry == null) {
+        victim = i;
+        frequency = -1;
+        break;
+      }
+      if (entry.frequency < frequency) {
+        victim = i;
+        frequency = entry.frequency;
+      }
+    }
+    if (frequency >= 0) {
+      // aging: 교체가 발생한 set의 빈도를 절반으로
+      for (int i = set; i < set + WAYS; i++) {
+        Entry entry = table.get(i);
+        if (entry != null) {
+          entry.frequency >>>= 1;
+        }
+      }
+    }
+    table.set(victim, new Entry(value, hash));
+    return value;
+  }
+
+  private static boolean regionEquals(String value, CharSequence chars, int start, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) != chars.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean regionEquals(String value, char[] chars, int offset, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) != chars[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Entry {
+    private final String value;
+    private final int hash;
+    private int frequency = 1;
+
+    private Entry(String value, int hash) {
+      this.value = value;
+      this.hash = hash;
+    }
+  }
+}
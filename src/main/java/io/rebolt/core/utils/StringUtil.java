@@ -20,11 +20,7 @@ package io.rebolt.core.utils;
 import io.rebolt.core.exceptions.IllegalParameterException;
 
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
+import java.io.IOException;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -32,7 +28,10 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -40,15 +39,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SplittableRandom;
-import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
 import static io.rebolt.core.constants.Constants.STRING_EMPTY;
-import static javafx.fxml.FXMLLoader.DEFAULT_CHARSET_NAME;
 
 public final class StringUtil {
-  private static final char[] hexDigits = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
-  private static final byte[] hexFilters = {0, 10, 11, 12, 13, 14, 15};
 
   /**
    * 기본값 반환
@@ -117,10 +118,11 @@ public final class StringUtil {
    *
    * @param value 숫자로된 문자열
    * @return true 또는 false
+   * @see CharMatcher#DIGIT
    * @since 0.1.0
    */
   public static boolean isNumeric(String value) {
-    return !isNullOrEmpty(value) && value.chars().noneMatch(entity -> entity < 48 || entity > 57);
+    return !isNullOrEmpty(value) && CharMatcher.DIGIT.matchesAll(value);
   }
   // endregion
 
@@ -130,23 +132,19 @@ public final class StringUtil {
    * HexString to ByteArray
    *
    * @param hexString Hex string
-   * @return Byte array
+   * @return Byte array, 홀수 길이이거나 hex 문자가 아닌 경우 empty
+   * @see HexUtil#decode(CharSequence)
    * @since 0.1.0
    */
   public static byte[] hexToByteArray(String hexString) {
     if (hexString == null || hexString.length() % 2 != 0) {
       return new byte[0];
     }
-    byte[] charBuffer = new byte[hexString.length() / 2];
-    int index;
-    int head, tail;
-    for (int i = 0; i < charBuffer.length; i++) {
-      index = i * 2;
-      head = hexString.charAt(index);
-      tail = hexString.charAt(index + 1);
-      charBuffer[i] = (byte) (((head & 0x40) == 0 ? head & 0x0f : hexFilters[head & 0x0f]) * 16 | ((tail & 0x40) == 0 ? tail & 0x0f : hexFilters[tail & 0x0f]));
+    try {
+      return HexUtil.decode(hexString);
+    } catch (IllegalParameterException e) {
+      return new byte[0];
     }
-    return charBuffer;
   }
 
   /**
@@ -154,21 +152,14 @@ public final class StringUtil {
    *
    * @param bytes Byte array
    * @return Hex string
+   * @see HexUtil#encode(byte[])
    * @since 0.1.0
    */
   public static String byteArrayToHex(byte[] bytes) {
     if (bytes == null || bytes.length == 0) {
       return STRING_EMPTY;
     }
-    int length = bytes.length;
-    char[] charBuffer = new char[length * 2];
-    int index;
-    for (int i = 0; i < length; i++) {
-      index = i * 2;
-      charBuffer[index] = hexDigits[(bytes[i] & 0xf0) >> 4];
-      charBuffer[index + 1] = hexDigits[bytes[i] & 0x0f];
-    }
-    return new String(charBuffer);
+    return HexUtil.encode(bytes);
   }
   // endregion
 
@@ -215,23 +206,46 @@ public final class StringUtil {
   // endregion
 
   // region toString
+
+  /**
+   * {@link Map}을 "key=value;" 형식의 문자열로 변환
+   *
+   * @param map 대상 {@link Map}
+   * @return 변환된 문자열, map이 null이면 empty
+   * @see MapRenderer
+   */
   public static String toString(Map<?, ?> map) {
-    StringBuilder builder = new StringBuilder();
-    ObjectUtil.nullGuard(map).forEach((key, value) ->
-        builder.append(key).append("=").append(value.getClass().isArray() ? join(",", (Object[]) value) : value).append(";"));
-    return builder.toString();
+    return MapRenderer.DEFAULT.render(map);
   }
   // endregion
 
   // region number
+
+  /**
+   * int를 big endian 바이트로 변환 (size가 4보다 크면 앞을 0으로 채운다)
+   *
+   * @param number 값
+   * @param size 바이트 수
+   * @return 바이트
+   * @see BinaryUtil#putInt(byte[], int, int)
+   */
+  @Deprecated
   public static byte[] intToBytes(int number, int size) {
     byte[] bytes = new byte[size];
-    for (int i = size - 1; i > 0; i--, number >>>= 8) {
+    for (int i = size - 1; i >= 0 && number != 0; i--, number >>>= 8) {
       bytes[i] = (byte) (number & 0xFF);
     }
     return bytes;
   }
 
+  /**
+   * big endian 바이트를 int로 변환
+   *
+   * @param bytes 바이트 (4바이트를 넘는 상위 바이트는 버려진다)
+   * @return 값
+   * @see BinaryUtil#getInt(byte[], int)
+   */
+  @Deprecated
   public static int bytesToInt(byte[] bytes) {
     int value = 0;
     int size = bytes.length;
@@ -247,34 +261,17 @@ public final class StringUtil {
   /**
    * {@link String} 타입 변환
    *
-   * @param value 데이터 값
-   * @param type 변환하고자 하는 클래스 타입
+   * @param value 데이터 값, null도 변환기에 그대로 전달한다 (Boolean은 false, 숫자 타입은 예외, String은 null)
+   * @param type 변환하고자 하는 클래스 타입 (primitive는 wrapper로 반환)
    * @param <T> 반환하고자 하는 클래스의 제네릭 타입
    * @return 변환된 클래스 인스턴스
+   * @throws IllegalParameterException 지원하지 않는 타입
+   * @see CastUtil
    * @since 0.1.0
    */
   public static <T> T cast(String value, Class<T> type) {
-    if (type.isPrimitive()) {
-      throw new IllegalParameterException("doesn't use primitive type: " + type);
-    }
-    switch (type.getSimpleName()) {
-      case "Integer":
-        return type.cast(Integer.valueOf(value));
-      case "Long":
-        return type.cast(Long.valueOf(value));
-      case "Boolean":
-        return type.cast(Boolean.valueOf(value));
-      case "Double":
-        return type.cast(Double.valueOf(value));
-      case "Float":
-        return type.cast(Float.valueOf(value));
-      case "Short":
-        return type.cast(Short.valueOf(value));
-      case "String":
-        return type.cast(value);
-      default:
-        return type.cast(String.valueOf(value));
-    }
+    // null을 그대로 전달하여 기존 동작을 유지한다 (CastUtil.cast는 null을 반환)
+    return CastUtil.converter(type).apply(value);
   }
   // endregion
 
@@ -303,13 +300,10 @@ public final class StringUtil {
   public static String join(String separator, Iterable<? extends CharSequence> iterables) {
     Objects.requireNonNull(separator);
     Objects.requireNonNull(iterables);
-    StringJoiner joiner = new StringJoiner(separator);
-    iterables.forEach(entry -> {
-      if (!Objects.isNull(entry)) {
-        joiner.add(entry);
-      }
-    });
-    return joiner.toString();
+    if (iterables instanceof Collection) {
+      return join(separator, ((Collection<? extends CharSequence>) iterables).toArray(new CharSequence[0]));
+    }
+    return join(separator, iterables.iterator());
   }
 
   /**
@@ -323,18 +317,15 @@ public final class StringUtil {
   public static String join(String separator, Iterator<? extends CharSequence> iterators) {
     Objects.requireNonNull(separator);
     Objects.requireNonNull(iterators);
-    StringJoiner joiner = new StringJoiner(separator);
-    while (iterators.hasNext()) {
-      CharSequence value = iterators.next();
-      if (!Objects.isNull(value)) {
-        joiner.add(value);
-      }
-    }
-    return joiner.toString();
+    List<CharSequence> values = new ArrayList<>();
+    iterators.forEachRemaining(values::add);
+    return join(separator, values.toArray(new CharSequence[0]));
   }
 
   /**
    * 문자열 합치기 (skip nulls)
+   * <p>
+   * null을 제외한 후 {@link String#join(CharSequence, CharSequence...)}에 위임한다.
    *
    * @param separator 구분자
    * @param values 대상 인스턴스 목록
@@ -344,13 +335,23 @@ public final class StringUtil {
   public static String join(String separator, CharSequence... values) {
     Objects.requireNonNull(separator);
     Objects.requireNonNull(values);
-    StringJoiner joiner = new StringJoiner(separator);
+    int count = 0;
     for (CharSequence value : values) {
-      if (!Objects.isNull(value)) {
-        joiner.add(value);
+      if (value != null) {
+        count++;
       }
     }
-    return joiner.toString();
+    if (count == values.length) {
+      return String.join(separator, values);
+    }
+    CharSequence[] nonNulls = new CharSequence[count];
+    int index = 0;
+    for (CharSequence value : values) {
+      if (value != null) {
+        nonNulls[index++] = value;
+      }
+    }
+    return String.join(separator, nonNulls);
   }
 
   /**
@@ -363,13 +364,164 @@ public final class StringUtil {
   public static String join(String separator, Object[] values) {
     Objects.requireNonNull(separator);
     Objects.requireNonNull(values);
-    StringJoiner joiner = new StringJoiner(separator);
-    for (Object value : values) {
-      if (!Objects.isNull(value)) {
-        joiner.add(value.toString());
+    CharSequence[] strings = new CharSequence[values.length];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] != null) {
+        strings[i] = values[i].toString();
+      }
+    }
+    return join(separator, strings);
+  }
+
+  /**
+   * 문자열 합치기 (skip nulls), 결과를 builder에 추가한다
+   *
+   * @param builder 결과를 추가할 {@link StringBuilder}
+   * @param separator 구분자
+   * @param values 대상 인스턴스 목록
+   * @return builder
+   * @since 0.2.28
+   */
+  public static StringBuilder joinTo(StringBuilder builder, String separator, CharSequence... values) {
+    Objects.requireNonNull(builder);
+    Objects.requireNonNull(separator);
+    Objects.requireNonNull(values);
+    builder.ensureCapacity(builder.length() + joinLength(separator, values));
+    boolean first = true;
+    for (CharSequence value : values) {
+      if (value != null) {
+        if (!first) {
+          builder.append(separator);
+        }
+        builder.append(value);
+        first = false;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * 문자열 합치기 (skip nulls), 결과를 builder에 추가한다
+   *
+   * @param builder 결과를 추가할 {@link StringBuilder}
+   * @param separator 구분자
+   * @param iterables 대상 인스턴스 목록 {@link Iterable}
+   * @return builder
+   * @since 0.2.28
+   */
+  public static StringBuilder joinTo(StringBuilder builder, String separator, Iterable<? extends CharSequence> iterables) {
+    Objects.requireNonNull(builder);
+    Objects.requireNonNull(separator);
+    Objects.requireNonNull(iterables);
+    if (iterables instanceof Collection) {
+      // 한번만 순회할 수 있는 Iterable은 크기를 미리 계산하지 않는다
+      builder.ensureCapacity(builder.length() + joinLength(separator, iterables.iterator()));
+    }
+    boolean first = true;
+    for (CharSequence value : iterables) {
+      if (value != null) {
+        if (!first) {
+          builder.append(separator);
+        }
+        builder.append(value);
+        first = false;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * 문자열 합치기 (skip nulls), 결과를 appendable에 추가한다
+   *
+   * @param appendable 결과를 추가할 {@link Appendable}
+   * @param separator 구분자
+   * @param values 대상 인스턴스 목록
+   * @param <A> {@link Appendable} 타입
+   * @return appendable
+   * @throws IOException appendable 쓰기 실패
+   * @since 0.2.28
+   */
+  public static <A extends Appendable> A joinTo(A appendable, String separator, CharSequence... values) throws IOException {
+    Objects.requireNonNull(appendable);
+    Objects.requireNonNull(separator);
+    Objects.requireNonNull(values);
+    boolean first = true;
+    for (CharSequence value : values) {
+      if (value != null) {
+        if (!first) {
+          appendable.append(separator);
+        }
+        appendable.append(value);
+        first = false;
       }
     }
-    return joiner.toString();
+    return appendable;
+  }
+
+  /**
+   * 문자열 합치기 (skip nulls), 결과를 appendable에 추가한다
+   *
+   * @param appendable 결과를 추가할 {@link Appendable}
+   * @param separator 구분자
+   * @param iterables 대상 인스턴스 목록 {@link Iterable}
+   * @param <A> {@link Appendable} 타입
+   * @return appendable
+   * @throws IOException appendable 쓰기 실패
+   * @since 0.2.28
+   */
+  public static <A extends Appendable> A joinTo(A appendable, String separator, Iterable<? extends CharSequence> iterables) throws IOException {
+    Objects.requireNonNull(appendable);
+    Objects.requireNonNull(separator);
+    Objects.requireNonNull(iterables);
+    boolean first = true;
+    for (CharSequence value : iterables) {
+      if (value != null) {
+        if (!first) {
+          appendable.append(separator);
+        }
+        appendable.append(value);
+        first = false;
+      }
+    }
+    return appendable;
+  }
+
+  /**
+   * null을 제외한 합치기 결과 길이
+   */
+  private static int joinLength(String separator, CharSequence[] values) {
+    long length = 0;
+    int count = 0;
+    for (CharSequence value : values) {
+      if (value != null) {
+        length += value.length();
+        count++;
+      }
+    }
+    return joinLength(separator, length, count);
+  }
+
+  private static int joinLength(String separator, Iterator<? extends CharSequence> iterator) {
+    long length = 0;
+    int count = 0;
+    while (iterator.hasNext()) {
+      CharSequence value = iterator.next();
+      if (value != null) {
+        length += value.length();
+        count++;
+      }
+    }
+    return joinLength(separator, length, count);
+  }
+
+  private static int joinLength(String separator, long length, int count) {
+    if (count > 1) {
+      length += (long) separator.length() * (count - 1);
+    }
+    if (length > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("joined length exceeds " + Integer.MAX_VALUE);
+    }
+    return (int) length;
   }
 
   // endregion
@@ -452,6 +604,77 @@ public final class StringUtil {
     return list.subList(0, resultSize);
   }
 
+  /**
+   * 문자열 나누기 (skip empty, trim)
+   * <p>
+   * 같은 구분자를 반복해서 사용한다면 {@link Splitter}를 상수로 만들어 재사용한다.
+   *
+   * @param separator 구분자 문자열
+   * @param string 문자열
+   * @return 나누어진 문자열 목록
+   * @since 0.2.28
+   */
+  public static List<String> split(String separator, String string) {
+    return split(separator, string, 0);
+  }
+
+  /**
+   * 문자열 나누기 (skip empty, trim)
+   *
+   * @param separator 구분자 문자열
+   * @param string 문자열
+   * @param limit 결과물 목록수 (0: unlimit), 마지막 결과에는 나머지 문자열이 포함된다
+   * @return 나누어진 문자열 목록
+   * @since 0.2.28
+   */
+  public static List<String> split(String separator, String string, int limit) {
+    return Splitter.on(separator).trimResults().omitEmptyStrings().limit(limit).split(string);
+  }
+
+  /**
+   * 문자열 나누기 커서 (zero allocation)
+   *
+   * @param separator 구분자
+   * @param chars 문자열
+   * @return {@link SplitCursor}
+   * @since 0.2.28
+   */
+  public static SplitCursor splitCursor(char separator, CharSequence chars) {
+    return new SplitCursor(separator, chars, 0, false);
+  }
+
+  /**
+   * 문자열 나누기 커서 (zero allocation)
+   * <p>
+   * 토큰 규칙은 {@link #split(char, String, int, boolean)}와 같다.
+   *
+   * @param separator 구분자
+   * @param chars 문자열
+   * @param limit 결과물 목록수 (0: unlimit)
+   * @param remain 마지막 결과에 나머지 문자열 추가여부
+   * @return {@link SplitCursor}
+   * @since 0.2.28
+   */
+  public static SplitCursor splitCursor(char separator, CharSequence chars, int limit, boolean remain) {
+    return new SplitCursor(separator, chars, limit, remain);
+  }
+
+  /**
+   * 문자열 나누기 {@link Stream}
+   * <p>
+   * 토큰 규칙은 {@link #split(char, String)}와 같다 (마지막 구분자 뒤의 토큰은 trim하지 않는다).
+   * 병렬 스트림은 구분자 위치에서 입력을 나누어 fork-join pool에서 처리한다.
+   *
+   * @param separator 구분자
+   * @param chars 문자열
+   * @param parallel 병렬 스트림 여부
+   * @return 토큰 {@link Stream}
+   * @since 0.2.28
+   */
+  public static Stream<CharSequence> splitStream(char separator, CharSequence chars, boolean parallel) {
+    return StreamSupport.stream(new SplitSpliterator(separator, chars), parallel);
+  }
+
   // endregion
 
   // region trim
@@ -496,47 +719,38 @@ public final class StringUtil {
    * Url 인코딩 (UTF-8)
    *
    * @param url 인코딩할 Url 문자열
-   * @return 인코딩된 문자열
+   * @return 인코딩된 문자열, 인코딩할 문자가 없다면 url 그대로
+   * @see UrlCodec#FORM
    * @since 0.1.0
    */
   public static String encodeUrl(String url) {
     if (StringUtil.isNullOrEmpty(url)) {
       return url;
     }
-    String encodedUrl;
-    try {
-      encodedUrl = URLEncoder.encode(url, DEFAULT_CHARSET_NAME);
-    } catch (UnsupportedEncodingException e) {
-      encodedUrl = url;
-    }
-    return encodedUrl;
+    return UrlCodec.FORM.encode(url);
   }
 
   /**
    * Url 디코딩 (UTF-8)
    *
    * @param encodedUrl Url 인코딩된 문자열
-   * @return 디코딩된 문자열
+   * @return 디코딩된 문자열, 디코딩할 문자가 없다면 encodedUrl 그대로
+   * @throws IllegalParameterException "%XX" 형식이 잘못된 경우
+   * @see UrlCodec#FORM
    * @since 0.1.0
    */
   public static String decodeUrl(String encodedUrl) {
     if (StringUtil.isNullOrEmpty(encodedUrl)) {
       return encodedUrl;
     }
-    String url;
-    try {
-      url = URLDecoder.decode(encodedUrl, DEFAULT_CHARSET_NAME);
-    } catch (UnsupportedEncodingException e) {
-      url = encodedUrl;
-    }
-    return url;
+    return UrlCodec.FORM.decode(encodedUrl);
   }
 
   // endregion
 
   // region base64 encode/decode
   public static String encodeBase64(final String message) {
-    return new String(encodeBase64Bytes(message), CHARSET_UTF8);
+    return encodeBase64String(message.getBytes(CHARSET_UTF8));
   }
 
   public static byte[] encodeBase64(final byte[] message) {
@@ -544,7 +758,7 @@ public final class StringUtil {
   }
 
   public static byte[] encodeBase64Bytes(final String message) {
-    return encodeBase64(message.getBytes());
+    return encodeBase64(message.getBytes(CHARSET_UTF8));
   }
 
   public static String encodeBase64String(final byte[] message) {
@@ -561,47 +775,182 @@ public final class StringUtil {
   // endregion
 
   // region rsa1024
+  private static final String TRANSFORMATION_RSA = "RSA";
   private static final Object _rsaLock = new Object();
-  private static Cipher rsaCipher;
   private static KeyFactory rsaKeyFactory;
+  private static final int RSA_KEY_PAIR_CACHE_SIZE = 64;
+  private static final BoundedCache<RsaKeyBytes, KeyPair> rsaKeyPairs = new BoundedCache<>(RSA_KEY_PAIR_CACHE_SIZE);
   private static KeyPair rsaDefaultKeyPair;
 
   public static String encryptRsa(final PublicKey publicKey, final String plainText) {
     try {
-      if (rsaCipher == null) {
-        synchronized (_rsaLock) {
-          if (rsaCipher == null) {
-            rsaCipher = Cipher.getInstance("RSA");
-          }
-        }
-      }
-      rsaCipher.init(Cipher.ENCRYPT_MODE, publicKey);
-      byte[] cipherText = rsaCipher.doFinal(plainText.getBytes());
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_RSA, Cipher.ENCRYPT_MODE, publicKey);
+      byte[] cipherText = cipher.doFinal(plainText.getBytes());
       return encodeBase64String(cipherText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
       return plainText;
     }
   }
 
   public static String decryptRsa(final PrivateKey privateKey, final String cipherText) {
     try {
-      if (rsaCipher == null) {
-        synchronized (_rsaLock) {
-          if (rsaCipher == null) {
-            rsaCipher = Cipher.getInstance("RSA");
-          }
-        }
-      }
-      rsaCipher.init(Cipher.DECRYPT_MODE, privateKey);
-      byte[] plainText = rsaCipher.doFinal(decodeBase64Bytes(cipherText));
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_RSA, Cipher.DECRYPT_MODE, privateKey);
+      byte[] plainText = cipher.doFinal(decodeBase64Bytes(cipherText));
       return new String(plainText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
+      return cipherText;
+    }
+  }
+
+  /**
+   * RSA 일괄 암호화
+   * <p>
+   * 목록을 나누어 {@link ForkJoinPool#commonPool()}에서 병렬로 암호화한다.
+   *
+   * @param publicKey RSA 공개키
+   * @param plainTexts 평문 목록
+   * @return 순서가 같은 암호문 목록, 실패한 항목은 평문
+   * @see #encryptRsa(PublicKey, List, Executor)
+   * @since 0.2.28
+   */
+  public static List<String> encryptRsa(final PublicKey publicKey, final List<String> plainTexts) {
+    return encryptRsa(publicKey, plainTexts, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * RSA 일괄 암호화
+   * <p>
+   * 목록을 executor의 병렬도에 맞추어 나누고 각 조각을 executor에서 암호화한다.
+   * {@link Cipher}는 {@link CipherProvider}로 스레드마다 하나씩 사용하므로 스레드간 잠금이 없다.
+   *
+   * @param publicKey RSA 공개키
+   * @param plainTexts 평문 목록
+   * @param executor 암호화를 실행할 {@link Executor}
+   * @return 순서가 같은 암호문 목록, 실패한 항목은 평문
+   * @since 0.2.28
+   */
+  public static List<String> encryptRsa(final PublicKey publicKey, final List<String> plainTexts,
+                                        final Executor executor) {
+    return processRsa(plainTexts, executor, plainText -> encryptRsa(publicKey, plainText));
+  }
+
+  /**
+   * RSA 일괄 복호화
+   * <p>
+   * 목록을 나누어 {@link ForkJoinPool#commonPool()}에서 병렬로 복호화한다.
+   *
+   * @param privateKey RSA 개인키
+   * @param cipherTexts 암호문 목록
+   * @return 순서가 같은 평문 목록, 실패한 항목은 암호문
+   * @see #decryptRsa(PrivateKey, List, Executor)
+   * @since 0.2.28
+   */
+  public static List<String> decryptRsa(final PrivateKey privateKey, final List<String> cipherTexts) {
+    return decryptRsa(privateKey, cipherTexts, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * RSA 일괄 복호화
+   * <p>
+   * 목록을 executor의 병렬도에 맞추어 나누고 각 조각을 executor에서 복호화한다.
+   * {@link Cipher}는 {@link CipherProvider}로 스레드마다 하나씩 사용하므로 스레드간 잠금이 없다.
+   *
+   * @param privateKey RSA 개인키
+   * @param cipherTexts 암호문 목록
+   * @param executor 복호화를 실행할 {@link Executor}
+   * @return 순서가 같은 평문 목록, 실패한 항목은 암호문
+   * @since 0.2.28
+   */
+  public static List<String> decryptRsa(final PrivateKey privateKey, final List<String> cipherTexts,
+                                        final Executor executor) {
+    return processRsa(cipherTexts, executor, cipherText -> decryptRsa(privateKey, cipherText));
+  }
+
+  private static List<String> processRsa(final List<String> values, final Executor executor,
+                                         final UnaryOperator<String> operator) {
+    Objects.requireNonNull(values);
+    Objects.requireNonNull(executor);
+    final int size = values.size();
+    final String[] results = new String[size];
+    int parallelism = executor instanceof ForkJoinPool
+        ? ((ForkJoinPool) executor).getParallelism()
+        : Runtime.getRuntime().availableProcessors();
+    // 작업 편차를 줄이기 위해 병렬도보다 조금 잘게 나눈다
+    int chunks = Math.min(size, parallelism * 4);
+    if (chunks <= 1) {
+      for (int i = 0; i < size; i++) {
+        results[i] = operator.apply(values.get(i));
+      }
+      return Arrays.asList(results);
+    }
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      final int from = (int) ((long) size * chunk / chunks);
+      final int to = (int) ((long) size * (chunk + 1) / chunks);
+      futures[chunk] = CompletableFuture.runAsync(() -> {
+        for (int i = from; i < to; i++) {
+          results[i] = operator.apply(values.get(i));
+        }
+      }, executor);
+    }
+    CompletableFuture.allOf(futures).join();
+    return Arrays.asList(results);
+  }
+
+  /**
+   * RSA + AES envelope 암호화, 평문의 크기 제한이 없다
+   *
+   * @param publicKey RSA 공개키
+   * @param plainText 평문
+   * @return Base64 envelope 메시지, 실패시 plainText
+   * @see Envelope
+   * @since 0.2.28
+   */
+  public static String encryptEnvelope(final PublicKey publicKey, final String plainText) {
+    try {
+      return encodeBase64String(Envelope.seal(publicKey, plainText.getBytes(CHARSET_UTF8)));
+    } catch (Exception ex) {
+      LogUtil.warn(ex);
+      return plainText;
+    }
+  }
+
+  /**
+   * RSA + AES envelope 복호화
+   *
+   * @param privateKey RSA 개인키
+   * @param cipherText Base64 envelope 메시지
+   * @return 평문, 실패시 cipherText
+   * @see Envelope
+   * @since 0.2.28
+   */
+  public static String decryptEnvelope(final PrivateKey privateKey, final String cipherText) {
+    try {
+      return new String(Envelope.open(privateKey, decodeBase64Bytes(cipherText)), CHARSET_UTF8);
+    } catch (Exception ex) {
+      LogUtil.warn(ex);
       return cipherText;
     }
   }
 
+  /**
+   * 인코딩된 키로 RSA {@link KeyPair} 생성
+   * <p>
+   * 생성한 {@link KeyPair}는 키 바이트 별로 캐시하므로 같은 키를 반복해서 요청하면 스펙 파싱 없이 같은 인스턴스를 반환한다.
+   *
+   * @param publicKeyBytes X509 인코딩 공개키
+   * @param privateKeyBytes PKCS8 인코딩 개인키
+   * @return {@link KeyPair}, 실패시 {@link #getDefaultKeyPairRsa()}
+   */
   public static KeyPair createKeyPairRsa(final byte[] publicKeyBytes, final byte[] privateKeyBytes) {
     try {
+      RsaKeyBytes cacheKey = new RsaKeyBytes(publicKeyBytes, privateKeyBytes);
+      KeyPair keyPair = rsaKeyPairs.get(cacheKey);
+      if (keyPair != null) {
+        return keyPair;
+      }
       if (rsaKeyFactory == null) {
         synchronized (_rsaLock) {
           if (rsaKeyFactory == null) {
@@ -613,7 +962,9 @@ public final class StringUtil {
       PublicKey publicKey = rsaKeyFactory.generatePublic(publicKeySpec);
       PKCS8EncodedKeySpec privateKeySpec = new PKCS8EncodedKeySpec(privateKeyBytes);
       PrivateKey privateKey = rsaKeyFactory.generatePrivate(privateKeySpec);
-      return new KeyPair(publicKey, privateKey);
+      // 호출자가 배열을 바꾸어도 캐시 키가 변하지 않도록 복사하여 보관한다
+      return rsaKeyPairs.put(new RsaKeyBytes(publicKeyBytes.clone(), privateKeyBytes.clone()),
+          new KeyPair(publicKey, privateKey));
     } catch (Exception ex) {
       return getDefaultKeyPairRsa();
     }
@@ -643,86 +994,101 @@ public final class StringUtil {
     }
     return rsaDefaultKeyPair;
   }
+
+  /**
+   * {@link KeyPair} 캐시 키
+   */
+  private static final class RsaKeyBytes {
+    private final byte[] publicKeyBytes;
+    private final byte[] privateKeyBytes;
+    private final int hash;
+
+    private RsaKeyBytes(byte[] publicKeyBytes, byte[] privateKeyBytes) {
+      this.publicKeyBytes = Objects.requireNonNull(publicKeyBytes);
+      this.privateKeyBytes = Objects.requireNonNull(privateKeyBytes);
+      this.hash = 31 * Arrays.hashCode(publicKeyBytes) + Arrays.hashCode(privateKeyBytes);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof RsaKeyBytes)) {
+        return false;
+      }
+      RsaKeyBytes other = (RsaKeyBytes) object;
+      return hash == other.hash
+          && Arrays.equals(publicKeyBytes, other.publicKeyBytes)
+          && Arrays.equals(privateKeyBytes, other.privateKeyBytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
   // endregion
 
   // region aes128
-  private static final Object _aesLock = new Object();
-  private static Cipher aesCbcCipher;
-  private static Cipher aesCtrCipher;
+  private static final String TRANSFORMATION_AES_CBC = "AES/CBC/PKCS5Padding";
+  // CTR은 스트림 모드이므로 패딩을 지원하지 않는다
+  private static final String TRANSFORMATION_AES_CTR = "AES/CTR/NoPadding";
 
   public static String encryptAesCbc(final byte[] key, final String plainText) {
     try {
-      if (aesCbcCipher == null) {
-        synchronized (_aesLock) {
-          if (aesCbcCipher == null) {
-            aesCbcCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-          }
-        }
-      }
-      SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
-      IvParameterSpec ivParameterSpec = new IvParameterSpec(secretKey.getEncoded());
-      aesCbcCipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
-      byte[] cipherText = aesCbcCipher.doFinal(plainText.getBytes());
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_AES_CBC, Cipher.ENCRYPT_MODE, key, key);
+      byte[] cipherText = cipher.doFinal(plainText.getBytes());
       return encodeBase64String(cipherText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
+      CipherProvider.clear();
       return plainText;
     }
   }
 
   public static String decryptAesCbc(final byte[] key, final String cipherText) {
     try {
-      if (aesCbcCipher == null) {
-        synchronized (_aesLock) {
-          if (aesCbcCipher == null) {
-            aesCbcCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-          }
-        }
-      }
-      SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
-      IvParameterSpec ivParameterSpec = new IvParameterSpec(secretKey.getEncoded());
-      aesCbcCipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
-      byte[] plainText = aesCbcCipher.doFinal(decodeBase64Bytes(cipherText));
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_AES_CBC, Cipher.DECRYPT_MODE, key, key);
+      byte[] plainText = cipher.doFinal(decodeBase64Bytes(cipherText));
       return new String(plainText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
+      CipherProvider.clear();
       return cipherText;
     }
   }
 
   public static String encryptAesCtr(final byte[] key, final String plainText, final int counter) {
     try {
-      if (aesCtrCipher == null) {
-        synchronized (_aesLock) {
-          if (aesCtrCipher == null) {
-            aesCtrCipher = Cipher.getInstance("AES/CTR/PKCS5Padding");
-          }
-        }
-      }
-      SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
-      aesCtrCipher.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(intToBytes(counter, 16)));
-      byte[] cipherText = aesCtrCipher.doFinal(plainText.getBytes());
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_AES_CTR, Cipher.ENCRYPT_MODE, key, counterBlock(counter));
+      byte[] cipherText = cipher.doFinal(plainText.getBytes());
       return encodeBase64String(cipherText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
+      CipherProvider.clear();
       return plainText;
     }
   }
 
   public static String decryptAesCtr(final byte[] key, final String cipherText, final int counter) {
     try {
-      if (aesCtrCipher == null) {
-        synchronized (_aesLock) {
-          if (aesCtrCipher == null) {
-            aesCtrCipher = Cipher.getInstance("AES/CTR/PKCS5Padding");
-          }
-        }
-      }
-      SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
-      aesCtrCipher.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(intToBytes(counter, 16)));
-      byte[] plainText = aesCtrCipher.doFinal(decodeBase64Bytes(cipherText));
+      Cipher cipher = CipherProvider.init(TRANSFORMATION_AES_CTR, Cipher.DECRYPT_MODE, key, counterBlock(counter));
+      byte[] plainText = cipher.doFinal(decodeBase64Bytes(cipherText));
       return new String(plainText);
     } catch (Exception ex) {
+      LogUtil.warn(ex);
+      CipherProvider.clear();
       return cipherText;
     }
   }
+
+  // 16바이트 counter block, 마지막 4바이트에 counter (big endian)
+  private static byte[] counterBlock(int counter) {
+    byte[] block = new byte[16];
+    BinaryUtil.putInt(block, 12, counter);
+    return block;
+  }
   // endregion
 
   // region uri
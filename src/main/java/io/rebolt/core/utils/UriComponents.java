@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import java.util.Objects;
+
+/**
+ * Uri 구성요소의 위치
+ * <p>
+ * RFC 3986의 구조(scheme ":" ["//" authority] path ["?" query] ["#" fragment])를 한번의 순회로 나누어
+ * 각 구성요소의 시작, 끝 위치만 기록한다. 구성요소 문자열은 요청할 때 만들며,
+ * 위치를 사용하면 문자열을 만들지 않고 원본과 직접 비교할 수 있다.
+ * {@link java.net.URI}와 달리 문자 단위의 문법 검사는 하지 않고, 공백과 제어 문자, 잘못된 port만 거부한다.
+ * <p>
+ * 예)
+ * {@code
+ * UriComponents uri = UriComponents.parse("https://user@Nexon.com:8080/forum?id=1#top");
+ * uri.scheme(); // "https"
+ * uri.host(); // "Nexon.com"
+ * uri.port(); // 8080
+ * uri.path(); // "/forum"
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class UriComponents {
+  private final String source;
+  private final int schemeEnd;
+  private final int authorityStart;
+  private final int authorityEnd;
+  private final int hostStart;
+  private final int hostEnd;
+  private final int port;
+  private final int pathEnd;
+  private final int queryEnd;
+
+  private UriComponents(String source, int schemeEnd, int authorityStart, int authorityEnd, int hostStart,
+                        int hostEnd, int port, int pathEnd, int queryEnd) {
+    this.source = source;
+    this.schemeEnd = schemeEnd;
+    this.authorityStart = authorityStart;
+    this.authorityEnd = authorityEnd;
+    this.hostStart = hostStart;
+    this.hostEnd = hostEnd;
+    this.port = port;
+    this.pathEnd = pathEnd;
+    this.queryEnd = queryEnd;
+  }
+
+  /**
+   * Uri 파싱
+   *
+   * @param uri 웹주소
+   * @return {@link UriComponents}, 공백이나 제어 문자가 있거나 port가 잘못된 경우 null
+   */
+  public static UriComponents parse(String uri) {
+    Objects.requireNonNull(uri);
+    final int length = uri.length();
+    for (int i = 0; i < length; i++) {
+      char c = uri.charAt(i);
+      if (c <= ' ' || c == 0x7f) {
+        return null;
+      }
+    }
+
+    // scheme
+    int schemeEnd = -1;
+    if (length > 0 && isAlpha(uri.charAt(0))) {
+      for (int i = 1; i < length; i++) {
+        char c = uri.charAt(i);
+        if (c == ':') {
+          schemeEnd = i;
+          break;
+        }
+        if (!isAlpha(c) && !(c >= '0' && c <= '9') && c != '+' && c != '-' && c != '.') {
+          break;
+        }
+      }
+    }
+
+    // authority
+    int index = schemeEnd + 1;
+    int authorityStart = -1;
+    int authorityEnd = -1;
+    int hostStart = -1;
+    int hostEnd = -1;
+    int port = -1;
+    if (index + 1 < length && uri.charAt(index) == '/' && uri.charAt(index + 1) == '/') {
+      authorityStart = index + 2;
+      authorityEnd = authorityStart;
+      int at = -1;
+      while (authorityEnd < length) {
+        char c = uri.charAt(authorityEnd);
+        if (c == '/' || c == '?' || c == '#') {
+          break;
+        }
+        if (c == '@') {
+          at = authorityEnd;
+        }
+        authorityEnd++;
+      }
+      hostStart = at == -1 ? authorityStart : at + 1;
+      hostEnd = authorityEnd;
+      if (hostStart < authorityEnd && uri.charAt(hostStart) == '[') {
+        // IPv6
+        int close = uri.indexOf(']', hostStart);
+        if (close == -1 || close >= authorityEnd) {
+          return null;
+        }
+        hostEnd = close + 1;
+      } else {
+        int colon = uri.lastIndexOf(':', authorityEnd - 1);
+        if (colon >= hostStart) {
+          hostEnd = colon;
+        }
+      }
+      if (hostEnd < authorityEnd) {
+        if (uri.charAt(hostEnd) != ':') {
+          return null;
+        }
+        if (hostEnd + 1 < authorityEnd) {
+          port = parsePort(uri, hostEnd + 1, authorityEnd);
+          if (port == -1) {
+            return null;
+          }
+        }
+      }
+      index = authorityEnd;
+    }
+
+    // path, query
+    int pathEnd = index;
+    while (pathEnd < length) {
+      char c = uri.charAt(pathEnd);
+      if (c == '?' || c == '#') {
+        break;
+      }
+      pathEnd++;
+    }
+    int queryEnd = pathEnd;
+    if (pathEnd < length && uri.charAt(pathEnd) == '?') {
+      int fragment = uri.indexOf('#', pathEnd);
+      queryEnd = fragment == -1 ? length : fragment;
+    }
+    return new UriComponents(uri, schemeEnd, authorityStart, authorityEnd, hostStart, hostEnd, port, pathEnd, queryEnd);
+  }
+
+  private static boolean isAlpha(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static int parsePort(String uri, int start, int end) {
+    if (end - start > 5) {
+      return -1;
+    }
+    int port = 0;
+    for (int i = start; i < end; i++) {
+      char c = uri.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      port = port * 10 + (c - '0');
+    }
+    return port > 65535 ? -1 : port;
+  }
+
+  // region offsets
+
+  /**
+   * @return 원본 문자열
+   */
+  public String source() {
+    return source;
+  }
+
+  /**
+   * @return scheme 끝 위치 (':' 위치), 없다면 -1
+   */
+  public int schemeEnd() {
+    return schemeEnd;
+  }
+
+  /**
+   * @return authority 시작 위치 ("//" 다음), 없다면 -1
+   */
+  public int authorityStart() {
+    return authorityStart;
+  }
+
+  /**
+   * @return authority 끝 위치 (exclusive), 없다면 -1
+   */
+  public int authorityEnd() {
+    return authorityEnd;
+  }
+
+  /**
+   * @return host 시작 위치, 없다면 -1
+   */
+  public int hostStart() {
+    return hostStart;
+  }
+
+  /**
+   * @return host 끝 위치 (exclusive), 없다면 -1
+   */
+  public int hostEnd() {
+    return hostEnd;
+  }
+
+  /**
+   * @return path 시작 위치
+   */
+  public int pathStart() {
+    return authorityEnd == -1 ? schemeEnd + 1 : authorityEnd;
+  }
+
+  /**
+   * @return path 끝 위치 (exclusive)
+   */
+  public int pathEnd() {
+    return pathEnd;
+  }
+
+  /**
+   * @return query 시작 위치 ('?' 다음), 없다면 -1
+   */
+  public int queryStart() {
+    return queryEnd == pathEnd ? -1 : pathEnd + 1;
+  }
+
+  /**
+   * @return query 끝 위치 (exclusive), 없다면 -1
+   */
+  public int queryEnd() {
+    return queryEnd == pathEnd ? -1 : queryEnd;
+  }
+
+  /**
+   * @return fragment 시작 위치 ('#' 다음), 없다면 -1
+   */
+  public int fragmentStart() {
+    return queryEnd < source.length() ? queryEnd + 1 : -1;
+  }
+
+  // endregion
+
+  // region components
+
+  /**
+   * @return scheme, 없다면 null
+   */
+  public String scheme() {
+    return schemeEnd == -1 ? null : source.substring(0, schemeEnd);
+  }
+
+  /**
+   * @return authority (userinfo, port 포함), 없다면 null
+   */
+  public String authority() {
+    return authorityStart == -1 ? null : source.substring(authorityStart, authorityEnd);
+  }
+
+  /**
+   * @return host (대소문자 유지, IPv6는 '[', ']' 포함), 없거나 비어있다면 null
+   */
+  public String host() {
+    return hasHost() ? source.substring(hostStart, hostEnd) : null;
+  }
+
+  /**
+   * @return host가 있고 비어있지 않다면 true
+   */
+  public boolean hasHost() {
+    return hostStart != -1 && hostStart < hostEnd;
+  }
+
+  /**
+   * @return port, 없다면 -1
+   */
+  public int port() {
+    return port;
+  }
+
+  /**
+   * @return path, 없다면 빈 문자열
+   */
+  public String path() {
+    return source.substring(pathStart(), pathEnd);
+  }
+
+  /**
+   * @return query ('?' 제외), 없다면 null
+   */
+  public String query() {
+    return queryEnd == pathEnd ? null : source.substring(pathEnd + 1, queryEnd);
+  }
+
+  /**
+   * @return fragment ('#' 제외), 없다면 null
+   */
+  public String fragment() {
+    return queryEnd < source.length() ? source.substring(queryEnd + 1) : null;
+  }
+
+  // endregion
+
+  @Override
+  public String toString() {
+    return source;
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 Uri 템플릿
+ * <p>
+ * "/users/{id}/orders/{orderId}"와 같은 템플릿을 한번만 파싱하여 고정 문자열(literal)과 변수(slot)로 나누어 둔다.
+ * 확장시 변수 값의 인코딩된 길이를 먼저 계산하여 크기가 맞는 버퍼에 한번에 쓴다.
+ * 변수 값은 path에서는 {@link UrlCodec#PATH_SEGMENT}('/'도 인코딩), '?' 이후에서는 {@link UrlCodec#FORM}으로 인코딩한다.
+ * 여러 조각으로 컴파일하면 {@link UriUtil#combineUri(String, String...)}와 같이 조각 사이에 '/'가 하나만 오도록 합친다.
+ * 인스턴스는 불변이며 스레드에 안전하다.
+ * <p>
+ * 예)
+ * {@code
+ * UriTemplate template = UriTemplate.compile("https://api.nexon.com/", "/users/{id}/orders/{orderId}?lang={lang}");
+ * template.expand(1, "a/b", "ko"); // "https://api.nexon.com/users/1/orders/a%2Fb?lang=ko"
+ * }
+ *
+ * @since 0.2.28
+ */
+public final class UriTemplate {
+  private final String template;
+  // literals.length == slots.length + 1, literals[i] 다음에 slots[i]가 온다
+  private final String[] literals;
+  // slot 별 변수 순서 (names 기준)
+  private final int[] slots;
+  private final UrlCodec[] codecs;
+  private final List<String> names;
+  private final int literalLength;
+
+  private UriTemplate(String template, String[] literals, int[] slots, UrlCodec[] codecs, List<String> names) {
+    this.template = template;
+    this.literals = literals;
+    this.slots = slots;
+    this.codecs = codecs;
+    this.names = names;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalLength = length;
+  }
+
+  /**
+   * 템플릿 컴파일
+   *
+   * @param first 템플릿 (또는 첫번째 조각)
+   * @param parts 이어 붙일 조각
+   * @return {@link UriTemplate}
+   * @throws IllegalParameterException '{', '}'의 짝이 맞지 않거나 변수 이름이 비어있는 경우
+   */
+  public static UriTemplate compile(String first, String... parts) {
+    Objects.requireNonNull(first);
+    final String template = parts.length == 0 ? first : UriUtil.combineUri(first, parts);
+    final int length = template.length();
+    List<String> literals = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    int[] slots = new int[4];
+    UrlCodec[] codecs = new UrlCodec[4];
+    int count = 0;
+    int query = template.indexOf('?');
+    int literalStart = 0;
+    for (int i = 0; i < length; i++) {
+      char c = template.charAt(i);
+      if (c == '}') {
+        throw new IllegalParameterException("unmatched '}' at " + i + ": " + template);
+      }
+      if (c != '{') {
+        continue;
+      }
+      int close = template.indexOf('}', i + 1);
+      if (close == -1) {
+        throw new IllegalParameterException("unclosed '{' at " + i + ": " + template);
+      }
+      String name = template.substring(i + 1, close).trim();
+      if (name.isEmpty() || name.indexOf('{') != -1) {
+        throw new IllegalParameterException("illegal variable at " + i + ": " + template);
+      }
+      if (count == slots.length) {
+        slots = Arrays.copyOf(slots, count << 1);
+        codecs = Arrays.copyOf(codecs, count << 1);
+      }
+      int index = names.indexOf(name);
+      if (index == -1) {
+        index = names.size();
+        names.add(name);
+      }
+      literals.add(template.substring(literalStart, i));
+      slots[count] = index;
+      codecs[count++] = query != -1 && i > query ? UrlCodec.FORM : UrlCodec.PATH_SEGMENT;
+      literalStart = close + 1;
+      i = close;
+    }
+    literals.add(template.substring(literalStart));
+    return new UriTemplate(template, literals.toArray(new String[0]), Arrays.copyOf(slots, count),
+        Arrays.copyOf(codecs, count), Collections.unmodifiableList(names));
+  }
+
+  /**
+   * 변수 이름 목록 (처음 나온 순서, 중복 제외)
+   *
+   * @return 변수 이름 목록
+   */
+  public List<String> names() {
+    return names;
+  }
+
+  /**
+   * 변수 값을 순서대로 넣어 확장
+   *
+   * @param values {@link #names()} 순서의 변수 값
+   * @return 확장된 uri
+   * @throws IllegalParameterException 변수 값의 수가 맞지 않거나 null인 경우
+   */
+  public String expand(Object... values) {
+    return build(toStrings(values));
+  }
+
+  /**
+   * 이름으로 변수 값을 넣어 확장
+   *
+   * @param values 변수 이름 별 값
+   * @return 확장된 uri
+   * @throws IllegalParameterException 변수 값이 없는 경우
+   */
+  public String expand(Map<String, ?> values) {
+    return build(toStrings(values));
+  }
+
+  /**
+   * 변수 값을 순서대로 넣어 target에 쓴다
+   *
+   * @param target 결과를 쓸 {@link Appendable}
+   * @param values {@link #names()} 순서의 변수 값
+   * @param <A> {@link Appendable} 타입
+   * @return target
+   * @throws IOException target 쓰기 오류
+   * @throws IllegalParameterException 변수 값의 수가 맞지 않거나 null인 경우
+   */
+  public <A extends Appendable> A expandTo(A target, Object... values) throws IOException {
+    write(target, toStrings(values));
+    return target;
+  }
+
+  private String build(String[] values) {
+    long length = literalLength;
+    for (int i = 0; i < slots.length; i++) {
+      String value = values[slots[i]];
+      length += codecs[i].encodedLength(value, 0, value.length());
+    }
+    if (length > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("uri length exceeds " + Integer.MAX_VALUE);
+    }
+    StringBuilder builder = new StringBuilder((int) length);
+    try {
+      write(builder, values);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  private void write(Appendable target, String[] values) throws IOException {
+    for (int i = 0; i < slots.length; i++) {
+      target.append(literals[i]);
+      String value = values[slots[i]];
+      codecs[i].encode(value, 0, value.length(), target);
+    }
+    target.append(literals[slots.length]);
+  }
+
+  private String[] toStrings(Object[] values) {
+    if (values.length != names.size()) {
+      throw new IllegalParameterException("expected " + names.size() + " values but " + values.length + ": " + template);
+    }
+    String[] strings = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) {
+        throw new IllegalParameterException("null value for {" + names.get(i) + "}: " + template);
+      }
+      strings[i] = values[i].toString();
+    }
+    return strings;
+  }
+
+  private String[] toStrings(Map<String, ?> values) {
+    String[] strings = new String[names.size()];
+    for (int i = 0; i < strings.length; i++) {
+      Object value = values.get(names.get(i));
+      if (value == null) {
+        throw new IllegalParameterException("no value for {" + names.get(i) + "}: " + template);
+      }
+      strings[i] = value.toString();
+    }
+    return strings;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
@@ -1,16 +1,19 @@
 package io.rebolt.core.utils;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.Arrays;
+import java.util.Locale;
 
 import static io.rebolt.core.constants.Constants.CHARACTER_SLASH;
 import static io.rebolt.core.constants.Constants.STRING_EMPTY;
 
 public final class UriUtil {
 
+  private static final String WWW = "www.";
+
   /**
    * Host (도메인) 동일 여부
+   * <p>
+   * 대소문자를 구분하지 않으며, 앞의 "www."는 무시한다.
+   * 같은 uri를 반복해서 비교한다면 {@link HostCache#containsHost(String, String)}를 사용한다.
    *
    * @param origin 원본 도메인
    * @param diff 비교대상 도메인
@@ -20,53 +23,123 @@ public final class UriUtil {
     if (StringUtil.isNullOrEmpty(origin, diff)) {
       return false;
     }
-    try {
-      String originHost = new URI(origin).getHost().toLowerCase();
-      String diffHost = new URI(diff).getHost().toLowerCase();
-      return originHost.replace("www.", STRING_EMPTY).equals(diffHost.replace("www.", STRING_EMPTY));
-    } catch (Exception ignored) {
+    UriComponents originUri = UriComponents.parse(origin);
+    UriComponents diffUri = UriComponents.parse(diff);
+    if (originUri == null || diffUri == null || !originUri.hasHost() || !diffUri.hasHost()) {
       return false;
     }
+    int originStart = skipWww(origin, originUri.hostStart(), originUri.hostEnd());
+    int diffStart = skipWww(diff, diffUri.hostStart(), diffUri.hostEnd());
+    int length = originUri.hostEnd() - originStart;
+    return length == diffUri.hostEnd() - diffStart && origin.regionMatches(true, originStart, diff, diffStart, length);
   }
 
   /**
    * Uri로부터 host 추출
    *
    * @param uri 웹주소
-   * @return 웹주소로부터 추출된 도메인
+   * @return 웹주소로부터 추출된 도메인 (소문자, 앞의 "www." 제외)
    */
   public static String getHost(String uri) {
     if (StringUtil.isNullOrEmpty(uri)) {
       return null;
     }
-    try {
-      return new URI(uri).getHost().toLowerCase().replace("www.", STRING_EMPTY);
-    } catch (Exception ignored) {
+    return host(uri, UriComponents.parse(uri));
+  }
+
+  static String host(String uri, UriComponents components) {
+    if (components == null || !components.hasHost()) {
+      return null;
+    }
+    return lowerCase(uri, skipWww(uri, components.hostStart(), components.hostEnd()), components.hostEnd());
+  }
+
+  private static String lowerCase(String uri, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = uri.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        return uri.substring(start, end).toLowerCase(Locale.ROOT);
+      }
+    }
+    return uri.substring(start, end);
+  }
+
+  /**
+   * Uri로부터 registrable domain 추출
+   * <p>
+   * 예) "https://a.b.example.co.kr/path" -&gt; "example.co.kr"
+   *
+   * @param uri 웹주소
+   * @return 소문자 registrable domain, host가 없거나 public suffix 또는 IP 주소라면 null
+   * @see PublicSuffix
+   * @since 0.2.28
+   */
+  public static String getRegistrableDomain(String uri) {
+    if (StringUtil.isNullOrEmpty(uri)) {
+      return null;
+    }
+    UriComponents components = UriComponents.parse(uri);
+    if (components == null || !components.hasHost()) {
       return null;
     }
+    int end = components.hostEnd();
+    if (uri.charAt(end - 1) == '.' && end - 1 > components.hostStart()) {
+      end--;
+    }
+    int start = PublicSuffix.registrableDomainStart(uri, components.hostStart(), end);
+    return start == -1 ? null : lowerCase(uri, start, end);
   }
 
   /**
    * Uri로부터 origin 추출
    *
    * @param uri 웹주소
-   * @return 웹주소로부터 추출된 Origin
+   * @return 웹주소로부터 추출된 Origin, scheme 또는 host가 없다면 null
    */
   public static String getOrigin(String uri) {
     if (StringUtil.isNullOrEmpty(uri)) {
       return null;
     }
-    try {
-      URI _uri = new URI(uri);
-      int port = _uri.getPort();
-      if (port == 80 || port == 443) {
-        return _uri.getScheme() + "://" + _uri.getHost();
-      } else {
-        return _uri.getScheme() + "://" + _uri.getAuthority();
-      }
-    } catch (URISyntaxException ignored) {
+    return origin(uri, UriComponents.parse(uri));
+  }
+
+  static String origin(String uri, UriComponents components) {
+    if (components == null || components.schemeEnd() == -1 || !components.hasHost()) {
       return null;
     }
+    int port = components.port();
+    if (port == 80 || port == 443) {
+      return uri.substring(0, components.schemeEnd()) + "://" + components.host();
+    } else {
+      // scheme://authority
+      return uri.substring(0, components.authorityEnd());
+    }
+  }
+
+  private static int skipWww(String uri, int start, int end) {
+    return end - start > WWW.length() && uri.regionMatches(true, start, WWW, 0, WWW.length()) ? start + WWW.length() : start;
+  }
+
+  /**
+   * Uri로부터 query string 파싱
+   * <p>
+   * 원본 문자열을 복사하지 않고 '?'와 '#' 사이를 {@link QueryString}으로 파싱한다.
+   *
+   * @param uri 웹주소
+   * @return {@link QueryString}, query가 없다면 빈 {@link QueryString}
+   * @since 0.2.28
+   */
+  public static QueryString getQuery(String uri) {
+    if (StringUtil.isNullOrEmpty(uri)) {
+      return QueryString.parse(STRING_EMPTY);
+    }
+    int fragment = uri.indexOf('#');
+    int end = fragment == -1 ? uri.length() : fragment;
+    int query = uri.indexOf('?');
+    if (query == -1 || query >= end) {
+      return QueryString.parse(STRING_EMPTY);
+    }
+    return QueryString.parse(uri, query + 1, end);
   }
 
   /**
@@ -77,26 +150,9 @@ public final class UriUtil {
    * @return 병합된 uri
    */
   public static String combineUri(String first, String second) {
-    StringBuilder builder = new StringBuilder();
-    builder.append(first);
-    char firstLast = StringUtil.isNullOrEmpty(first) ? 0 : first.charAt(first.length() - 1);
-    if (firstLast == CHARACTER_SLASH) {
-      if (second.charAt(0) == CHARACTER_SLASH) {
-        builder.append(second.substring(1));
-      } else {
-        builder.append(second);
-      }
-    } else {
-      if (second.charAt(0) == CHARACTER_SLASH) {
-        builder.append(second);
-      } else {
-        if (firstLast == 0) {
-          builder.append(second);
-        } else {
-          builder.append(CHARACTER_SLASH).append(second);
-        }
-      }
-    }
+    StringBuilder builder = new StringBuilder(length(first) + length(second) + 1);
+    appendUri(builder, first);
+    appendUri(builder, second);
     return builder.toString();
   }
 
@@ -110,10 +166,44 @@ public final class UriUtil {
   public static String combineUri(String first, String... uris) {
     if (uris.length == 0) {
       return first;
-    } else if (uris.length == 1) {
-      return combineUri(first, uris[0]);
+    }
+    int capacity = length(first);
+    for (String uri : uris) {
+      capacity += length(uri) + 1;
+    }
+    StringBuilder builder = new StringBuilder(capacity);
+    appendUri(builder, first);
+    for (String uri : uris) {
+      appendUri(builder, uri);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * builder 끝에 '/'가 하나만 오도록 uri를 이어 붙인다, 비어있는 uri는 무시한다
+   *
+   * @param builder 대상
+   * @param uri 이어 붙일 uri
+   * @since 0.2.28
+   */
+  public static void appendUri(StringBuilder builder, String uri) {
+    if (StringUtil.isNullOrEmpty(uri)) {
+      return;
+    }
+    int length = builder.length();
+    boolean leadingSlash = uri.charAt(0) == CHARACTER_SLASH;
+    if (length == 0) {
+      builder.append(uri);
+    } else if (builder.charAt(length - 1) == CHARACTER_SLASH) {
+      builder.append(uri, leadingSlash ? 1 : 0, uri.length());
+    } else if (leadingSlash) {
+      builder.append(uri);
     } else {
-      return combineUri(first, combineUri(uris[0], Arrays.copyOfRange(uris, 1, uris.length)));
+      builder.append(CHARACTER_SLASH).append(uri);
     }
   }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
 }
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * URL 퍼센트 인코딩/디코딩 (UTF-8)
+ * <p>
+ * 그대로 둘 ASCII 문자를 조회 테이블로 판단하고, 나머지는 UTF-8 바이트 단위로 "%XX"로 바꾼다.
+ * 바꿀 문자가 없다면 입력을 그대로 반환하며, 호출자가 넘긴 {@link Appendable} 또는 byte[]의 일부 구간에 직접 쓸 수 있다.
+ * 인스턴스는 불변이며 스레드에 안전하다.
+ *
+ * @since 0.2.28
+ */
+public final class UrlCodec {
+  private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+  // ASCII -> 16진수 값, 16진수가 아닌 글자는 -1
+  private static final int[] HEX_VALUES = new int[128];
+
+  static {
+    for (int i = 0; i < HEX_VALUES.length; i++) {
+      HEX_VALUES[i] = Character.digit(i, 16);
+    }
+  }
+
+  /**
+   * application/x-www-form-urlencoded, {@link java.net.URLEncoder}와 같은 결과 (공백은 '+')
+   */
+  public static final UrlCodec FORM = new UrlCodec("-_.*", true);
+
+  /**
+   * RFC 3986 path, pchar와 '/'는 그대로 두고 공백은 "%20"
+   */
+  public static final UrlCodec PATH = new UrlCodec("-._~!$&'()*+,;=:@/", false);
+
+  /**
+   * RFC 3986 path segment, {@link #PATH}와 같지만 '/'도 인코딩한다
+   */
+  public static final UrlCodec PATH_SEGMENT = new UrlCodec("-._~!$&'()*+,;=:@", false);
+
+  private final boolean[] safe = new boolean[128];
+  private final boolean form;
+
+  private UrlCodec(String marks, boolean form) {
+    for (char c = '0'; c <= '9'; c++) {
+      safe[c] = true;
+    }
+    for (char c = 'a'; c <= 'z'; c++) {
+      safe[c] = true;
+      safe[c - 'a' + 'A'] = true;
+    }
+    for (int i = 0; i < marks.length(); i++) {
+      safe[marks.charAt(i)] = true;
+    }
+    this.form = form;
+  }
+
+  // region encode
+
+  /**
+   * 문자열 인코딩
+   *
+   * @param source 원본
+   * @return 인코딩된 문자열, 바꿀 문자가 없다면 source 그대로
+   */
+  public String encode(CharSequence source) {
+    Objects.requireNonNull(source);
+    final int length = source.length();
+    final int index = skipSafe(source, 0, length);
+    if (index == length) {
+      return source.toString();
+    }
+    StringBuilder builder = new StringBuilder(length + 16);
+    builder.append(source, 0, index);
+    try {
+      encodeTo(source, index, length, builder);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 문자열의 일부를 인코딩하여 target에 쓴다
+   *
+   * @param source 원본
+   * @param start 시작 위치 (inclusive)
+   * @param end 끝 위치 (exclusive)
+   * @param target 결과를 쓸 {@link Appendable}
+   * @throws IOException target 쓰기 오류
+   */
+  public void encode(CharSequence source, int start, int end, Appendable target) throws IOException {
+    Objects.requireNonNull(target);
+    checkRange(source.length(), start, end - start);
+    encodeTo(source, start, end, target);
+  }
+
+  /**
+   * 문자열 일부의 인코딩된 길이
+   *
+   * @param source 원본
+   * @param start 시작 위치 (inclusive)
+   * @param end 끝 위치 (exclusive)
+   * @return 인코딩된 문자 수
+   */
+  public int encodedLength(CharSequence source, int start, int end) {
+    checkRange(source.length(), start, end - start);
+    long encoded = 0;
+    for (int i = start; i < end; i++) {
+      char c = source.charAt(i);
+      if (c < 0x80) {
+        encoded += safe[c] || (c == ' ' && form) ? 1 : 3;
+      } else if (c < 0x800) {
+        encoded += 6;
+      } else if (!Character.isSurrogate(c)) {
+        encoded += 9;
+      } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(source.charAt(i + 1))) {
+        encoded += 12;
+        i++;
+      } else {
+        encoded += 3;
+      }
+    }
+    if (encoded > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("encoded length exceeds " + Integer.MAX_VALUE);
+    }
+    return (int) encoded;
+  }
+
+  /**
+   * UTF-8 바이트 배열의 일부를 인코딩된 ASCII 바이트로 변환하여 target에 쓴다
+   *
+   * @param source UTF-8 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열 ({@link #encodedLength(byte[], int, int)} 이상의 공간 필요)
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   */
+  public int encode(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+    checkRange(source.length, offset, length);
+    checkRange(target.length, targetOffset, 0);
+    final int limit = target.length;
+    int index = targetOffset;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      int b = source[i];
+      if (b >= 0 && safe[b]) {
+        if (index == limit) {
+          throw new IndexOutOfBoundsException("target is too small");
+        }
+        target[index++] = (byte) b;
+      } else if (b == ' ' && form) {
+        if (index == limit) {
+          throw new IndexOutOfBoundsException("target is too small");
+        }
+        target[index++] = '+';
+      } else {
+        if (index > limit - 3) {
+          throw new IndexOutOfBoundsException("target is too small");
+        }
+        target[index++] = '%';
+        target[index++] = (byte) DIGITS[(b >>> 4) & 0x0f];
+        target[index++] = (byte) DIGITS[b & 0x0f];
+      }
+    }
+    return index - targetOffset;
+  }
+
+  /**
+   * UTF-8 바이트 배열 일부의 인코딩된 길이
+   *
+   * @param source UTF-8 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @return 인코딩된 바이트 수
+   */
+  public int encodedLength(byte[] source, int offset, int length) {
+    checkRange(source.length, offset, length);
+    long encoded = 0;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      int b = source[i];
+      encoded += (b >= 0 && safe[b]) || (b == ' ' && form) ? 1 : 3;
+    }
+    if (encoded > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("encoded length exceeds " + Integer.MAX_VALUE);
+    }
+    return (int) encoded;
+  }
+
+  private int skipSafe(CharSequence source, int index, int end) {
+    while (index < end) {
+      char c = source.charAt(index);
+      if (c >= 128 || !safe[c]) {
+        break;
+      }
+      index++;
+    }
+    return index;
+  }
+
+  private void encodeTo(CharSequence source, int index, int end, Appendable target) throws IOException {
+    while (index < end) {
+      int run = skipSafe(source, index, end);
+      if (run > index) {
+        target.append(source, index, run);
+        index = run;
+        if (index == end) {
+          break;
+        }
+      }
+      char c = source.charAt(index++);
+      if (c == ' ' && form) {
+        target.append('+');
+      } else if (c < 0x80) {
+        appendEscaped(target, c);
+      } else if (c < 0x800) {
+        appendEscaped(target, 0xc0 | c >>> 6);
+        appendEscaped(target, 0x80 | c & 0x3f);
+      } else if (!Character.isSurrogate(c)) {
+        appendEscaped(target, 0xe0 | c >>> 12);
+        appendEscaped(target, 0x80 | c >>> 6 & 0x3f);
+        appendEscaped(target, 0x80 | c & 0x3f);
+      } else if (Character.isHighSurrogate(c) && index < end && Character.isLowSurrogate(source.charAt(index))) {
+        int codePoint = Character.toCodePoint(c, source.charAt(index++));
+        appendEscaped(target, 0xf0 | codePoint >>> 18);
+        appendEscaped(target, 0x80 | codePoint >>> 12 & 0x3f);
+        appendEscaped(target, 0x80 | codePoint >>> 6 & 0x3f);
+        appendEscaped(target, 0x80 | codePoint & 0x3f);
+      } else {
+        // 짝이 없는 surrogate는 URLEncoder와 같이 '?'로 대체
+        appendEscaped(target, '?');
+      }
+    }
+  }
+
+  private static void appendEscaped(Appendable target, int b) throws IOException {
+    target.append('%').append(DIGITS[b >>> 4 & 0x0f]).append(DIGITS[b & 0x0f]);
+  }
+
+  // endregion
+
+  // region decode
+
+  /**
+   * 문자열 디코딩
+   * <p>
+   * 잘못된 UTF-8 바이트열은 {@link java.net.URLDecoder}와 같이 U+FFFD로 대체한다.
+   *
+   * @param source 인코딩된 문자열
+   * @return 디코딩된 문자열, 바꿀 문자가 없다면 source 그대로
+   * @throws IllegalParameterException "%XX" 형식이 잘못된 경우
+   */
+  public String decode(CharSequence source) {
+    Objects.requireNonNull(source);
+    final int length = source.length();
+    final int index = skipPlain(source, 0, length);
+    if (index == length) {
+      return source.toString();
+    }
+    // ASCII로만 이루어진 경우 바이트로 디코딩하여 한번에 문자열로 변환
+    byte[] bytes = new byte[length];
+    int count = 0;
+    for (int i = 0; i < length; ) {
+      char c = source.charAt(i);
+      if (c >= 0x80) {
+        return decodeSlow(source, index);
+      }
+      if (c == '%') {
+        if (i + 2 >= length) {
+          throw new IllegalParameterException("incomplete escape at " + i);
+        }
+        bytes[count++] = (byte) unescape(source.charAt(i + 1), source.charAt(i + 2), i);
+        i += 3;
+      } else {
+        bytes[count++] = c == '+' && form ? (byte) ' ' : (byte) c;
+        i++;
+      }
+    }
+    return new String(bytes, 0, count, UTF_8);
+  }
+
+  private String decodeSlow(CharSequence source, int index) {
+    final int length = source.length();
+    StringBuilder builder = new StringBuilder(length);
+    builder.append(source, 0, index);
+    try {
+      decodeTo(source, index, length, builder);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * 문자열의 일부를 디코딩하여 target에 쓴다
+   *
+   * @param source 인코딩된 문자열
+   * @param start 시작 위치 (inclusive)
+   * @param end 끝 위치 (exclusive)
+   * @param target 결과를 쓸 {@link Appendable}
+   * @throws IOException target 쓰기 오류
+   * @throws IllegalParameterException "%XX" 형식이 잘못된 경우
+   */
+  public void decode(CharSequence source, int start, int end, Appendable target) throws IOException {
+    Objects.requireNonNull(target);
+    checkRange(source.length(), start, end - start);
+    decodeTo(source, start, end, target);
+  }
+
+  /**
+   * 인코딩된 ASCII 바이트 배열의 일부를 디코딩하여 target에 쓴다 (UTF-8 바이트 그대로)
+   * <p>
+   * 디코딩된 길이는 원본보다 길지 않으므로 source와 같은 배열에 덮어쓸 수 있다 (targetOffset &lt;= offset).
+   *
+   * @param source 인코딩된 ASCII 바이트 배열
+   * @param offset 시작 위치
+   * @param length 길이
+   * @param target 결과를 쓸 배열
+   * @param targetOffset target의 시작 위치
+   * @return 쓴 바이트 수
+   * @throws IllegalParameterException "%XX" 형식이 잘못된 경우
+   */
+  public int decode(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+    checkRange(source.length, offset, length);
+    checkRange(target.length, targetOffset, 0);
+    final int limit = target.length;
+    final int end = offset + length;
+    int index = targetOffset;
+    for (int i = offset; i < end; ) {
+      if (index == limit) {
+        throw new IndexOutOfBoundsException("target is too small");
+      }
+      byte b = source[i];
+      if (b == '%') {
+        if (i + 2 >= end) {
+          throw new IllegalParameterException("incomplete escape at " + (i - offset));
+        }
+        target[index++] = (byte) unescape(source[i + 1], source[i + 2], i - offset);
+        i += 3;
+      } else {
+        target[index++] = b == '+' && form ? (byte) ' ' : b;
+        i++;
+      }
+    }
+    return index - targetOffset;
+  }
+
+  private int skipPlain(CharSequence source, int index, int end) {
+    while (index < end) {
+      char c = source.charAt(index);
+      if (c == '%' || (c == '+' && form)) {
+        break;
+      }
+      index++;
+    }
+    return index;
+  }
+
+  private void decodeTo(CharSequence source, int index, int end, Appendable target) throws IOException {
+    byte[] bytes = null;
+    while (index < end) {
+      int run = skipPlain(source, index, end);
+      if (run > index) {
+        target.append(source, index, run);
+        index = run;
+        if (index == end) {
+          break;
+        }
+      }
+      if (source.charAt(index) == '+') {
+        target.append(' ');
+        index++;
+        continue;
+      }
+      // 연속된 "%XX"를 모아 한번에 UTF-8 디코딩
+      if (bytes == null) {
+        bytes = new byte[(end - index) / 3];
+      }
+      int count = 0;
+      while (index < end && source.charAt(index) == '%') {
+        if (index + 2 >= end) {
+          throw new IllegalParameterException("incomplete escape at " + index);
+        }
+        bytes[count++] = (byte) unescape(source.charAt(index + 1), source.charAt(index + 2), index);
+        index += 3;
+      }
+      target.append(new String(bytes, 0, count, UTF_8));
+    }
+  }
+
+  private static int unescape(int high, int low, int position) {
+    int value = high < 128 && low < 128 && high >= 0 && low >= 0 ? HEX_VALUES[high] << 4 | HEX_VALUES[low] : -1;
+    if (value < 0) {
+      throw new IllegalParameterException("illegal escape at " + position);
+    }
+    return value;
+  }
+
+  // endregion
+
+  private static void checkRange(int size, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > size - length) {
+      throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + size);
+    }
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2017 The Rebolt Framework
+ *
+ * The Rebolt Framework licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package io.rebolt.core.utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * UTF-8 바이트를 디코딩하지 않고 직접 다루는 split, join, trim
+ * <p>
+ * UTF-8의 멀티바이트 문자는 0x80 이상의 바이트로만 구성되므로 ASCII 구분자는 문자 중간에 나타나지 않는다.
+ * 따라서 ASCII 구분자에 한해 {@link StringUtil}의 split, join, trim과 같은 결과를 바이트 단위로 얻을 수 있다.
+ *
+ * @since 0.2.28
+ */
+public final class Utf8Util {
+
+  // region split
+
+  /**
+   * UTF-8 바이트 나누기 (skip empty, trim)
+   * <p>
+   * 결과는 원본 배열을 공유하는 {@link ByteBuffer} slice이며 복사가 발생하지 않는다.
+   *
+   * @param separator ASCII 구분자
+   * @param bytes UTF-8 바이트
+   * @return 나누어진 바이트 목록
+   */
+  public static List<ByteBuffer> split(char separator, byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    return split(separator, ByteBuffer.wrap(bytes));
+  }
+
+  /**
+   * UTF-8 바이트 나누기 (skip empty, trim)
+   * <p>
+   * position ~ limit 구간을 나누며 원본 버퍼의 position은 변경되지 않는다.
+   * 결과는 원본 버퍼를 공유하는 slice이며 복사가 발생하지 않는다.
+   *
+   * @param separator ASCII 구분자
+   * @param buffer UTF-8 바이트 버퍼
+   * @return 나누어진 바이트 목록
+   */
+  public static List<ByteBuffer> split(char separator, ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    final byte target = ascii(separator);
+    final int limit = buffer.limit();
+    List<ByteBuffer> list = new ArrayList<>();
+    int offset = buffer.position();
+    while (offset <= limit) {
+      int end = offset;
+      while (end < limit && buffer.get(end) != target) {
+        end++;
+      }
+      int start = trimStart(buffer, offset, end);
+      int last = trimEnd(buffer, start, end);
+      if (start < last) {
+        list.add(slice(buffer, start, last));
+      }
+      offset = end + 1;
+    }
+    return list;
+  }
+
+  // endregion
+
+  // region join
+
+  /**
+   * UTF-8 바이트 합치기 (skip nulls)
+   *
+   * @param separator ASCII 구분자
+   * @param values UTF-8 바이트 목록
+   * @return 합쳐진 바이트
+   */
+  public static byte[] join(char separator, byte[]... values) {
+    Objects.requireNonNull(values);
+    final byte target = ascii(separator);
+    long length = 0;
+    int count = 0;
+    for (byte[] value : values) {
+      if (value != null) {
+        length += value.length;
+        count++;
+      }
+    }
+    byte[] result = new byte[joinLength(length, count)];
+    int offset = 0;
+    boolean first = true;
+    for (byte[] value : values) {
+      if (value != null) {
+        if (!first) {
+          result[offset++] = target;
+        }
+        System.arraycopy(value, 0, result, offset, value.length);
+        offset += value.length;
+        first = false;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * UTF-8 바이트 합치기 (skip nulls)
+   * <p>
+   * 각 버퍼의 position ~ limit 구간을 합치며 position은 변경되지 않는다.
+   *
+   * @param separator ASCII 구분자
+   * @param values UTF-8 바이트 버퍼 목록
+   * @return 합쳐진 바이트
+   */
+  public static byte[] join(char separator, ByteBuffer... values) {
+    Objects.requireNonNull(values);
+    long length = 0;
+    int count = 0;
+    for (ByteBuffer value : values) {
+      if (value != null) {
+        length += value.remaining();
+        count++;
+      }
+    }
+    byte[] result = new byte[joinLength(length, count)];
+    joinTo(ByteBuffer.wrap(result), separator, values);
+    return result;
+  }
+
+  /**
+   * UTF-8 바이트 합치기 (skip nulls), 결과를 target에 쓴다
+   * <p>
+   * 각 버퍼의 position은 변경되지 않으며 target의 position은 쓴 만큼 증가한다.
+   *
+   * @param target 결과를 쓸 버퍼
+   * @param separator ASCII 구분자
+   * @param values UTF-8 바이트 버퍼 목록
+   * @return target
+   * @throws java.nio.BufferOverflowException target의 남은 공간이 부족한 경우
+   */
+  public static ByteBuffer joinTo(ByteBuffer target, char separator, ByteBuffer... values) {
+    Objects.requireNonNull(target);
+    Objects.requireNonNull(values);
+    final byte separatorByte = ascii(separator);
+    boolean first = true;
+    for (ByteBuffer value : values) {
+      if (value != null) {
+        if (!first) {
+          target.put(separatorByte);
+        }
+        target.put(value.duplicate());
+        first = false;
+      }
+    }
+    return target;
+  }
+
+  private static int joinLength(long length, int count) {
+    if (count > 1) {
+      length += count - 1;
+    }
+    if (length > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("joined length exceeds " + Integer.MAX_VALUE);
+    }
+    return (int) length;
+  }
+
+  // endregion
+
+  // region trim
+
+  /**
+   * UTF-8 바이트 Trim
+   *
+   * @param bytes UTF-8 바이트
+   * @return trim된 바이트, 변경이 없다면 입력 배열 그대로
+   */
+  public static byte[] trim(byte[] bytes) {
+    Objects.requireNonNull(bytes);
+    int start = trimStart(bytes, 0, bytes.length);
+    int end = trimEnd(bytes, start, bytes.length);
+    return start == 0 && end == bytes.length ? bytes : Arrays.copyOfRange(bytes, start, end);
+  }
+
+  /**
+   * UTF-8 바이트 버퍼 Trim
+   *
+   * @param buffer UTF-8 바이트 버퍼
+   * @return position ~ limit 구간을 trim한 slice (복사 없음)
+   */
+  public static ByteBuffer trim(ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    int start = trimStart(buffer, buffer.position(), buffer.limit());
+    return slice(buffer, start, trimEnd(buffer, start, buffer.limit()));
+  }
+
+  /**
+   * from ~ to 구간에서 공백이 아닌 첫번째 위치
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 공백이 아닌 첫번째 위치, 없으면 to
+   */
+  public static int trimStart(byte[] bytes, int from, int to) {
+    while (from < to && isWhitespace(bytes[from])) {
+      ++from;
+    }
+    return from;
+  }
+
+  /**
+   * from ~ to 구간에서 공백이 아닌 마지막 위치 + 1
+   *
+   * @param bytes UTF-8 바이트
+   * @param from 시작 위치 (inclusive)
+   * @param to 끝 위치 (exclusive)
+   * @return 공백이 아닌 마지막 위치 + 1, 없으면 from
+   */
+  public static int trimEnd(byte[] bytes, int from, int to) {
+    while (from < to && isWhitespace(bytes[to - 1])) {
+      --to;
+    }
+    return to;
+  }
+
+  private static int trimStart(ByteBuffer buffer, int from, int to) {
+    while (from < to && isWhitespace(buffer.get(from))) {
+      ++from;
+    }
+    return from;
+  }
+
+  private static int trimEnd(ByteBuffer buffer, int from, int to) {
+    while (from < to && isWhitespace(buffer.get(to - 1))) {
+      --to;
+    }
+    return to;
+  }
+
+  /**
+   * {@link StringUtil#trim(String)}과 같이 32 이하의 문자를 공백으로 본다 (0x80 이상은 멀티바이트)
+   */
+  private static boolean isWhitespace(byte value) {
+    return value >= 0 && value <= 32;
+  }
+
+  // endregion
+
+  private static byte ascii(char separator) {
+    if (separator >= 0x80) {
+      throw new IllegalParameterException("separator must be ascii: " + separator);
+    }
+    return (byte) separator;
+  }
+
+  private static ByteBuffer slice(ByteBuffer buffer, int start, int end) {
+    ByteBuffer slice = buffer.duplicate();
+    slice.limit(end).position(start);
+    return slice.slice();
+  }
+}
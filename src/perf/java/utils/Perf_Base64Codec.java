@@ -0,0 +1,107 @@
+package utils;
+
+import io.rebolt.core.utils.Base64Codec;
+import io.rebolt.core.utils.RandomUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Base64;
+
+@State(Scope.Thread)
+public class Perf_Base64Codec {
+
+  private static final int length = 1 << 20;
+  private static final byte[] bytes = new byte[length];
+  private static final String message = RandomUtil.randomAlpha(length);
+
+  static {
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) RandomUtil.randomInt(255);
+    }
+  }
+
+  private final ByteBuffer inBuffer = ByteBuffer.allocateDirect(8192 * 3);
+  private final ByteBuffer outBuffer = ByteBuffer.allocateDirect(8192 * 4);
+  private WritableByteChannel sink;
+
+  @Setup
+  public void setup() {
+    sink = new WritableByteChannel() {
+      @Override
+      public int write(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        buffer.position(buffer.limit());
+        return remaining;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  @Benchmark
+  public String perf_stringUtil() {
+    return StringUtil.encodeBase64(message);
+  }
+
+  @Benchmark
+  public byte[] perf_jdk() {
+    return Base64.getEncoder().encode(bytes);
+  }
+
+  @Benchmark
+  public byte[] perf_codec() {
+    return Base64Codec.BASIC.encode(bytes);
+  }
+
+  /**
+   * 1MB 입력을 32KB 버퍼 두개로 인코딩
+   */
+  @Benchmark
+  public long perf_channel() throws IOException {
+    return Base64Codec.BASIC.encode(Channels.newChannel(new ByteArrayInputStream(bytes)), sink, inBuffer, outBuffer);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_Base64Codec.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+1 core, noisy host (perf_channel allocation is the 8KB transfer buffer of Channels.newChannel)
+
+Benchmark                                              Mode  Cnt        Score       Error  Units
+Perf_Base64Codec.perf_channel                         thrpt    3      579.102 ±  3384.107  ops/s
+Perf_Base64Codec.perf_channel:·gc.alloc.rate.norm     thrpt    3     8344.805 ±     4.052   B/op
+Perf_Base64Codec.perf_codec                           thrpt    3      480.845 ±  1753.330  ops/s
+Perf_Base64Codec.perf_codec:·gc.alloc.rate.norm       thrpt    3  1399591.526 ±   587.494   B/op
+Perf_Base64Codec.perf_jdk                             thrpt    3      516.943 ±   465.749  ops/s
+Perf_Base64Codec.perf_jdk:·gc.alloc.rate.norm         thrpt    3  1399512.520 ±   375.067   B/op
+Perf_Base64Codec.perf_stringUtil                      thrpt    3      357.039 ±   609.801  ops/s
+Perf_Base64Codec.perf_stringUtil:·gc.alloc.rate.norm  thrpt    3  3848503.782 ±   653.161   B/op
+ */
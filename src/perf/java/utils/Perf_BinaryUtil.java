@@ -0,0 +1,132 @@
+package utils;
+
+import io.rebolt.core.utils.BinaryUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * int 1024개 쓰기/읽기: intToBytes vs ByteBuffer vs BinaryUtil (고정 길이, varint)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Perf_BinaryUtil {
+
+  private static final int COUNT = 1024;
+  private final int[] values = new int[COUNT];
+  private final byte[] bytes = new byte[COUNT * 5];
+  private final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+  private byte[] varInts;
+
+  @Setup
+  public void setup() {
+    SplittableRandom random = new SplittableRandom(1);
+    for (int i = 0; i < COUNT; i++) {
+      // 대부분 작은 값
+      values[i] = random.nextInt(1 << random.nextInt(1, 24));
+    }
+    varInts = new byte[COUNT * 5];
+    int offset = 0;
+    for (int value : values) {
+      offset = BinaryUtil.putVarInt(varInts, offset, value);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  @SuppressWarnings("deprecation")
+  public byte[] perf_intToBytes() {
+    for (int i = 0; i < COUNT; i++) {
+      System.arraycopy(StringUtil.intToBytes(values[i], 4), 0, bytes, i << 2, 4);
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public ByteBuffer perf_byteBufferPut() {
+    buffer.clear();
+    for (int i = 0; i < COUNT; i++) {
+      buffer.putInt(values[i]);
+    }
+    return buffer;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public byte[] perf_putInt() {
+    int offset = 0;
+    for (int i = 0; i < COUNT; i++) {
+      offset = BinaryUtil.putInt(bytes, offset, values[i]);
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public long perf_getInt() {
+    long sum = 0;
+    for (int i = 0; i < COUNT; i++) {
+      sum += BinaryUtil.getInt(bytes, i << 2);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public byte[] perf_putVarInt() {
+    int offset = 0;
+    for (int i = 0; i < COUNT; i++) {
+      offset = BinaryUtil.putVarInt(bytes, offset, values[i]);
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COUNT)
+  public long perf_getVarInt() {
+    long sum = 0;
+    int offset = 0;
+    for (int i = 0; i < COUNT; i++) {
+      int value = BinaryUtil.getVarInt(varInts, offset);
+      offset += BinaryUtil.varIntSize(value);
+      sum += value;
+    }
+    return sum;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_BinaryUtil.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                            Mode  Cnt    Score     Error   Units
+Perf_BinaryUtil.perf_byteBufferPut  thrpt    3  619.664 ± 907.504  ops/us
+Perf_BinaryUtil.perf_getInt         thrpt    3  438.854 ± 544.466  ops/us
+Perf_BinaryUtil.perf_getVarInt      thrpt    3  116.402 ±  29.358  ops/us
+Perf_BinaryUtil.perf_intToBytes     thrpt    3  186.792 ± 130.062  ops/us
+Perf_BinaryUtil.perf_putInt         thrpt    3  358.578 ± 421.313  ops/us
+Perf_BinaryUtil.perf_putVarInt      thrpt    3  352.743 ± 691.749  ops/us
+ */
@@ -0,0 +1,79 @@
+package utils;
+
+import io.rebolt.core.utils.CipherProvider;
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4개의 테넌트 키를 번갈아 사용하는 AES/CBC 암호화의 호출당 지연시간
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_CipherProvider_Context {
+
+  private static final String transformation = "AES/CBC/PKCS5Padding";
+  private static final byte[][] keys = new byte[4][];
+  private static final byte[] value = StringUtil.randomAlpha(64).getBytes();
+
+  static {
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = StringUtil.randomAlpha(16).getBytes();
+    }
+  }
+
+  private int index;
+
+  /**
+   * 매 호출마다 키 스펙을 만들고 초기화 (0.2.27 StringUtil.encryptAesCbc 방식)
+   */
+  @Benchmark
+  public byte[] perf_init() throws Exception {
+    byte[] key = keys[index++ & 3];
+    SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+    Cipher cipher = CipherProvider.init(transformation, Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(key));
+    return cipher.doFinal(value);
+  }
+
+  @Benchmark
+  public byte[] perf_context() throws Exception {
+    byte[] key = keys[index++ & 3];
+    return CipherProvider.init(transformation, Cipher.ENCRYPT_MODE, key, key).doFinal(value);
+  }
+
+  @Benchmark
+  public String perf_encryptAesCbc() {
+    return StringUtil.encryptAesCbc(keys[index++ & 3], "0123456789012345678901234567890123456789012345678901234567890123");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_CipherProvider_Context.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                       Mode  Cnt     Score      Error  Units
+Perf_CipherProvider_Context.perf_context        avgt    3   189.304 ±  492.119  ns/op
+Perf_CipherProvider_Context.perf_encryptAesCbc  avgt    3   300.660 ±  506.069  ns/op
+Perf_CipherProvider_Context.perf_init           avgt    3  2750.122 ± 2463.454  ns/op
+ */
@@ -0,0 +1,89 @@
+package utils;
+
+import io.rebolt.core.utils.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 64MB 파일 to 파일 암호화, 단순 복사와 비교
+ */
+@State(Scope.Thread)
+public class Perf_CryptoUtil {
+
+  private static final int length = 64 << 20;
+  private static final byte[] key = "1k2ncyrkjh!@#$%^".getBytes();
+  private static final byte[] iv = "0123456789abcdef".getBytes();
+  private Path source;
+  private Path target;
+
+  @Setup
+  public void setup() throws IOException {
+    byte[] bytes = new byte[length];
+    new Random(0).nextBytes(bytes);
+    source = Files.createTempFile("perf", ".plain");
+    target = Files.createTempFile("perf", ".cipher");
+    Files.write(source, bytes);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(source);
+    Files.delete(target);
+  }
+
+  @Benchmark
+  public long perf_copy() throws IOException {
+    try (FileChannel in = FileChannel.open(source, READ);
+         FileChannel out = FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE)) {
+      return in.transferTo(0, length, out);
+    }
+  }
+
+  @Benchmark
+  public long perf_ctr() throws IOException, GeneralSecurityException {
+    return CryptoUtil.encryptCtr(key, iv, source, target);
+  }
+
+  @Benchmark
+  public long perf_gcm() throws IOException, GeneralSecurityException {
+    return CryptoUtil.encryptGcm(key, source, target);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_CryptoUtil.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+64MB per op, tmpfs/page cache: copy ~716MB/s, ctr ~573MB/s, gcm ~511MB/s
+
+Benchmark                   Mode  Cnt   Score    Error  Units
+Perf_CryptoUtil.perf_copy  thrpt    3  11.192 ± 10.228  ops/s
+Perf_CryptoUtil.perf_ctr   thrpt    3   8.949 ±  7.203  ops/s
+Perf_CryptoUtil.perf_gcm   thrpt    3   7.979 ±  6.686  ops/s
+ */
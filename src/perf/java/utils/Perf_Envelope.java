@@ -0,0 +1,82 @@
+package utils;
+
+import io.rebolt.core.utils.Envelope;
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 하나의 복호화 지연시간
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Perf_Envelope {
+
+  private static final KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+  private static final String token = StringUtil.randomAlpha(128);
+  private static final byte[] payload = StringUtil.randomAlpha(1024).getBytes();
+  private String rsaToken;
+  private byte[] message;
+
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    rsaToken = StringUtil.encryptRsa(keyPair.getPublic(), token);
+    message = Envelope.newDataKey(keyPair.getPublic()).seal(payload);
+  }
+
+  /**
+   * 128 바이트 토큰 RSA 복호화
+   */
+  @Benchmark
+  public String perf_rsa() {
+    return StringUtil.decryptRsa(keyPair.getPrivate(), rsaToken);
+  }
+
+  /**
+   * 1KB 메시지, 데이터 키 캐시 miss (RSA unwrap + AES/GCM)
+   */
+  @Benchmark
+  public byte[] perf_envelopeUnwrap() throws GeneralSecurityException {
+    Envelope.clearCache();
+    return Envelope.open(keyPair.getPrivate(), message);
+  }
+
+  /**
+   * 1KB 메시지, 데이터 키 캐시 hit (AES/GCM)
+   */
+  @Benchmark
+  public byte[] perf_envelopeCached() throws GeneralSecurityException {
+    return Envelope.open(keyPair.getPrivate(), message);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_Envelope.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                          Mode  Cnt     Score      Error  Units
+Perf_Envelope.perf_envelopeCached  avgt    3     1.317 ±    1.627  us/op
+Perf_Envelope.perf_envelopeUnwrap  avgt    3  1903.569 ± 1849.731  us/op
+Perf_Envelope.perf_rsa             avgt    3  1963.857 ± 3710.856  us/op
+ */
@@ -0,0 +1,155 @@
+package utils;
+
+import io.rebolt.core.utils.HexUtil;
+import io.rebolt.core.utils.RandomUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+
+@State(Scope.Thread)
+public class Perf_HexUtil {
+
+  private static final char[] hexDigits = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+  private static final byte[] hexFilters = {0, 10, 11, 12, 13, 14, 15};
+
+  /**
+   * 0.2.27 StringUtil.byteArrayToHex
+   */
+  private static String legacyEncode(byte[] bytes) {
+    char[] charBuffer = new char[bytes.length * 2];
+    int index;
+    for (int i = 0; i < bytes.length; i++) {
+      index = i * 2;
+      charBuffer[index] = hexDigits[(bytes[i] & 0xf0) >> 4];
+      charBuffer[index + 1] = hexDigits[bytes[i] & 0x0f];
+    }
+    return new String(charBuffer);
+  }
+
+  /**
+   * 0.2.27 StringUtil.hexToByteArray
+   */
+  private static byte[] legacyDecode(String hexString) {
+    byte[] charBuffer = new byte[hexString.length() / 2];
+    int index;
+    int head, tail;
+    for (int i = 0; i < charBuffer.length; i++) {
+      index = i * 2;
+      head = hexString.charAt(index);
+      tail = hexString.charAt(index + 1);
+      charBuffer[i] = (byte) (((head & 0x40) == 0 ? head & 0x0f : hexFilters[head & 0x0f]) * 16 | ((tail & 0x40) == 0 ? tail & 0x0f : hexFilters[tail & 0x0f]));
+    }
+    return charBuffer;
+  }
+
+  @Param({"32", "65536"})
+  private int length;
+  private byte[] bytes;
+  private String hex;
+  private char[] chars;
+  private byte[] decoded;
+  private ByteBuffer source;
+  private ByteBuffer encoded;
+  private ByteBuffer target;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) RandomUtil.randomInt(255);
+    }
+    hex = HexUtil.encode(bytes);
+    chars = new char[length * 2];
+    decoded = new byte[length];
+    source = ByteBuffer.allocateDirect(length);
+    source.put(bytes).flip();
+    encoded = ByteBuffer.allocateDirect(length * 2);
+    target = ByteBuffer.allocateDirect(length);
+  }
+
+  @Benchmark
+  public String perf_encodeLegacy() {
+    return legacyEncode(bytes);
+  }
+
+  @Benchmark
+  public String perf_encode() {
+    return HexUtil.encode(bytes);
+  }
+
+  @Benchmark
+  public char[] perf_encodeChars() {
+    HexUtil.encode(bytes, 0, length, chars, 0);
+    return chars;
+  }
+
+  @Benchmark
+  public ByteBuffer perf_encodeBuffer() {
+    source.clear();
+    encoded.clear();
+    HexUtil.encode(source, encoded);
+    return encoded;
+  }
+
+  @Benchmark
+  public byte[] perf_decodeLegacy() {
+    return legacyDecode(hex);
+  }
+
+  @Benchmark
+  public byte[] perf_decode() {
+    return HexUtil.decode(hex);
+  }
+
+  @Benchmark
+  public byte[] perf_decodeBytes() {
+    HexUtil.decode(hex, 0, hex.length(), decoded, 0);
+    return decoded;
+  }
+
+  @Benchmark
+  public ByteBuffer perf_decodeBuffer() {
+    encoded.clear();
+    target.clear();
+    HexUtil.decode(encoded, target);
+    return target;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_HexUtil.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+1 core, noisy host
+
+Benchmark                       (length)   Mode  Cnt         Score          Error  Units
+Perf_HexUtil.perf_decode              32  thrpt    3   7306055.586 ± 16112623.525  ops/s
+Perf_HexUtil.perf_decode           65536  thrpt    3      4130.483 ±     5276.187  ops/s
+Perf_HexUtil.perf_decodeBytes         32  thrpt    3   8106249.107 ± 11546931.983  ops/s
+Perf_HexUtil.perf_decodeBytes      65536  thrpt    3      4332.995 ±     9364.748  ops/s
+Perf_HexUtil.perf_decodeLegacy        32  thrpt    3   7772658.661 ±  8129268.352  ops/s
+Perf_HexUtil.perf_decodeLegacy     65536  thrpt    3      1067.385 ±      387.666  ops/s
+Perf_HexUtil.perf_encode              32  thrpt    3  11842537.090 ±  1723731.432  ops/s
+Perf_HexUtil.perf_encode           65536  thrpt    3      4643.013 ±     4714.470  ops/s
+Perf_HexUtil.perf_encodeBuffer        32  thrpt    3  13852013.731 ±  4211241.974  ops/s
+Perf_HexUtil.perf_encodeBuffer     65536  thrpt    3      7620.546 ±    13931.679  ops/s
+Perf_HexUtil.perf_encodeChars         32  thrpt    3  19410064.399 ±   676225.316  ops/s
+Perf_HexUtil.perf_encodeChars      65536  thrpt    3      5409.979 ±    12747.138  ops/s
+Perf_HexUtil.perf_encodeLegacy        32  thrpt    3   9731304.320 ±  7625720.687  ops/s
+Perf_HexUtil.perf_encodeLegacy     65536  thrpt    3      4670.488 ±     7718.167  ops/s
+ */
@@ -0,0 +1,74 @@
+package utils;
+
+import io.rebolt.core.utils.HostCache;
+import io.rebolt.core.utils.UriUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복되는 origin 검사: 매번 파싱 vs HostCache
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_HostCache {
+
+  private static final String[] origins = {
+      "https://www.Nexon.com", "https://forum.nexon.com", "https://m.nexon.com:8443", "http://localhost:8080"};
+  private static final String allowed = "https://nexon.com";
+  private static final HostCache cache = new HostCache(1024);
+  private int index;
+
+  @Benchmark
+  public boolean perf_containsHost() {
+    return UriUtil.containsHost(allowed, origins[index++ & 3]);
+  }
+
+  @Benchmark
+  public boolean perf_containsHostCached() {
+    return cache.containsHost(allowed, origins[index++ & 3]);
+  }
+
+  @Benchmark
+  public String perf_getOrigin() {
+    return UriUtil.getOrigin(origins[index++ & 3]);
+  }
+
+  @Benchmark
+  public String perf_getOriginCached() {
+    return cache.getOrigin(origins[index++ & 3]);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_HostCache.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                       Mode  Cnt    Score     Error   Units
+Perf_HostCache.perf_containsHost                                avgt    3  204.003 ± 286.436   ns/op
+Perf_HostCache.perf_containsHost:·gc.alloc.rate.norm            avgt    3   96.096 ±   0.076    B/op
+Perf_HostCache.perf_containsHostCached                          avgt    3   41.483 ±  79.787   ns/op
+Perf_HostCache.perf_containsHostCached:·gc.alloc.rate.norm      avgt    3   ≈ 10⁻⁵              B/op
+Perf_HostCache.perf_getOrigin                                   avgt    3  113.282 ±  46.236   ns/op
+Perf_HostCache.perf_getOrigin:·gc.alloc.rate.norm               avgt    3   48.048 ±   0.034    B/op
+Perf_HostCache.perf_getOriginCached                             avgt    3   18.378 ±  11.422   ns/op
+Perf_HostCache.perf_getOriginCached:·gc.alloc.rate.norm         avgt    3   ≈ 10⁻⁵              B/op
+ */
@@ -0,0 +1,85 @@
+package utils;
+
+import io.rebolt.core.utils.MapRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map 문자열 변환: 이전 StringUtil.toString vs MapRenderer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_MapRenderer {
+
+  private static final MapRenderer sorted = MapRenderer.DEFAULT.sorted();
+  private final Map<String, Object> map = new HashMap<>();
+  private final StringBuilder builder = new StringBuilder(1024);
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < 32; i++) {
+      map.put("key" + i, i % 2 == 0 ? "value" + i : new String[]{"a" + i, "b" + i});
+    }
+  }
+
+  @Benchmark
+  public String perf_legacy() {
+    StringBuilder builder = new StringBuilder();
+    map.forEach((key, value) ->
+        builder.append(key).append("=").append(value.getClass().isArray() ? String.join(",", (String[]) value) : value).append(";"));
+    return builder.toString();
+  }
+
+  @Benchmark
+  public String perf_render() {
+    return MapRenderer.DEFAULT.render(map);
+  }
+
+  @Benchmark
+  public StringBuilder perf_appendTo() {
+    builder.setLength(0);
+    return MapRenderer.DEFAULT.appendTo(builder, map);
+  }
+
+  @Benchmark
+  public String perf_renderSorted() {
+    return sorted.render(map);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_MapRenderer.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                         Mode  Cnt     Score       Error   Units
+Perf_MapRenderer.perf_appendTo                                    avgt    3  1859.656 ±  1582.776   ns/op
+Perf_MapRenderer.perf_appendTo:·gc.alloc.rate.norm                avgt    3     0.001 ±     0.001    B/op
+Perf_MapRenderer.perf_legacy                                      avgt    3  1748.671 ±  4965.691   ns/op
+Perf_MapRenderer.perf_legacy:·gc.alloc.rate.norm                  avgt    3  2890.582 ±     0.579    B/op
+Perf_MapRenderer.perf_render                                      avgt    3  2979.885 ± 10202.841   ns/op
+Perf_MapRenderer.perf_render:·gc.alloc.rate.norm                  avgt    3   960.945 ±     0.258    B/op
+Perf_MapRenderer.perf_renderSorted                                avgt    3  4682.255 ±  3577.244   ns/op
+Perf_MapRenderer.perf_renderSorted:·gc.alloc.rate.norm            avgt    3  1353.356 ±     1.290    B/op
+ */
@@ -0,0 +1,98 @@
+package utils;
+
+import io.rebolt.core.utils.NumberUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 토큰 구간의 숫자 파싱/쓰기: substring + valueOf vs NumberUtil
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_NumberUtil {
+
+  private final String line = "id=1234567,price=1234.56";
+  private final byte[] bytes = line.getBytes(UTF_8);
+  private final char[] chars = new char[20];
+  private final long value = 1234567890123L;
+
+  @Benchmark
+  public int perf_valueOf() {
+    return Integer.valueOf(line.substring(3, 10));
+  }
+
+  @Benchmark
+  public int perf_parseInt() {
+    return NumberUtil.parseInt(line, 3, 10);
+  }
+
+  @Benchmark
+  public int perf_parseIntBytes() {
+    return NumberUtil.parseInt(bytes, 3, 10);
+  }
+
+  @Benchmark
+  public double perf_doubleValueOf() {
+    return Double.valueOf(line.substring(17));
+  }
+
+  @Benchmark
+  public double perf_parseDouble() {
+    return NumberUtil.parseDouble(line, 17, line.length());
+  }
+
+  @Benchmark
+  public char[] perf_toString() {
+    String text = Long.toString(value);
+    text.getChars(0, text.length(), chars, 0);
+    return chars;
+  }
+
+  @Benchmark
+  public char[] perf_format() {
+    NumberUtil.format(value, chars, 0);
+    return chars;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_NumberUtil.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                         Mode  Cnt     Score      Error   Units
+Perf_NumberUtil.perf_doubleValueOf                                avgt    3    51.394 ±  214.330   ns/op
+Perf_NumberUtil.perf_doubleValueOf:·gc.alloc.rate.norm            avgt    3   112.100 ±    0.022    B/op
+Perf_NumberUtil.perf_format                                       avgt    3    26.974 ±  112.786   ns/op
+Perf_NumberUtil.perf_format:·gc.alloc.rate.norm                   avgt    3    ≈ 10⁻⁵               B/op
+Perf_NumberUtil.perf_parseDouble                                  avgt    3    25.831 ±   41.440   ns/op
+Perf_NumberUtil.perf_parseDouble:·gc.alloc.rate.norm              avgt    3    ≈ 10⁻⁵               B/op
+Perf_NumberUtil.perf_parseInt                                     avgt    3     2.898 ±    8.426   ns/op
+Perf_NumberUtil.perf_parseInt:·gc.alloc.rate.norm                 avgt    3    ≈ 10⁻⁶               B/op
+Perf_NumberUtil.perf_parseIntBytes                                avgt    3    14.305 ±   35.477   ns/op
+Perf_NumberUtil.perf_parseIntBytes:·gc.alloc.rate.norm            avgt    3    ≈ 10⁻⁵               B/op
+Perf_NumberUtil.perf_toString                                     avgt    3    56.348 ±   55.380   ns/op
+Perf_NumberUtil.perf_toString:·gc.alloc.rate.norm                 avgt    3    56.051 ±    0.033    B/op
+Perf_NumberUtil.perf_valueOf                                      avgt    3    12.544 ±   14.763   ns/op
+Perf_NumberUtil.perf_valueOf:·gc.alloc.rate.norm                  avgt    3    24.022 ±    0.006    B/op
+ */
@@ -0,0 +1,77 @@
+package utils;
+
+import io.rebolt.core.utils.PublicSuffix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * registrable domain 추출: label split + HashSet vs 뒤집은 문자 trie
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_PublicSuffix {
+
+  private static final String[] hosts = {"a.b.example.co.kr", "forum.nexon.com", "user.github.io", "m.shop.example.co.jp"};
+  private static final Set<String> suffixes = new HashSet<>(Arrays.asList(
+      "com", "kr", "co.kr", "jp", "co.jp", "io", "github.io", "net", "org"));
+  private int index;
+
+  @Benchmark
+  public String perf_splitHashSet() {
+    String host = hosts[index++ & 3];
+    String[] labels = host.split("\\.");
+    for (int i = 0; i < labels.length; i++) {
+      String suffix = String.join(".", Arrays.copyOfRange(labels, i, labels.length));
+      if (suffixes.contains(suffix)) {
+        return i == 0 ? null : labels[i - 1] + "." + suffix;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public String perf_trie() {
+    return PublicSuffix.getRegistrableDomain(hosts[index++ & 3]);
+  }
+
+  @Benchmark
+  public int perf_trieOffset() {
+    String host = hosts[index++ & 3];
+    return PublicSuffix.registrableDomainStart(host, 0, host.length());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_PublicSuffix.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                          Mode  Cnt    Score      Error   Units
+Perf_PublicSuffix.perf_splitHashSet                                avgt    3  538.627 ± 1098.102   ns/op
+Perf_PublicSuffix.perf_splitHashSet:·gc.alloc.rate.norm            avgt    3  774.713 ±    0.565    B/op
+Perf_PublicSuffix.perf_trie                                        avgt    3   87.687 ±  102.609   ns/op
+Perf_PublicSuffix.perf_trie:·gc.alloc.rate.norm                    avgt    3   42.041 ±    0.032    B/op
+Perf_PublicSuffix.perf_trieOffset                                  avgt    3   57.765 ±  111.792   ns/op
+Perf_PublicSuffix.perf_trieOffset:·gc.alloc.rate.norm              avgt    3   ≈ 10⁻⁵               B/op
+ */
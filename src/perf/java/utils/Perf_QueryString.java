@@ -0,0 +1,94 @@
+package utils;
+
+import io.rebolt.core.utils.QueryString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 query string에서 2개의 파라미터만 읽는 경우, 파라미터 4개로 query string 생성
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_QueryString {
+
+  private static final String query =
+      "id=12345&name=%EB%85%B8%EC%84%B1%EB%B0%95&redirect=http%3A%2F%2Fgood.com%2Fpath%3Fa%3D1&page=3&size=20&sort=date&lang=ko";
+
+  @Benchmark
+  public void perf_splitDecodeAll(Blackhole blackhole) throws UnsupportedEncodingException {
+    Map<String, String> map = new HashMap<>();
+    for (String pair : query.split("&")) {
+      String[] keyValue = pair.split("=", 2);
+      map.put(URLDecoder.decode(keyValue[0], "UTF-8"), keyValue.length > 1 ? URLDecoder.decode(keyValue[1], "UTF-8") : "");
+    }
+    blackhole.consume(map.get("id"));
+    blackhole.consume(map.get("lang"));
+  }
+
+  @Benchmark
+  public void perf_queryString(Blackhole blackhole) {
+    QueryString parsed = QueryString.parse(query);
+    blackhole.consume(parsed.get("id"));
+    blackhole.consume(parsed.get("lang"));
+  }
+
+  @Benchmark
+  public String perf_buildUrlEncoder() throws UnsupportedEncodingException {
+    return new StringBuilder()
+        .append("id=").append(URLEncoder.encode("12345", "UTF-8"))
+        .append("&name=").append(URLEncoder.encode("노성박", "UTF-8"))
+        .append("&redirect=").append(URLEncoder.encode("http://good.com/path?a=1", "UTF-8"))
+        .append("&page=").append(URLEncoder.encode("3", "UTF-8"))
+        .toString();
+  }
+
+  @Benchmark
+  public String perf_buildQueryString() {
+    return QueryString.builder()
+        .add("id", "12345")
+        .add("name", "노성박")
+        .add("redirect", "http://good.com/path?a=1")
+        .add("page", 3)
+        .build();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_QueryString.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                             Mode  Cnt     Score      Error   Units
+Perf_QueryString.perf_buildQueryString                                avgt    3  1151.673 ± 1232.130   ns/op
+Perf_QueryString.perf_buildQueryString:·gc.alloc.rate.norm            avgt    3   416.414 ±    0.112    B/op
+Perf_QueryString.perf_buildUrlEncoder                                 avgt    3  1122.413 ± 1768.044   ns/op
+Perf_QueryString.perf_buildUrlEncoder:·gc.alloc.rate.norm             avgt    3  1705.561 ±    0.846    B/op
+Perf_QueryString.perf_queryString                                     avgt    3   507.972 ± 2425.221   ns/op
+Perf_QueryString.perf_queryString:·gc.alloc.rate.norm                 avgt    3   312.301 ±    0.250    B/op
+Perf_QueryString.perf_splitDecodeAll                                  avgt    3  2537.860 ± 3019.939   ns/op
+Perf_QueryString.perf_splitDecodeAll:·gc.alloc.rate.norm              avgt    3  3323.081 ±    1.715    B/op
+ */
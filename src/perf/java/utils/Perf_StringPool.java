@@ -0,0 +1,85 @@
+package utils;
+
+import io.rebolt.core.utils.RandomUtil;
+import io.rebolt.core.utils.Splitter;
+import io.rebolt.core.utils.StringPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Perf_StringPool {
+
+  private static final int lineCount = 100_000;
+  private static final String[] codes = new String[200];
+  private static final String[] lines = new String[lineCount];
+  private static final Splitter splitter = Splitter.on(',').trimResults();
+  private static final StringPool pool = new StringPool(1024);
+  private static final Splitter pooledSplitter = splitter.intern(pool);
+
+  static {
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = RandomUtil.randomAlpha(2).toUpperCase();
+    }
+    for (int i = 0; i < lineCount; i++) {
+      // 반복되는 코드값 4개 + 고유한 id 1개
+      lines[i] = codes[RandomUtil.randomInt(codes.length - 1)] + ", " + codes[RandomUtil.randomInt(19)] + ", "
+          + codes[RandomUtil.randomInt(codes.length - 1)] + ", " + codes[RandomUtil.randomInt(9)] + ", " + RandomUtil.randomAlpha(16);
+    }
+  }
+
+  @Benchmark
+  public List<String> perf_split() {
+    return splitter.split(lines[RandomUtil.randomInt(lineCount - 1)]);
+  }
+
+  @Benchmark
+  public List<String> perf_splitPooled() {
+    return pooledSplitter.split(lines[RandomUtil.randomInt(lineCount - 1)]);
+  }
+
+  /**
+   * 모든 라인의 토큰을 보관했을 때의 힙 사용량 (bytes)
+   */
+  private static long retainedHeap(Splitter splitter, List<Object> holder) {
+    System.gc();
+    Runtime runtime = Runtime.getRuntime();
+    long before = runtime.totalMemory() - runtime.freeMemory();
+    for (String line : lines) {
+      holder.add(splitter.split(line));
+    }
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory() - before;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    StringPool workloadPool = new StringPool(1024);
+    List<Object> plain = new ArrayList<>(lineCount);
+    long plainHeap = retainedHeap(splitter, plain);
+    List<Object> pooled = new ArrayList<>(lineCount);
+    long pooledHeap = retainedHeap(splitter.intern(workloadPool), pooled);
+    System.out.printf("tokens=%d, hitRate=%.3f, retained heap: plain=%dKB, pooled=%dKB, saved=%dKB%n",
+        workloadPool.hitCount() + workloadPool.missCount(), workloadPool.hitRate(), plainHeap / 1024, pooledHeap / 1024,
+        (plainHeap - pooledHeap) / 1024);
+
+    Options opt = new OptionsBuilder()
+        .include(Perf_StringPool.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+tokens=500000, hitRate=0.796, retained heap: plain=29965KB, pooled=11833KB, saved=18132KB
+
+Benchmark                          Mode  Cnt        Score         Error  Units
+Perf_StringPool.perf_split        thrpt    3  1611499.300 ± 1682340.948  ops/s
+Perf_StringPool.perf_splitPooled  thrpt    3  1109049.178 ±  580290.339  ops/s
+ */
@@ -0,0 +1,83 @@
+package utils;
+
+import io.rebolt.core.utils.CastUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 문자열 타입 변환: 타입 이름 switch vs ClassValue 변환기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_StringUtil_Cast {
+
+  private static final Function<String, Short> converter = CastUtil.converter(Short.class);
+  private final String value = "123";
+
+  @Benchmark
+  public Short perf_switch() {
+    return castSwitch(value, Short.class);
+  }
+
+  @Benchmark
+  public Short perf_cast() {
+    return StringUtil.cast(value, Short.class);
+  }
+
+  @Benchmark
+  public Short perf_converter() {
+    return converter.apply(value);
+  }
+
+  // 이전 StringUtil.cast 구현
+  private static <T> T castSwitch(String value, Class<T> type) {
+    switch (type.getSimpleName()) {
+      case "Integer":
+        return type.cast(Integer.valueOf(value));
+      case "Long":
+        return type.cast(Long.valueOf(value));
+      case "Boolean":
+        return type.cast(Boolean.valueOf(value));
+      case "Double":
+        return type.cast(Double.valueOf(value));
+      case "Float":
+        return type.cast(Float.valueOf(value));
+      case "Short":
+        return type.cast(Short.valueOf(value));
+      case "String":
+        return type.cast(value);
+      default:
+        return type.cast(String.valueOf(value));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_StringUtil_Cast.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                            Mode  Cnt   Score    Error  Units
+Perf_StringUtil_Cast.perf_cast       avgt    3  12.216 ± 27.539  ns/op
+Perf_StringUtil_Cast.perf_converter  avgt    3   9.416 ± 12.436  ns/op
+Perf_StringUtil_Cast.perf_switch     avgt    3  17.484 ±  7.981  ns/op
+ */
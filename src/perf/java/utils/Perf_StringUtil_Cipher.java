@@ -0,0 +1,76 @@
+package utils;
+
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.KeyPair;
+import java.util.Base64;
+
+public class Perf_StringUtil_Cipher {
+
+  private static final byte[] key = StringUtil.decodeBase64Bytes("3UdjVBvhAJELVoym1IJo4w==");
+  private static final KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+  private static final String value = StringUtil.randomAlpha(64);
+  private static final Object lock = new Object();
+  private static final Cipher sharedCipher;
+
+  static {
+    try {
+      sharedCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 하나의 Cipher를 잠금으로 공유하는 경우 (비교 기준)
+   */
+  @Benchmark
+  public String perf_aesCbcShared() throws Exception {
+    SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+    IvParameterSpec ivParameterSpec = new IvParameterSpec(secretKey.getEncoded());
+    synchronized (lock) {
+      sharedCipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
+      return Base64.getEncoder().encodeToString(sharedCipher.doFinal(value.getBytes()));
+    }
+  }
+
+  @Benchmark
+  public String perf_aesCbc() {
+    return StringUtil.encryptAesCbc(key, value);
+  }
+
+  @Benchmark
+  public String perf_rsa() {
+    return StringUtil.encryptRsa(keyPair.getPublic(), value);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    // 1 core에서는 스레드 수에 따른 확장을 측정할 수 없다
+    int cores = Runtime.getRuntime().availableProcessors();
+    if (cores < 2) {
+      throw new IllegalStateException("multi-core host required: " + cores);
+    }
+    for (int threads = 1; threads <= cores; threads <<= 1) {
+      Options opt = new OptionsBuilder()
+          .include(Perf_StringUtil_Cipher.class.getSimpleName())
+          .forks(1)
+          .threads(threads)
+          .measurementIterations(3)
+          .warmupIterations(3)
+          .build();
+      new Runner(opt).run();
+    }
+  }
+}
+
+/*
+multi-core 호스트에서 측정하여 threads=1, 2, 4, ... 결과를 기록한다 (1 core 결과는 확장을 보여주지 못하므로 제거)
+ */
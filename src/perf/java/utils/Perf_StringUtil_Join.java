@@ -8,6 +8,7 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -17,6 +18,7 @@ public class Perf_StringUtil_Join {
 
   private static final int count = 1000;
   private static final String[] initValues = new String[count];
+  private static final StringBuilder builder = new StringBuilder();
 
   static {
     for (int i = 0; i < count; i++) {
@@ -51,11 +53,29 @@ public class Perf_StringUtil_Join {
     String value = StringUtil.join(STRING_COMMA, initValues);
   }
 
+  @Benchmark
+  public void test_joiner() {
+    StringJoiner joiner = new StringJoiner(STRING_COMMA);
+    for (String initValue : initValues) {
+      if (initValue != null) {
+        joiner.add(initValue);
+      }
+    }
+    @SuppressWarnings("unused")
+    String value = joiner.toString();
+  }
+
+  @Benchmark
+  public int test_utilBuilder() {
+    builder.setLength(0);
+    return StringUtil.joinTo(builder, STRING_COMMA, initValues).length();
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(Perf_StringUtil_Join.class.getSimpleName())
-        .forks(1)
-        .measurementIterations(3)
+        .forks(3)
+        .measurementIterations(5)
         .warmupIterations(5)
         .build();
     new Runner(opt).run();
@@ -64,9 +84,11 @@ public class Perf_StringUtil_Join {
 }
 
 /*
-Benchmark                          Mode  Cnt      Score       Error  Units
-Perf_StringUtil_Join.test_guava   thrpt    3  42099.345 ± 34022.347  ops/s
-Perf_StringUtil_Join.test_native  thrpt    3  40663.711 ±  6381.123  ops/s
-Perf_StringUtil_Join.test_stream  thrpt    3  37709.746 ±  3580.409  ops/s
-Perf_StringUtil_Join.test_util    thrpt    3  40234.401 ±  4172.017  ops/s
- */
\ No newline at end of file
+Benchmark                               Mode  Cnt       Score      Error  Units
+Perf_StringUtil_Join.test_guava        thrpt   15   75934.314 ± 6730.303  ops/s
+Perf_StringUtil_Join.test_joiner       thrpt   15  117497.608 ± 4585.130  ops/s
+Perf_StringUtil_Join.test_native       thrpt   15  159198.631 ± 3486.079  ops/s
+Perf_StringUtil_Join.test_stream       thrpt   15   66848.227 ±  567.031  ops/s
+Perf_StringUtil_Join.test_util         thrpt   15  163276.699 ± 3312.578  ops/s
+Perf_StringUtil_Join.test_utilBuilder  thrpt   15   92902.476 ± 1764.716  ops/s
+ */
@@ -0,0 +1,90 @@
+package utils;
+
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64개 토큰 RSA 복호화 (순차 vs 일괄), 인코딩된 키로 KeyPair 생성 (파싱 vs 캐시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Perf_StringUtil_RsaBatch {
+
+  private static final KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+  private static final byte[] publicKeyBytes = keyPair.getPublic().getEncoded();
+  private static final byte[] privateKeyBytes = keyPair.getPrivate().getEncoded();
+  private List<String> tokens;
+
+  @Setup
+  public void setup() {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      values.add(StringUtil.randomAlpha(64));
+    }
+    tokens = StringUtil.encryptRsa(keyPair.getPublic(), values);
+  }
+
+  @Benchmark
+  public List<String> perf_decryptSequential() {
+    List<String> result = new ArrayList<>(tokens.size());
+    for (String token : tokens) {
+      result.add(StringUtil.decryptRsa(keyPair.getPrivate(), token));
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<String> perf_decryptBatch() {
+    return StringUtil.decryptRsa(keyPair.getPrivate(), tokens);
+  }
+
+  @Benchmark
+  public KeyPair perf_keyPairParse() throws Exception {
+    KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+    return new KeyPair(keyFactory.generatePublic(new X509EncodedKeySpec(publicKeyBytes)),
+        keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKeyBytes)));
+  }
+
+  @Benchmark
+  public KeyPair perf_keyPairCached() {
+    return StringUtil.createKeyPairRsa(publicKeyBytes, privateKeyBytes);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_StringUtil_RsaBatch.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+1 CPU 환경이므로 일괄 복호화의 병렬 효과는 없다 (분할/스케줄 비용만 측정됨), 코어 수에 비례하여 줄어든다
+Benchmark                                        Mode  Cnt       Score        Error  Units
+Perf_StringUtil_RsaBatch.perf_decryptBatch       avgt    3  125356.559 ± 387820.414  us/op
+Perf_StringUtil_RsaBatch.perf_decryptSequential  avgt    3   96838.171 ± 328221.067  us/op
+Perf_StringUtil_RsaBatch.perf_keyPairCached      avgt    3       2.017 ±      2.028  us/op
+Perf_StringUtil_RsaBatch.perf_keyPairParse       avgt    3       5.355 ±      4.013  us/op
+ */
@@ -1,6 +1,7 @@
 package utils;
 
 import com.google.common.base.Splitter;
+import io.rebolt.core.utils.SplitCursor;
 import io.rebolt.core.utils.StringUtil;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.runner.Runner;
@@ -15,6 +16,8 @@ public class Perf_StringUtil_Split {
   private static final int length = 1000;
   private static final StringBuilder buffer = new StringBuilder();
   private static String string;
+  private static SplitCursor cursor;
+  private static final io.rebolt.core.utils.Splitter splitter = io.rebolt.core.utils.Splitter.on(",").trimResults().omitEmptyStrings();
 
   static {
     for (int i = 0; i < length; i++) {
@@ -22,6 +25,7 @@ public class Perf_StringUtil_Split {
       buffer.append(",");
     }
     string = buffer.toString();
+    cursor = StringUtil.splitCursor(',', string);
   }
 
   @Benchmark
@@ -29,6 +33,31 @@ public class Perf_StringUtil_Split {
     List<String> split = StringUtil.split(',', string);
   }
 
+  @Benchmark
+  public int perf_cursor() {
+    int sum = 0;
+    SplitCursor split = StringUtil.splitCursor(',', string);
+    while (split.next()) {
+      sum += split.start();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int perf_cursorReuse() {
+    int sum = 0;
+    cursor.reset(string);
+    while (cursor.next()) {
+      sum += cursor.start();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public void perf_splitter() {
+    List<String> split = splitter.split(string);
+  }
+
   @Benchmark
   public void perf_native() {
     String[] split = string.split(",");
@@ -51,10 +80,11 @@ public class Perf_StringUtil_Split {
 }
 
 /*
-Benchmark                           Mode  Cnt      Score      Error  Units
-Perf_StringUtil_Split.perf_guava   thrpt    3  17438.920 ± 7556.117  ops/s
-Perf_StringUtil_Split.perf_native  thrpt    3  17051.244 ± 1386.465  ops/s
-Perf_StringUtil_Split.perf_util    thrpt    3  18149.706 ± 7152.384  ops/s
+Benchmark                                Mode  Cnt      Score       Error  Units
+Perf_StringUtil_Split.perf_cursor       thrpt    3  72058.242 ± 64302.568  ops/s
+Perf_StringUtil_Split.perf_cursorReuse  thrpt    3  78729.292 ± 79410.987  ops/s
+Perf_StringUtil_Split.perf_guava        thrpt    3   7201.848 ±  5497.930  ops/s
+Perf_StringUtil_Split.perf_native       thrpt    3  52146.035 ± 51353.645  ops/s
+Perf_StringUtil_Split.perf_splitter     thrpt    3  60619.989 ± 65692.766  ops/s
+Perf_StringUtil_Split.perf_util         thrpt    3  55137.895 ± 83932.621  ops/s
  */
-
-
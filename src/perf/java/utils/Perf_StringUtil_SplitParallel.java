@@ -0,0 +1,85 @@
+package utils;
+
+import io.rebolt.core.utils.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+public class Perf_StringUtil_SplitParallel {
+
+  private static final int length = 200_000;
+  private static final String string;
+
+  static {
+    StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      buffer.append(StringUtil.randomAlpha(64));
+      buffer.append(",");
+    }
+    string = buffer.toString();
+  }
+
+  // threads는 perf_parallel에만 적용
+  @State(Scope.Benchmark)
+  public static class Pool {
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+      pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public long perf_sequential() {
+    return StringUtil.splitStream(',', string, false).mapToInt(CharSequence::length).sum();
+  }
+
+  @Benchmark
+  public long perf_parallel(Pool state) throws ExecutionException, InterruptedException {
+    return state.pool.submit(() -> StringUtil.splitStream(',', string, true).mapToInt(CharSequence::length).sum()).get();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    // 1 core에서는 스레드 수에 따른 확장을 측정할 수 없다
+    int cores = Runtime.getRuntime().availableProcessors();
+    if (cores < 2) {
+      throw new IllegalStateException("multi-core host required: " + cores);
+    }
+    List<String> threads = new ArrayList<>();
+    for (int count = 1; count <= cores; count <<= 1) {
+      threads.add(String.valueOf(count));
+    }
+    Options opt = new OptionsBuilder()
+        .include(Perf_StringUtil_SplitParallel.class.getSimpleName())
+        .param("threads", threads.toArray(new String[0]))
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+multi-core 호스트에서 측정하여 threads=1, 2, 4, ... 결과를 기록한다 (1 core 결과는 확장을 보여주지 못하므로 제거)
+ */
@@ -0,0 +1,90 @@
+package utils;
+
+import io.rebolt.core.utils.UriTemplate;
+import io.rebolt.core.utils.UriUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 서비스 url 생성: combineUri (재귀, 반복) vs 컴파일된 UriTemplate
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_UriTemplate {
+
+  private static final String base = "https://api.nexon.com/";
+  private static final String[] segments = {"/v1/", "users", "12345", "/orders/", "67890", "items", "/detail"};
+  private static final UriTemplate template = UriTemplate.compile(base, "/v1/users/{userId}/orders/{orderId}/items/detail");
+
+  @Benchmark
+  public String perf_combineUriRecursive() {
+    return combineUriRecursive(base, segments);
+  }
+
+  @Benchmark
+  public String perf_combineUri() {
+    return UriUtil.combineUri(base, segments);
+  }
+
+  @Benchmark
+  public String perf_concatEncode() throws UnsupportedEncodingException {
+    return base + "v1/users/" + URLEncoder.encode("12345", "UTF-8") + "/orders/" + URLEncoder.encode("67890", "UTF-8")
+        + "/items/detail";
+  }
+
+  @Benchmark
+  public String perf_template() {
+    return template.expand("12345", "67890");
+  }
+
+  // region legacy
+
+  private static String combineUriRecursive(String first, String... uris) {
+    if (uris.length == 0) {
+      return first;
+    } else if (uris.length == 1) {
+      return UriUtil.combineUri(first, uris[0]);
+    } else {
+      return UriUtil.combineUri(first, combineUriRecursive(uris[0], Arrays.copyOfRange(uris, 1, uris.length)));
+    }
+  }
+
+  // endregion
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_UriTemplate.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                                Mode  Cnt     Score      Error   Units
+Perf_UriTemplate.perf_combineUri                                         avgt    3   192.928 ±  310.381   ns/op
+Perf_UriTemplate.perf_combineUri:·gc.alloc.rate.norm                     avgt    3   240.221 ±    0.072    B/op
+Perf_UriTemplate.perf_combineUriRecursive                                avgt    3   649.522 ±  742.259   ns/op
+Perf_UriTemplate.perf_combineUriRecursive:·gc.alloc.rate.norm            avgt    3  1313.181 ±    0.213    B/op
+Perf_UriTemplate.perf_concatEncode                                       avgt    3   198.169 ±   24.090   ns/op
+Perf_UriTemplate.perf_concatEncode:·gc.alloc.rate.norm                   avgt    3   552.489 ±    0.041    B/op
+Perf_UriTemplate.perf_template                                           avgt    3   141.390 ±  136.518   ns/op
+Perf_UriTemplate.perf_template:·gc.alloc.rate.norm                       avgt    3   208.190 ±    0.102    B/op
+ */
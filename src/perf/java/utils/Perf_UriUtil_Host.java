@@ -0,0 +1,98 @@
+package utils;
+
+import io.rebolt.core.utils.UriUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * referer 검사: java.net.URI 기반 (이전 구현) vs UriComponents 기반
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_UriUtil_Host {
+
+  private static final String origin = "https://www.Nexon.com";
+  private static final String referer = "https://nexon.com/forum/board/123?page=3&sort=date#comment-45";
+
+  @Benchmark
+  public boolean perf_containsHostLegacy() {
+    try {
+      String originHost = new URI(origin).getHost().toLowerCase();
+      String diffHost = new URI(referer).getHost().toLowerCase();
+      return originHost.replace("www.", "").equals(diffHost.replace("www.", ""));
+    } catch (Exception ignored) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean perf_containsHost() {
+    return UriUtil.containsHost(origin, referer);
+  }
+
+  @Benchmark
+  public String perf_getHostLegacy() throws URISyntaxException {
+    return new URI(referer).getHost().toLowerCase().replace("www.", "");
+  }
+
+  @Benchmark
+  public String perf_getHost() {
+    return UriUtil.getHost(referer);
+  }
+
+  @Benchmark
+  public String perf_getOriginLegacy() throws URISyntaxException {
+    URI uri = new URI(referer);
+    int port = uri.getPort();
+    if (port == 80 || port == 443) {
+      return uri.getScheme() + "://" + uri.getHost();
+    } else {
+      return uri.getScheme() + "://" + uri.getAuthority();
+    }
+  }
+
+  @Benchmark
+  public String perf_getOrigin() {
+    return UriUtil.getOrigin(referer);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_UriUtil_Host.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                                Mode  Cnt     Score      Error   Units
+Perf_UriUtil_Host.perf_containsHost                                      avgt    3   214.725 ±  393.134   ns/op
+Perf_UriUtil_Host.perf_containsHost:·gc.alloc.rate.norm                  avgt    3    96.095 ±    0.053    B/op
+Perf_UriUtil_Host.perf_containsHostLegacy                                avgt    3  1862.136 ± 6146.648   ns/op
+Perf_UriUtil_Host.perf_containsHostLegacy:·gc.alloc.rate.norm            avgt    3   824.823 ±    0.597    B/op
+Perf_UriUtil_Host.perf_getHost                                           avgt    3   165.205 ±  133.321   ns/op
+Perf_UriUtil_Host.perf_getHost:·gc.alloc.rate.norm                       avgt    3   104.101 ±    0.048    B/op
+Perf_UriUtil_Host.perf_getHostLegacy                                     avgt    3   833.573 ± 4090.470   ns/op
+Perf_UriUtil_Host.perf_getHostLegacy:·gc.alloc.rate.norm                 avgt    3   440.438 ±    0.463    B/op
+Perf_UriUtil_Host.perf_getOrigin                                         avgt    3   109.390 ±  217.875   ns/op
+Perf_UriUtil_Host.perf_getOrigin:·gc.alloc.rate.norm                     avgt    3   112.105 ±    0.054    B/op
+Perf_UriUtil_Host.perf_getOriginLegacy                                   avgt    3  1111.898 ± 3465.108   ns/op
+Perf_UriUtil_Host.perf_getOriginLegacy:·gc.alloc.rate.norm               avgt    3   592.564 ±    0.319    B/op
+ */
@@ -0,0 +1,99 @@
+package utils;
+
+import io.rebolt.core.utils.UrlCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URLEncoder/URLDecoder vs UrlCodec
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Perf_UrlCodec {
+
+  private static final String plain = "rebolt-core_query.value-0123456789";
+  private static final String mixed = "name=노성박&redirect=http://good.com/path?a=1 b&c=ⓐ";
+  private static final String encoded = UrlCodec.FORM.encode(mixed);
+  private final StringBuilder builder = new StringBuilder(256);
+
+  @Benchmark
+  public String perf_urlEncoderPlain() throws UnsupportedEncodingException {
+    return URLEncoder.encode(plain, "UTF-8");
+  }
+
+  @Benchmark
+  public String perf_urlCodecPlain() {
+    return UrlCodec.FORM.encode(plain);
+  }
+
+  @Benchmark
+  public String perf_urlEncoderMixed() throws UnsupportedEncodingException {
+    return URLEncoder.encode(mixed, "UTF-8");
+  }
+
+  @Benchmark
+  public String perf_urlCodecMixed() {
+    return UrlCodec.FORM.encode(mixed);
+  }
+
+  @Benchmark
+  public StringBuilder perf_urlCodecMixedAppendable() throws IOException {
+    builder.setLength(0);
+    UrlCodec.FORM.encode(mixed, 0, mixed.length(), builder);
+    return builder;
+  }
+
+  @Benchmark
+  public String perf_urlDecoder() throws UnsupportedEncodingException {
+    return URLDecoder.decode(encoded, "UTF-8");
+  }
+
+  @Benchmark
+  public String perf_urlCodecDecode() {
+    return UrlCodec.FORM.decode(encoded);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(Perf_UrlCodec.class.getSimpleName())
+        .forks(1)
+        .measurementIterations(3)
+        .warmupIterations(3)
+        .addProfiler("gc")
+        .build();
+    new Runner(opt).run();
+  }
+}
+
+/*
+Benchmark                                                         Mode  Cnt     Score      Error   Units
+Perf_UrlCodec.perf_urlCodecDecode                                 avgt    3   296.652 ±  646.010   ns/op
+Perf_UrlCodec.perf_urlCodecDecode:·gc.alloc.rate.norm             avgt    3   456.411 ±    0.118    B/op
+Perf_UrlCodec.perf_urlCodecMixed                                  avgt    3   535.773 ± 2462.659   ns/op
+Perf_UrlCodec.perf_urlCodecMixed:·gc.alloc.rate.norm              avgt    3   400.383 ±    0.163    B/op
+Perf_UrlCodec.perf_urlCodecMixedAppendable                        avgt    3   364.382 ±  426.054   ns/op
+Perf_UrlCodec.perf_urlCodecMixedAppendable:·gc.alloc.rate.norm    avgt    3    ≈ 10⁻⁴               B/op
+Perf_UrlCodec.perf_urlCodecPlain                                  avgt    3    34.812 ±   84.808   ns/op
+Perf_UrlCodec.perf_urlCodecPlain:·gc.alloc.rate.norm              avgt    3    ≈ 10⁻⁵               B/op
+Perf_UrlCodec.perf_urlDecoder                                     avgt    3   871.274 ± 4565.118   ns/op
+Perf_UrlCodec.perf_urlDecoder:·gc.alloc.rate.norm                 avgt    3  1129.019 ±    0.475    B/op
+Perf_UrlCodec.perf_urlEncoderMixed                                avgt    3  1183.943 ±  638.835   ns/op
+Perf_UrlCodec.perf_urlEncoderMixed:·gc.alloc.rate.norm            avgt    3  1161.096 ±    0.372    B/op
+Perf_UrlCodec.perf_urlEncoderPlain                                avgt    3   305.208 ±  794.203   ns/op
+Perf_UrlCodec.perf_urlEncoderPlain:·gc.alloc.rate.norm            avgt    3   168.162 ±    0.036    B/op
+ */
@@ -0,0 +1,165 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.Base64Codec;
+import io.rebolt.core.utils.RandomUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Base64;
+
+import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class Test_Base64Codec {
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) RandomUtil.randomInt(255);
+    }
+    return bytes;
+  }
+
+  @Test
+  public void test_encode() {
+    for (int length = 0; length < 70; length++) {
+      byte[] bytes = randomBytes(length);
+      assertEquals(Base64.getEncoder().encodeToString(bytes), Base64Codec.BASIC.encodeToString(bytes));
+      assertEquals(Base64.getUrlEncoder().encodeToString(bytes), Base64Codec.URL_SAFE.encodeToString(bytes));
+      assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes),
+          Base64Codec.URL_SAFE.withoutPadding().encodeToString(bytes));
+    }
+  }
+
+  @Test
+  public void test_decode() {
+    for (int length = 0; length < 70; length++) {
+      byte[] bytes = randomBytes(length);
+      assertArrayEquals(bytes, Base64Codec.BASIC.decode(Base64.getEncoder().encodeToString(bytes)));
+      assertArrayEquals(bytes, Base64Codec.URL_SAFE.decode(Base64.getUrlEncoder().encodeToString(bytes)));
+      assertArrayEquals(bytes, Base64Codec.URL_SAFE.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes)));
+    }
+    for (String invalid : new String[]{"A", "AB=C", "A===", "AB==CD", "AB=", "ABC*", "ABÿ="}) {
+      try {
+        Base64Codec.BASIC.decode(invalid);
+        throw new AssertionError(invalid);
+      } catch (IllegalParameterException ignored) {
+      }
+    }
+  }
+
+  @Test
+  public void test_byteBuffer() {
+    byte[] bytes = randomBytes(100);
+    ByteBuffer source = ByteBuffer.wrap(bytes);
+    ByteBuffer target = ByteBuffer.allocate(10);
+    ByteBuffer encoded = ByteBuffer.allocate(200);
+    // 작은 target으로 나누어 인코딩
+    while (source.hasRemaining()) {
+      Base64Codec.BASIC.encode(source, target, true);
+      target.flip();
+      encoded.put(target);
+      target.clear();
+    }
+    encoded.flip();
+    assertEquals(Base64.getEncoder().encodeToString(bytes), CHARSET_UTF8.decode(encoded.duplicate()).toString());
+
+    ByteBuffer decoded = ByteBuffer.allocateDirect(100);
+    assertEquals(100, Base64Codec.BASIC.decode(encoded, decoded, true));
+    decoded.flip();
+    byte[] result = new byte[decoded.remaining()];
+    decoded.get(result);
+    assertArrayEquals(bytes, result);
+
+    // 마지막 입력이 아니면 3바이트 미만의 나머지는 남겨 둔다
+    ByteBuffer partial = ByteBuffer.wrap(new byte[]{1, 2, 3, 4});
+    assertEquals(4, Base64Codec.BASIC.encode(partial, ByteBuffer.allocate(8), false));
+    assertEquals(1, partial.remaining());
+  }
+
+  @Test
+  public void test_byteBufferLittleEndian() {
+    ByteBuffer source = ByteBuffer.wrap("hello!".getBytes(CHARSET_UTF8)).order(ByteOrder.LITTLE_ENDIAN);
+    ByteBuffer target = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(8, Base64Codec.BASIC.encode(source, target, true));
+    assertEquals("aGVsbG8h", new String(target.array(), CHARSET_UTF8));
+
+    target.flip();
+    ByteBuffer decoded = ByteBuffer.allocateDirect(6).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(6, Base64Codec.BASIC.decode(target, decoded, true));
+    decoded.flip();
+    assertEquals("hello!", CHARSET_UTF8.decode(decoded).toString());
+  }
+
+  @Test
+  public void test_channel() throws IOException {
+    for (int length : new int[]{0, 1, 2, 3, 100_000, 100_001}) {
+      byte[] bytes = randomBytes(length);
+      ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+      long written = Base64Codec.BASIC.encode(slow(bytes), Channels.newChannel(encoded),
+          ByteBuffer.allocate(7), ByteBuffer.allocate(5));
+      assertEquals(Base64.getEncoder().encodeToString(bytes), new String(encoded.toByteArray(), CHARSET_UTF8));
+      assertEquals(encoded.size(), written);
+
+      ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+      assertEquals(length, Base64Codec.BASIC.decode(slow(encoded.toByteArray()), Channels.newChannel(decoded)));
+      assertArrayEquals(bytes, decoded.toByteArray());
+
+      decoded.reset();
+      Base64Codec.BASIC.decode(slow(encoded.toByteArray()), Channels.newChannel(decoded),
+          ByteBuffer.allocate(6), ByteBuffer.allocate(3));
+      assertArrayEquals(bytes, decoded.toByteArray());
+    }
+  }
+
+  @Test(expected = IllegalParameterException.class)
+  public void test_channelPaddingInMiddle() throws IOException {
+    Base64Codec.BASIC.decode(slow("QQ==QUJD".getBytes(CHARSET_UTF8)), Channels.newChannel(new ByteArrayOutputStream()),
+        ByteBuffer.allocate(4), ByteBuffer.allocate(3));
+  }
+
+  @Test
+  public void test_stringUtil() {
+    String value = "Base64 인코딩 ⓐⓑ";
+    assertEquals(Base64.getEncoder().encodeToString(value.getBytes(CHARSET_UTF8)), StringUtil.encodeBase64(value));
+    assertEquals(value, StringUtil.decodeBase64(StringUtil.encodeBase64(value)));
+  }
+
+  /**
+   * 한번에 최대 3바이트씩 읽히는 채널
+   */
+  private static ReadableByteChannel slow(byte[] bytes) {
+    ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+    return new ReadableByteChannel() {
+      @Override
+      public int read(ByteBuffer buffer) throws IOException {
+        ByteBuffer window = buffer.duplicate();
+        window.limit(Math.min(buffer.limit(), buffer.position() + 3));
+        int read = channel.read(window);
+        if (read > 0) {
+          buffer.position(window.position());
+        }
+        return read;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return channel.isOpen();
+      }
+
+      @Override
+      public void close() throws IOException {
+        channel.close();
+      }
+    };
+  }
+}
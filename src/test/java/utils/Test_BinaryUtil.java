@@ -0,0 +1,144 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.BinaryUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class Test_BinaryUtil {
+
+  @Test
+  public void test_fixed() {
+    SplittableRandom random = new SplittableRandom(5);
+    byte[] bytes = new byte[32];
+    for (int i = 0; i < 10000; i++) {
+      int intValue = random.nextInt();
+      long longValue = random.nextLong();
+      float floatValue = Float.intBitsToFloat(random.nextInt());
+      double doubleValue = Double.longBitsToDouble(random.nextLong());
+      int offset = random.nextInt(8);
+
+      // ByteBuffer와 같은 바이트
+      assertEquals(offset + 4, BinaryUtil.putInt(bytes, offset, intValue));
+      assertEquals(intValue, ByteBuffer.wrap(bytes, offset, 4).getInt());
+      assertEquals(intValue, BinaryUtil.getInt(bytes, offset));
+      assertEquals(offset + 4, BinaryUtil.putIntLE(bytes, offset, intValue));
+      assertEquals(intValue, ByteBuffer.wrap(bytes, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+      assertEquals(intValue, BinaryUtil.getIntLE(bytes, offset));
+
+      assertEquals(offset + 8, BinaryUtil.putLong(bytes, offset, longValue));
+      assertEquals(longValue, ByteBuffer.wrap(bytes, offset, 8).getLong());
+      assertEquals(longValue, BinaryUtil.getLong(bytes, offset));
+      assertEquals(offset + 8, BinaryUtil.putLongLE(bytes, offset, longValue));
+      assertEquals(longValue, ByteBuffer.wrap(bytes, offset, 8).order(ByteOrder.LITTLE_ENDIAN).getLong());
+      assertEquals(longValue, BinaryUtil.getLongLE(bytes, offset));
+
+      BinaryUtil.putFloat(bytes, offset, floatValue);
+      assertEquals(Float.floatToRawIntBits(floatValue), Float.floatToRawIntBits(BinaryUtil.getFloat(bytes, offset)));
+      BinaryUtil.putFloatLE(bytes, offset, floatValue);
+      assertEquals(Float.floatToRawIntBits(floatValue), Float.floatToRawIntBits(BinaryUtil.getFloatLE(bytes, offset)));
+      BinaryUtil.putDouble(bytes, offset, doubleValue);
+      assertEquals(Double.doubleToRawLongBits(doubleValue), Double.doubleToRawLongBits(BinaryUtil.getDouble(bytes, offset)));
+      BinaryUtil.putDoubleLE(bytes, offset, doubleValue);
+      assertEquals(Double.doubleToRawLongBits(doubleValue), Double.doubleToRawLongBits(BinaryUtil.getDoubleLE(bytes, offset)));
+    }
+  }
+
+  @Test
+  public void test_buffer() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    BinaryUtil.putInt(buffer, 0x01020304, ByteOrder.LITTLE_ENDIAN);
+    BinaryUtil.putLong(buffer, -2L, ByteOrder.BIG_ENDIAN);
+    BinaryUtil.putFloat(buffer, 1.5f, ByteOrder.LITTLE_ENDIAN);
+    BinaryUtil.putDouble(buffer, -0.25, ByteOrder.LITTLE_ENDIAN);
+    assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    byte[] bytes = buffer.array();
+    assertArrayEquals(new byte[]{4, 3, 2, 1}, new byte[]{bytes[0], bytes[1], bytes[2], bytes[3]});
+
+    buffer.flip();
+    assertEquals(0x01020304, BinaryUtil.getInt(buffer, ByteOrder.LITTLE_ENDIAN));
+    assertEquals(-2L, BinaryUtil.getLong(buffer, ByteOrder.BIG_ENDIAN));
+    assertEquals(1.5f, BinaryUtil.getFloat(buffer, ByteOrder.LITTLE_ENDIAN), 0);
+    assertEquals(-0.25, BinaryUtil.getDouble(buffer, ByteOrder.LITTLE_ENDIAN), 0);
+    assertEquals(-0.25, BinaryUtil.getDoubleLE(bytes, 16), 0);
+  }
+
+  @Test
+  public void test_varint() {
+    assertArrayEquals(new byte[]{(byte) 0xac, 0x02}, varInt(300));
+    assertArrayEquals(new byte[]{0}, varInt(0));
+    assertEquals(5, BinaryUtil.varIntSize(-1));
+    assertEquals(10, BinaryUtil.varLongSize(-1L));
+
+    SplittableRandom random = new SplittableRandom(9);
+    byte[] bytes = new byte[16];
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    for (int i = 0; i < 10000; i++) {
+      int intValue = random.nextInt() >> random.nextInt(32);
+      long longValue = random.nextLong() >> random.nextInt(64);
+      int offset = random.nextInt(4);
+
+      int end = BinaryUtil.putVarInt(bytes, offset, intValue);
+      assertEquals(BinaryUtil.varIntSize(intValue), end - offset);
+      assertEquals(intValue, BinaryUtil.getVarInt(bytes, offset));
+      end = BinaryUtil.putVarLong(bytes, offset, longValue);
+      assertEquals(BinaryUtil.varLongSize(longValue), end - offset);
+      assertEquals(longValue, BinaryUtil.getVarLong(bytes, offset));
+
+      buffer.clear();
+      BinaryUtil.putVarInt(buffer, intValue);
+      BinaryUtil.putVarLong(buffer, longValue);
+      buffer.flip();
+      assertEquals(intValue, BinaryUtil.getVarInt(buffer));
+      assertEquals(longValue, BinaryUtil.getVarLong(buffer));
+      assertEquals(0, buffer.remaining());
+    }
+
+    try {
+      BinaryUtil.getVarInt(new byte[]{-1, -1, -1, -1, -1, 1}, 0);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+
+  @Test
+  public void test_zigZag() {
+    int[] values = {0, -1, 1, -2, 2};
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(i, BinaryUtil.encodeZigZag(values[i]));
+      assertEquals(i, BinaryUtil.encodeZigZag((long) values[i]));
+    }
+    SplittableRandom random = new SplittableRandom(13);
+    for (int i = 0; i < 10000; i++) {
+      int intValue = random.nextInt();
+      long longValue = random.nextLong();
+      assertEquals(intValue, BinaryUtil.decodeZigZag(BinaryUtil.encodeZigZag(intValue)));
+      assertEquals(longValue, BinaryUtil.decodeZigZag(BinaryUtil.encodeZigZag(longValue)));
+    }
+    assertEquals(1, BinaryUtil.varIntSize(BinaryUtil.encodeZigZag(-64)));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void test_intToBytes() {
+    byte[] bytes = new byte[4];
+    BinaryUtil.putInt(bytes, 0, 0x81020304);
+    assertArrayEquals(bytes, StringUtil.intToBytes(0x81020304, 4));
+    assertEquals(0x81020304, StringUtil.bytesToInt(bytes));
+    assertArrayEquals(new byte[]{0, 0, 1, 0}, StringUtil.intToBytes(256, 4));
+  }
+
+  private static byte[] varInt(int value) {
+    byte[] bytes = new byte[BinaryUtil.varIntSize(value)];
+    BinaryUtil.putVarInt(bytes, 0, value);
+    return bytes;
+  }
+}
@@ -0,0 +1,43 @@
+package utils;
+
+import io.rebolt.core.utils.BoundedCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public final class Test_BoundedCache {
+
+  @Test
+  public void test_bounded() {
+    BoundedCache<Integer, String> cache = new BoundedCache<>(3);
+    for (int i = 0; i < 5; i++) {
+      cache.put(i, String.valueOf(i));
+    }
+    assertEquals(3, cache.size());
+    // 먼저 넣은 항목부터 제거된다
+    assertNull(cache.get(0));
+    assertNull(cache.get(1));
+    assertEquals("4", cache.get(4));
+    assertEquals(1, cache.hitCount());
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  public void test_put() {
+    BoundedCache<String, String> cache = new BoundedCache<>(10);
+    String first = new String("value");
+    assertSame(first, cache.put("key", first));
+    assertSame(first, cache.put("key", new String("value")));
+    assertSame(first, cache.computeIfAbsent("key", key -> "other"));
+    assertEquals("loaded", cache.computeIfAbsent("other", key -> "loaded"));
+    assertNull(cache.computeIfAbsent("null", key -> null));
+    assertEquals(2, cache.size());
+
+    cache.invalidate("key");
+    assertNull(cache.get("key"));
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+}
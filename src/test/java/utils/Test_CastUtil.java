@@ -0,0 +1,112 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.CastUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class Test_CastUtil {
+
+  @Test
+  public void test_builtIn() {
+    assertEquals(Integer.valueOf(10), CastUtil.cast("10", Integer.class));
+    assertEquals(Integer.valueOf(10), CastUtil.cast("10", int.class));
+    assertEquals(Long.valueOf(-1L), CastUtil.cast("-1", long.class));
+    assertEquals(Short.valueOf((short) 3), CastUtil.cast("3", short.class));
+    assertEquals(Byte.valueOf((byte) 7), CastUtil.cast("7", Byte.class));
+    assertEquals(Boolean.TRUE, CastUtil.cast("true", boolean.class));
+    assertEquals(Double.valueOf(1.5), CastUtil.cast("1.5", double.class));
+    assertEquals(Float.valueOf(1.5f), CastUtil.cast("1.5", Float.class));
+    assertEquals(Character.valueOf('a'), CastUtil.cast("a", char.class));
+    assertEquals(new BigDecimal("1.10"), CastUtil.cast("1.10", BigDecimal.class));
+    assertEquals(new BigInteger("123456789012345678901234567890"),
+        CastUtil.cast("123456789012345678901234567890", BigInteger.class));
+    assertEquals(Duration.ofSeconds(10), CastUtil.cast("PT10S", Duration.class));
+    assertEquals(Duration.ofMillis(1500), CastUtil.cast("1500", Duration.class));
+    assertEquals(Duration.ofMillis(-5), CastUtil.cast("-5", Duration.class));
+    assertEquals("value", CastUtil.cast("value", String.class));
+    assertEquals("value", CastUtil.cast("value", Object.class));
+    assertNull(CastUtil.cast(null, Integer.class));
+
+    // StringUtil.cast 위임
+    assertEquals(Integer.valueOf(10), StringUtil.cast("10", int.class));
+    assertEquals(Long.valueOf(10L), StringUtil.cast("10", Long.class));
+    // StringUtil.cast는 null을 변환기에 그대로 전달
+    assertEquals(Boolean.FALSE, StringUtil.cast(null, Boolean.class));
+    assertNull(StringUtil.cast(null, String.class));
+    try {
+      StringUtil.cast(null, Integer.class);
+      fail();
+    } catch (NumberFormatException ignored) {
+    }
+  }
+
+  @Test
+  public void test_enum() {
+    assertEquals(TimeUnit.SECONDS, CastUtil.cast("SECONDS", TimeUnit.class));
+    assertEquals(TimeUnit.SECONDS, CastUtil.cast(" seconds ", TimeUnit.class));
+    try {
+      CastUtil.cast("weeks", TimeUnit.class);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+
+  @Test
+  public void test_illegal() {
+    try {
+      CastUtil.cast("ab", char.class);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+    try {
+      CastUtil.cast("1", Test_CastUtil.class);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+    try {
+      CastUtil.cast("a", int.class);
+      fail();
+    } catch (NumberFormatException ignored) {
+    }
+  }
+
+  @Test
+  public void test_register() {
+    Function<String, Integer> converter = CastUtil.converter(int.class);
+    assertSame(converter, CastUtil.converter(int.class));
+
+    CastUtil.register(StringBuilder.class, StringBuilder::new);
+    try {
+      assertEquals("abc", CastUtil.cast("abc", StringBuilder.class).toString());
+    } finally {
+      CastUtil.unregister(StringBuilder.class);
+    }
+    try {
+      CastUtil.cast("abc", StringBuilder.class);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+
+    // 내장 변환기 교체
+    CastUtil.register(Boolean.class, value -> "y".equalsIgnoreCase(value) || Boolean.parseBoolean(value));
+    try {
+      assertEquals(Boolean.TRUE, CastUtil.cast("Y", Boolean.class));
+      assertEquals(Boolean.FALSE, CastUtil.cast("Y", boolean.class));
+    } finally {
+      CastUtil.unregister(Boolean.class);
+    }
+    assertEquals(Boolean.FALSE, CastUtil.cast("Y", Boolean.class));
+  }
+}
@@ -0,0 +1,75 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.CharMatcher;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class Test_CharMatcher {
+
+  @Test
+  public void test_classes() {
+    for (char c = 0; c < 0x300; c++) {
+      assertEquals(c >= '0' && c <= '9', CharMatcher.DIGIT.matches(c));
+      assertEquals(c < 0x80, CharMatcher.ASCII.matches(c));
+      assertEquals(c < 0x80 && Character.digit(c, 16) != -1, CharMatcher.HEX.matches(c));
+      assertEquals(c < 0x80 && Character.isLetterOrDigit(c), CharMatcher.ALNUM.matches(c));
+      assertEquals(c <= ' ', CharMatcher.WHITESPACE.matches(c));
+      assertEquals(c >= 0x80, CharMatcher.ASCII.negate().matches(c));
+    }
+    assertTrue(CharMatcher.ANY.matches('￿'));
+    assertFalse(CharMatcher.NONE.matches('a'));
+    assertTrue(CharMatcher.anyOf("가-").matches('가'));
+    assertFalse(CharMatcher.anyOf("가-").matches('나'));
+    assertSame(CharMatcher.NONE, CharMatcher.anyOf(""));
+    assertFalse(CharMatcher.anyOf("").matches('\0'));
+    assertTrue(CharMatcher.anyOf("\0").matches('\0'));
+    assertTrue(CharMatcher.DIGIT.and(CharMatcher.inRange('5', 'z')).matches('7'));
+    assertFalse(CharMatcher.DIGIT.and(CharMatcher.inRange('5', 'z')).matches('4'));
+  }
+
+  @Test
+  public void test_chars() {
+    assertTrue(CharMatcher.DIGIT.matchesAll("0123456789"));
+    assertFalse(CharMatcher.DIGIT.matchesAll("01234a"));
+    assertTrue(CharMatcher.DIGIT.matchesAll(""));
+    assertEquals(3, CharMatcher.DIGIT.indexIn("abc1d2"));
+    assertEquals(5, CharMatcher.DIGIT.indexIn("abc1d2", 4));
+    assertEquals(-1, CharMatcher.DIGIT.indexIn("abc"));
+    assertEquals(2, CharMatcher.DIGIT.countIn("abc1d2"));
+    assertEquals("--", CharMatcher.DIGIT.removeFrom("010-1234-5678"));
+    String value = "abc";
+    assertSame(value, CharMatcher.DIGIT.removeFrom(value));
+    assertEquals("a b", CharMatcher.WHITESPACE.trimFrom("\t a b \n"));
+    assertSame(value, CharMatcher.WHITESPACE.trimFrom(value));
+    assertEquals("", CharMatcher.WHITESPACE.trimFrom("   "));
+    assertEquals("1.5", CharMatcher.anyOf("0").trimFrom(new StringBuilder("001.500")).toString());
+  }
+
+  @Test
+  public void test_bytes() {
+    byte[] bytes = " 가1b2 ".getBytes(UTF_8);
+    assertEquals(2, CharMatcher.DIGIT.countIn(bytes, 0, bytes.length));
+    assertEquals(4, CharMatcher.DIGIT.indexIn(bytes, 0, bytes.length));
+    assertEquals(1, CharMatcher.ASCII.negate().indexIn(bytes, 0, bytes.length));
+    assertFalse(CharMatcher.ASCII.matchesAll(bytes, 0, bytes.length));
+    assertTrue(CharMatcher.HEX.matchesAll(bytes, 4, 7));
+    assertArrayEquals(" 가b ".getBytes(UTF_8), CharMatcher.DIGIT.removeFrom(bytes, 0, bytes.length));
+    ByteBuffer trimmed = CharMatcher.WHITESPACE.trimFrom(bytes, 0, bytes.length);
+    assertEquals("가1b2", UTF_8.decode(trimmed).toString());
+    try {
+      CharMatcher.anyOf("가").indexIn(bytes, 0, bytes.length);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+}
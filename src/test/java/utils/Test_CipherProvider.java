@@ -0,0 +1,114 @@
+package utils;
+
+import io.rebolt.core.utils.CipherProvider;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public final class Test_CipherProvider {
+
+  @Test
+  public void test_perThread() throws Exception {
+    Cipher cipher = CipherProvider.get("AES/CBC/PKCS5Padding");
+    assertSame(cipher, CipherProvider.get("AES/CBC/PKCS5Padding"));
+    assertNotSame(cipher, CipherProvider.get("AES/CTR/NoPadding"));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertNotSame(cipher, executor.submit(() -> CipherProvider.get("AES/CBC/PKCS5Padding")).get());
+    } finally {
+      executor.shutdown();
+    }
+
+    CipherProvider.clear();
+    assertNotSame(cipher, CipherProvider.get("AES/CBC/PKCS5Padding"));
+  }
+
+  @Test
+  public void test_context() throws Exception {
+    CipherProvider.clear();
+    byte[] key = "1k2ncyrkjh!@#$%^".getBytes();
+    byte[] iv = new byte[16];
+    Cipher cipher = CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, iv);
+    byte[] first = cipher.doFinal("value".getBytes());
+    assertSame(cipher, CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key.clone(), iv.clone()));
+    assertArrayEquals(first, cipher.doFinal("value".getBytes()));
+    assertNotSame(cipher, CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.DECRYPT_MODE, key, iv));
+
+    // iv만 바뀌면 같은 인스턴스를 다시 초기화
+    byte[] otherIv = new byte[16];
+    otherIv[15] = 1;
+    assertSame(cipher, CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, otherIv));
+    assertNotEquals(StringUtil.encodeBase64String(first), StringUtil.encodeBase64String(cipher.doFinal("value".getBytes())));
+
+    // LRU: CONTEXT_SIZE개의 다른 키를 사용하면 가장 오래된 키는 제거된다
+    for (int i = 0; i < CipherProvider.CONTEXT_SIZE; i++) {
+      byte[] other = key.clone();
+      other[0] = (byte) i;
+      CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, other, iv);
+    }
+    assertNotSame(cipher, CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, iv));
+  }
+
+  @Test
+  public void test_contextAbandoned() throws Exception {
+    CipherProvider.clear();
+    byte[] key = "1k2ncyrkjh!@#$%^".getBytes();
+    byte[] iv = new byte[16];
+    byte[] message = "abandoned update value".getBytes();
+    byte[] expected = CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, iv).doFinal(message);
+
+    // doFinal 없이 끝난 update가 다음 사용에 남지 않아야 한다
+    CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, iv).update(new byte[20]);
+    assertArrayEquals(expected, CipherProvider.init("AES/CBC/PKCS5Padding", Cipher.ENCRYPT_MODE, key, iv).doFinal(message));
+  }
+
+  @Test
+  public void test_concurrent() throws Exception {
+    final byte[] key = StringUtil.decodeBase64Bytes("3UdjVBvhAJELVoym1IJo4w==");
+    final KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        final int seed = i;
+        tasks.add(() -> {
+          for (int j = 0; j < 200; j++) {
+            String value = StringUtil.randomAlpha(1 + (seed * 31 + j) % 100);
+            String cbc = StringUtil.encryptAesCbc(key, value);
+            assertNotEquals(value, cbc);
+            assertEquals(value, StringUtil.decryptAesCbc(key, cbc));
+            String ctr = StringUtil.encryptAesCtr(key, value, j);
+            assertNotEquals(value, ctr);
+            assertEquals(value, StringUtil.decryptAesCtr(key, ctr, j));
+            if (j % 20 == 0) {
+              String rsa = StringUtil.encryptRsa(keyPair.getPublic(), value);
+              assertNotEquals(value, rsa);
+              assertEquals(value, StringUtil.decryptRsa(keyPair.getPrivate(), rsa));
+            }
+          }
+          return null;
+        });
+      }
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package utils;
+
+import io.rebolt.core.utils.CryptoUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class Test_CryptoUtil {
+  private static final byte[] key = "1k2ncyrkjh!@#$%^".getBytes();
+  private static final byte[] iv = "0123456789abcdef".getBytes();
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(length).nextBytes(bytes);
+    return bytes;
+  }
+
+  private static byte[] encryptGcm(byte[] bytes) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CryptoUtil.encryptGcm(key, Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(output));
+    return output.toByteArray();
+  }
+
+  private static byte[] decryptGcm(byte[] bytes) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    CryptoUtil.decryptGcm(key, Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(output));
+    return output.toByteArray();
+  }
+
+  @Test
+  public void test_ctr() throws Exception {
+    byte[] bytes = randomBytes(100_003);
+    ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+    assertEquals(bytes.length, CryptoUtil.encryptCtr(key, iv, Channels.newChannel(new ByteArrayInputStream(bytes)),
+        Channels.newChannel(encrypted), ByteBuffer.allocate(1000), ByteBuffer.allocateDirect(1000)));
+
+    Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+    assertArrayEquals(cipher.doFinal(bytes), encrypted.toByteArray());
+
+    ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+    CryptoUtil.decryptCtr(key, iv, Channels.newChannel(new ByteArrayInputStream(encrypted.toByteArray())),
+        Channels.newChannel(decrypted));
+    assertArrayEquals(bytes, decrypted.toByteArray());
+  }
+
+  @Test
+  public void test_gcm() throws Exception {
+    int segment = CryptoUtil.GCM_SEGMENT_SIZE;
+    for (int length : new int[]{0, 1, segment - 17, segment - 16, segment - 15, segment * 3 + 5}) {
+      byte[] bytes = randomBytes(length);
+      byte[] encrypted = encryptGcm(bytes);
+      assertArrayEquals(bytes, decryptGcm(encrypted));
+    }
+  }
+
+  @Test
+  public void test_gcmTampered() throws Exception {
+    int segment = CryptoUtil.GCM_SEGMENT_SIZE;
+    byte[] encrypted = encryptGcm(randomBytes(segment * 2 + 100));
+    int header = encrypted.length - (segment * 2 + 100) - 16 * 3;
+    assertEquals(24, header);
+
+    byte[] tampered = encrypted.clone();
+    tampered[header + segment + 10] ^= 1;
+    assertBadTag(tampered);
+
+    // 세그먼트 경계에서 잘린 경우
+    assertBadTag(Arrays.copyOf(encrypted, header + segment * 2));
+
+    // 세그먼트 순서 변경
+    byte[] swapped = encrypted.clone();
+    System.arraycopy(encrypted, header, swapped, header + segment, segment);
+    System.arraycopy(encrypted, header + segment, swapped, header, segment);
+    assertBadTag(swapped);
+  }
+
+  private static void assertBadTag(byte[] encrypted) throws Exception {
+    try {
+      decryptGcm(encrypted);
+      fail();
+    } catch (AEADBadTagException ignored) {
+    }
+  }
+
+  @Test
+  public void test_file() throws Exception {
+    byte[] bytes = randomBytes(300_000);
+    Path source = folder.newFile().toPath();
+    Path encrypted = folder.newFile().toPath();
+    Path decrypted = folder.newFile().toPath();
+    Files.write(source, bytes);
+
+    CryptoUtil.encryptGcm(key, source, encrypted);
+    assertEquals(bytes.length, CryptoUtil.decryptGcm(key, encrypted, decrypted));
+    assertArrayEquals(bytes, Files.readAllBytes(decrypted));
+
+    CryptoUtil.encryptCtr(key, iv, source, encrypted);
+    assertEquals(bytes.length, Files.size(encrypted));
+    CryptoUtil.decryptCtr(key, iv, encrypted, decrypted);
+    assertArrayEquals(bytes, Files.readAllBytes(decrypted));
+  }
+}
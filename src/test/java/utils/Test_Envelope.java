@@ -0,0 +1,58 @@
+package utils;
+
+import io.rebolt.core.utils.Envelope;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class Test_Envelope {
+  private static final KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+
+  @Test
+  public void test_seal() throws Exception {
+    byte[] bytes = new byte[1 << 20];
+    new Random(0).nextBytes(bytes);
+    assertArrayEquals(bytes, Envelope.open(keyPair.getPrivate(), Envelope.seal(keyPair.getPublic(), bytes)));
+    assertArrayEquals(new byte[0], Envelope.open(keyPair.getPrivate(), Envelope.seal(keyPair.getPublic(), new byte[0])));
+
+    // RSA 모듈러스보다 큰 문자열
+    String value = StringUtil.randomAlpha(10_000) + "닭ⓐ";
+    assertEquals(value, StringUtil.decryptEnvelope(keyPair.getPrivate(), StringUtil.encryptEnvelope(keyPair.getPublic(), value)));
+  }
+
+  @Test
+  public void test_dataKeyCache() throws Exception {
+    Envelope.clearCache();
+    Envelope.DataKey dataKey = Envelope.newDataKey(keyPair.getPublic());
+    long unwraps = Envelope.unwrapCount();
+    for (int i = 0; i < 100; i++) {
+      byte[] message = ("message " + i).getBytes();
+      assertArrayEquals(message, Envelope.open(keyPair.getPrivate(), dataKey.seal(message)));
+    }
+    // 하나의 데이터 키는 한번만 unwrap
+    assertEquals(unwraps + 1, Envelope.unwrapCount());
+  }
+
+  @Test
+  public void test_tampered() throws Exception {
+    Envelope.DataKey dataKey = Envelope.newDataKey(keyPair.getPublic());
+    byte[] message = dataKey.seal("value".getBytes());
+    for (int index : new int[]{0, 3, message.length - 1}) {
+      byte[] tampered = message.clone();
+      tampered[index] ^= 1;
+      try {
+        Envelope.open(keyPair.getPrivate(), tampered);
+        fail();
+      } catch (GeneralSecurityException ignored) {
+        // 변조된 wrapped key는 AEADBadTagException 이전에 RSA unwrap 단계에서 실패한다
+      }
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.HexUtil;
+import io.rebolt.core.utils.RandomUtil;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class Test_HexUtil {
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) RandomUtil.randomInt(255);
+    }
+    return bytes;
+  }
+
+  /**
+   * 이전 StringUtil 구현과 같은 결과
+   */
+  private static String legacy(byte[] bytes) {
+    StringBuilder builder = new StringBuilder();
+    for (byte value : bytes) {
+      builder.append(Character.forDigit((value & 0xf0) >> 4, 16)).append(Character.forDigit(value & 0x0f, 16));
+    }
+    return builder.toString();
+  }
+
+  @Test
+  public void test_encode() {
+    byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    String hex = HexUtil.encode(bytes);
+    assertEquals(legacy(bytes), hex);
+    assertEquals(hex, StringUtil.byteArrayToHex(bytes));
+
+    char[] chars = new char[6];
+    assertEquals(4, HexUtil.encode(new byte[]{0x00, (byte) 0xab, (byte) 0xcd}, 1, 2, chars, 1));
+    assertEquals("\0abcd\0", new String(chars));
+
+    byte[] ascii = new byte[4];
+    HexUtil.encode(new byte[]{(byte) 0xfe, 0x01}, 0, 2, ascii, 0);
+    assertEquals("fe01", new String(ascii, CHARSET_UTF8));
+  }
+
+  @Test
+  public void test_decode() {
+    byte[] bytes = randomBytes(1031);
+    String hex = HexUtil.encode(bytes);
+    assertArrayEquals(bytes, HexUtil.decode(hex));
+    assertArrayEquals(bytes, HexUtil.decode(hex.toUpperCase()));
+    assertArrayEquals(bytes, StringUtil.hexToByteArray(hex));
+
+    byte[] target = new byte[2];
+    assertEquals(2, HexUtil.decode("xxABcd".toCharArray(), 2, 4, target, 0));
+    assertArrayEquals(new byte[]{(byte) 0xab, (byte) 0xcd}, target);
+    assertEquals(2, HexUtil.decode("0a0B".getBytes(CHARSET_UTF8), 0, 4, target, 0));
+    assertArrayEquals(new byte[]{0x0a, 0x0b}, target);
+  }
+
+  @Test
+  public void test_byteBuffer() {
+    for (int length : new int[]{0, 1, 3, 4, 5, 8, 1029}) {
+      byte[] bytes = randomBytes(length);
+      ByteBuffer encoded = ByteBuffer.allocateDirect(length * 2);
+      assertEquals(length * 2, HexUtil.encode(ByteBuffer.wrap(bytes), encoded));
+      encoded.flip();
+      byte[] ascii = new byte[encoded.remaining()];
+      encoded.duplicate().get(ascii);
+      assertEquals(HexUtil.encode(bytes), new String(ascii, CHARSET_UTF8));
+
+      ByteBuffer decoded = ByteBuffer.allocate(length);
+      assertEquals(length, HexUtil.decode(encoded, decoded));
+      assertArrayEquals(bytes, decoded.array());
+      assertEquals(0, encoded.remaining());
+    }
+
+    // target 공간이 부족하면 들어가는 만큼만
+    ByteBuffer source = ByteBuffer.wrap(new byte[]{1, 2, 3});
+    ByteBuffer target = ByteBuffer.allocate(5);
+    assertEquals(4, HexUtil.encode(source, target));
+    assertEquals(2, source.position());
+  }
+
+  @Test
+  public void test_byteBufferLittleEndian() {
+    byte[] bytes = {0x01, 0x23, 0x45, 0x67, (byte) 0x89};
+    ByteBuffer encoded = ByteBuffer.allocate(10).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(10, HexUtil.encode(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), encoded));
+    assertEquals("0123456789", new String(encoded.array(), CHARSET_UTF8));
+
+    encoded.flip();
+    ByteBuffer decoded = ByteBuffer.allocateDirect(5).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(5, HexUtil.decode(encoded, decoded));
+    decoded.flip();
+    byte[] result = new byte[5];
+    decoded.get(result);
+    assertArrayEquals(bytes, result);
+    assertEquals(ByteOrder.LITTLE_ENDIAN, decoded.order());
+  }
+
+  @Test
+  public void test_stream() throws IOException {
+    byte[] bytes = randomBytes(20000);
+    StringWriter writer = new StringWriter();
+    assertEquals(bytes.length, HexUtil.encode(new ByteArrayInputStream(bytes), writer));
+    assertEquals(HexUtil.encode(bytes), writer.toString());
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    // 홀수 단위로 끊어 읽는 Reader
+    StringReader reader = new StringReader(writer.toString()) {
+      @Override
+      public int read(char[] buffer, int offset, int length) throws IOException {
+        return super.read(buffer, offset, Math.min(length, 777));
+      }
+    };
+    assertEquals(bytes.length, HexUtil.decode(reader, output));
+    assertArrayEquals(bytes, output.toByteArray());
+  }
+
+  @Test
+  public void test_invalid() {
+    for (String hex : new String[]{"0g", "zz00", "0İ", "abc"}) {
+      try {
+        HexUtil.decode(hex);
+        throw new AssertionError(hex);
+      } catch (IllegalParameterException ignored) {
+      }
+      assertEquals(0, StringUtil.hexToByteArray(hex).length);
+    }
+    try {
+      HexUtil.decode(ByteBuffer.wrap("0011223g".getBytes(CHARSET_UTF8)), ByteBuffer.allocate(4));
+      throw new AssertionError();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package utils;
+
+import io.rebolt.core.utils.HostCache;
+import io.rebolt.core.utils.UriUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class Test_HostCache {
+
+  @Test
+  public void test_canonical() {
+    HostCache cache = new HostCache(16);
+    String host = cache.getHost("https://www.Nexon.com/forum/1");
+    assertEquals("nexon.com", host);
+    assertSame(host, cache.getHost("http://NEXON.com/123"));
+    assertEquals("https://www.Nexon.com", cache.getOrigin("https://www.Nexon.com/forum/1"));
+    assertNull(cache.getHost("/relative"));
+    assertNull(cache.getOrigin("unknown://///NEXON.com/123"));
+    assertNull(cache.getHost(null));
+
+    for (String uri : new String[]{"https://nexon.com:443/a", "http://a.b.c:8444/forum", "//host/x"}) {
+      assertEquals(UriUtil.getHost(uri), cache.getHost(uri));
+      assertEquals(UriUtil.getOrigin(uri), cache.getOrigin(uri));
+    }
+  }
+
+  @Test
+  public void test_containsHost() {
+    HostCache cache = new HostCache(16);
+    assertTrue(cache.containsHost("https://www.nexon.com", "https://nexon.com/forum/123"));
+    assertTrue(cache.containsHost("https://www.nexon.com", "http://NEXON.com/123"));
+    assertFalse(cache.containsHost("http://NEXON.com/123", "unknown://///NEXON.com/123"));
+    assertFalse(cache.containsHost("unknown://///NEXON.com/123", "unknown://///NEXON.com/123"));
+    assertFalse(cache.containsHost(null, "https://nexon.com"));
+  }
+
+  @Test
+  public void test_counter() {
+    HostCache cache = new HostCache(2);
+    cache.getHost("https://a.com");
+    cache.getHost("https://a.com");
+    cache.getOrigin("https://a.com");
+    assertEquals(1, cache.missCount());
+    assertEquals(2, cache.hitCount());
+
+    cache.getHost("https://b.com");
+    cache.getHost("https://c.com");
+    assertEquals(2, cache.size());
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+}
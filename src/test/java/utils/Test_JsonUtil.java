@@ -5,13 +5,17 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.Lists;
 import io.rebolt.core.utils.JsonUtil;
 import io.rebolt.core.utils.ObjectUtil;
+import io.rebolt.core.utils.StringPool;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class Test_JsonUtil {
@@ -108,6 +112,23 @@ public final class Test_JsonUtil {
     assertTrue(map.get("value").equals(map2.get("value")));
   }
 
+  @Test
+  public void test_readPooled() {
+    final StringPool pool = new StringPool(64);
+    final String array = "[{\"id\":\"KR\", \"value\":\"value\"}, {\"id\":\"KR\", \"value\":null}]";
+
+    List<Json> jsonList = JsonUtil.readList(array, Json.class, pool);
+    Json json = JsonUtil.read("{\"id\":\"KR\", \"value\":\"value\"}", Json.class, pool);
+
+    assertTrue(jsonList != null && json != null);
+    assertEquals("KR", json.getId());
+    assertSame(json.getId(), jsonList.get(0).getId());
+    assertSame(jsonList.get(0).getId(), jsonList.get(1).getId());
+    assertSame(json.getValue(), jsonList.get(0).getValue());
+    assertNull(jsonList.get(1).getValue());
+    assertEquals(3, pool.hitCount());
+  }
+
   @Test
   public void test_write() {
     Json json = new Json("id", "value");
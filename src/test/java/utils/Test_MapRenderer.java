@@ -0,0 +1,73 @@
+package utils;
+
+import io.rebolt.core.utils.MapRenderer;
+import io.rebolt.core.utils.StringUtil;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+
+public final class Test_MapRenderer {
+
+  @Test
+  public void test_render() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("s", "text");
+    map.put("n", 10);
+    map.put("o", new Object[]{"a", null, 1});
+    map.put("i", new int[]{1, -2, Integer.MIN_VALUE});
+    map.put("b", new byte[]{-1, 0});
+    map.put("c", new char[]{'x', 'y'});
+    map.put("z", new boolean[]{true, false});
+    map.put("d", new double[]{1.5});
+    map.put("e", new long[0]);
+    map.put("null", null);
+    map.put(null, "v");
+    String expected = "s=text;n=10;o=a,1;i=1,-2,-2147483648;b=-1,0;c=x,y;z=true,false;d=1.5;e=;null=null;null=v;";
+    assertEquals(expected, MapRenderer.DEFAULT.render(map));
+    assertEquals(expected, StringUtil.toString(map));
+    assertEquals("", MapRenderer.DEFAULT.render(null));
+    assertEquals("", StringUtil.toString(new HashMap<>()));
+  }
+
+  @Test
+  public void test_appendable() throws IOException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("i", new int[]{12, -345});
+    map.put("l", new long[]{Long.MAX_VALUE});
+    map.put("f", new float[]{0.5f, 2f});
+    StringWriter writer = new StringWriter();
+    MapRenderer.DEFAULT.appendTo(writer, map);
+    assertEquals(MapRenderer.DEFAULT.render(map), writer.toString());
+    assertEquals("i=12,-345;l=9223372036854775807;f=0.5,2.0;", writer.toString());
+
+    StringBuilder builder = new StringBuilder("prefix:");
+    assertEquals("prefix:i=12,-345;l=9223372036854775807;f=0.5,2.0;", MapRenderer.DEFAULT.appendTo(builder, map).toString());
+  }
+
+  @Test
+  public void test_sorted() {
+    Map<Object, Object> hash = new HashMap<>();
+    Map<Object, Object> linked = new LinkedHashMap<>();
+    for (int i = 20; i >= 0; i--) {
+      hash.put("key" + i, i);
+      linked.put("key" + i, i);
+    }
+    MapRenderer sorted = MapRenderer.DEFAULT.sorted();
+    assertEquals(sorted.render(new TreeMap<>(hash)), sorted.render(hash));
+    assertEquals(sorted.render(hash), sorted.render(linked));
+
+    // 키의 문자열 순서
+    Map<Object, Object> mixed = new HashMap<>();
+    mixed.put(2, "b");
+    mixed.put("1", "a");
+    mixed.put(null, "n");
+    assertEquals("1=a;2=b;null=n;", sorted.render(mixed));
+  }
+}
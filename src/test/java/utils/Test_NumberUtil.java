@@ -0,0 +1,105 @@
+package utils;
+
+import io.rebolt.core.utils.NumberUtil;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class Test_NumberUtil {
+
+  @Test
+  public void test_parseInt() {
+    String line = "id=12345,count=-7";
+    assertEquals(12345, NumberUtil.parseInt(line, 3, 8));
+    assertEquals(-7, NumberUtil.parseInt(line, 15, 17));
+    assertEquals(12345, NumberUtil.parseInt(line.getBytes(UTF_8), 3, 8));
+    assertEquals(Integer.MAX_VALUE, NumberUtil.parseInt("2147483647", 0, 10));
+    assertEquals(Integer.MIN_VALUE, NumberUtil.parseInt("-2147483648", 0, 11));
+    assertEquals(42, NumberUtil.parseInt("+42", 0, 3));
+
+    for (String illegal : new String[]{"", "-", "+", "2147483648", "-2147483649", "1a", " 1", "99999999999"}) {
+      assertEquals(-1, NumberUtil.parseInt(illegal, 0, illegal.length(), -1));
+      assertEquals(-1, NumberUtil.parseInt(illegal.getBytes(UTF_8), 0, illegal.length(), -1));
+      try {
+        NumberUtil.parseInt(illegal, 0, illegal.length());
+        fail(illegal);
+      } catch (NumberFormatException ignored) {
+      }
+    }
+  }
+
+  @Test
+  public void test_parseLong() {
+    assertEquals(Long.MAX_VALUE, NumberUtil.parseLong("9223372036854775807", 0, 19));
+    assertEquals(Long.MIN_VALUE, NumberUtil.parseLong("-9223372036854775808", 0, 20));
+    assertEquals(0L, NumberUtil.parseLong("9223372036854775808", 0, 19, 0L));
+    assertEquals(0L, NumberUtil.parseLong("-9223372036854775809".getBytes(UTF_8), 0, 20, 0L));
+
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < 10000; i++) {
+      long value = random.nextLong() >> random.nextInt(64);
+      String text = "[" + value + "]";
+      assertEquals(value, NumberUtil.parseLong(text, 1, text.length() - 1));
+      assertEquals(value, NumberUtil.parseLong(text.getBytes(UTF_8), 1, text.length() - 1));
+    }
+  }
+
+  @Test
+  public void test_parseDouble() {
+    String[] values = {"0", "-0", "1.5", "-1.5", ".5", "1.", "3.141592653589793", "1e10", "1.5E-7", "123456789012345678",
+        "0.1", "0.000001234", "1e300", "1e-320", "12345678901234567890.123", "NaN", "-Infinity", "0x1p3", "4.9e-324"};
+    for (String value : values) {
+      double expected = Double.parseDouble(value);
+      assertEquals(value, Double.doubleToLongBits(expected), Double.doubleToLongBits(NumberUtil.parseDouble(value, 0, value.length())));
+      assertEquals(value, Double.doubleToLongBits(expected),
+          Double.doubleToLongBits(NumberUtil.parseDouble(value.getBytes(UTF_8), 0, value.length())));
+    }
+    for (String illegal : new String[]{"", ".", "-", "1e", "1e+", "1.2.3", "abc"}) {
+      assertEquals(-1.0, NumberUtil.parseDouble(illegal, 0, illegal.length(), -1.0), 0);
+      try {
+        NumberUtil.parseDouble(illegal.getBytes(UTF_8), 0, illegal.length());
+        fail(illegal);
+      } catch (NumberFormatException ignored) {
+      }
+    }
+
+    SplittableRandom random = new SplittableRandom(11);
+    for (int i = 0; i < 10000; i++) {
+      String text = Long.toString(random.nextLong(1_000_000_000_000L)) + "." + random.nextInt(100_000);
+      assertEquals(text, Double.parseDouble(text), NumberUtil.parseDouble(text, 0, text.length()), 0);
+    }
+  }
+
+  @Test
+  public void test_format() {
+    long[] values = {0, 1, -1, 9, 10, 99, 100, -100, 12345, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+    char[] chars = new char[32];
+    byte[] bytes = new byte[32];
+    for (long value : values) {
+      String expected = Long.toString(value);
+      assertEquals(expected.length(), NumberUtil.stringSize(value));
+      int end = NumberUtil.format(value, chars, 2);
+      assertEquals(expected, new String(chars, 2, end - 2));
+      end = NumberUtil.format(value, bytes, 3);
+      assertEquals(expected, new String(bytes, 3, end - 3, UTF_8));
+    }
+    int end = NumberUtil.format(Integer.MIN_VALUE, chars, 0);
+    assertEquals(Integer.toString(Integer.MIN_VALUE), new String(chars, 0, end));
+
+    SplittableRandom random = new SplittableRandom(3);
+    for (int i = 0; i < 10000; i++) {
+      long value = random.nextLong() >> random.nextInt(64);
+      end = NumberUtil.format(value, chars, 0);
+      assertEquals(Long.toString(value), new String(chars, 0, end));
+    }
+    try {
+      NumberUtil.format(12345, new char[4], 0);
+      fail();
+    } catch (IndexOutOfBoundsException ignored) {
+    }
+  }
+}
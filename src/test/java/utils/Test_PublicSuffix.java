@@ -0,0 +1,54 @@
+package utils;
+
+import io.rebolt.core.utils.PublicSuffix;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class Test_PublicSuffix {
+
+  @Test
+  public void test_registrableDomain() {
+    assertEquals("example.co.kr", PublicSuffix.getRegistrableDomain("a.b.example.co.kr"));
+    assertEquals("example.co.kr", PublicSuffix.getRegistrableDomain("example.co.kr"));
+    assertEquals("Example.CO.kr", PublicSuffix.getRegistrableDomain("www.Example.CO.kr"));
+    assertEquals("nexon.com", PublicSuffix.getRegistrableDomain("forum.nexon.com"));
+    assertEquals("nexon.com", PublicSuffix.getRegistrableDomain("forum.nexon.com."));
+    assertEquals("example.unknowntld", PublicSuffix.getRegistrableDomain("a.example.unknowntld"));
+    assertEquals("user.github.io", PublicSuffix.getRegistrableDomain("a.user.github.io"));
+    assertNull(PublicSuffix.getRegistrableDomain("co.kr"));
+    assertNull(PublicSuffix.getRegistrableDomain("kr"));
+    assertNull(PublicSuffix.getRegistrableDomain("github.io"));
+    assertNull(PublicSuffix.getRegistrableDomain("192.168.0.1"));
+    assertNull(PublicSuffix.getRegistrableDomain("[::1]"));
+    assertNull(PublicSuffix.getRegistrableDomain("a..com"));
+    assertNull(PublicSuffix.getRegistrableDomain(""));
+    assertNull(PublicSuffix.getRegistrableDomain(null));
+  }
+
+  @Test
+  public void test_wildcard() {
+    // *.kawasaki.jp, !city.kawasaki.jp
+    assertEquals("b.kawasaki.jp", PublicSuffix.getPublicSuffix("a.b.kawasaki.jp"));
+    assertEquals("a.b.kawasaki.jp", PublicSuffix.getRegistrableDomain("x.a.b.kawasaki.jp"));
+    assertNull(PublicSuffix.getRegistrableDomain("b.kawasaki.jp"));
+    assertEquals("kawasaki.jp", PublicSuffix.getPublicSuffix("city.kawasaki.jp"));
+    assertEquals("city.kawasaki.jp", PublicSuffix.getRegistrableDomain("www.city.kawasaki.jp"));
+    assertEquals("x.compute.amazonaws.com", PublicSuffix.getPublicSuffix("host.x.compute.amazonaws.com"));
+  }
+
+  @Test
+  public void test_offsets() {
+    String uri = "https://a.b.example.co.kr/path";
+    int start = uri.indexOf("a.b");
+    int end = uri.indexOf("/path");
+    assertEquals(uri.indexOf("co.kr"), PublicSuffix.publicSuffixStart(uri, start, end));
+    assertEquals(uri.indexOf("example"), PublicSuffix.registrableDomainStart(uri, start, end));
+    assertTrue(PublicSuffix.isPublicSuffix("co.kr"));
+    assertTrue(PublicSuffix.isPublicSuffix("unknowntld"));
+    assertFalse(PublicSuffix.isPublicSuffix("example.co.kr"));
+  }
+}
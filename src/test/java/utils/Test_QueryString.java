@@ -0,0 +1,82 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.QueryString;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class Test_QueryString {
+
+  @Test
+  public void test_parse() {
+    QueryString query = QueryString.parse("?id=1&name=%EB%8B%AD+%EA%BA%BC&tag=a&&tag=b&flag&empty=&a%26b=c=d#fragment");
+    assertEquals(7, query.size());
+    assertEquals("1", query.get("id"));
+    assertEquals("닭 꺼", query.get("name"));
+    assertEquals(Arrays.asList("a", "b"), query.getAll("tag"));
+    assertEquals("", query.get("flag"));
+    assertEquals("", query.get("empty"));
+    assertEquals("c=d", query.get("a&b"));
+    assertTrue(query.contains("flag"));
+    assertFalse(query.contains("fragment"));
+    assertNull(query.get("none"));
+    assertEquals("default", query.get("none", "default"));
+    assertEquals(Collections.emptyList(), query.getAll("none"));
+    assertEquals("a&b", query.key(6));
+    assertEquals(2, query.indexOf("tag", 0));
+    assertEquals(3, query.indexOf("tag", 3));
+
+    Map<String, String> map = new LinkedHashMap<>();
+    QueryString.parse("b=2&a=1").forEach(map::put);
+    assertEquals("{b=2, a=1}", map.toString());
+
+    assertTrue(QueryString.parse(null).isEmpty());
+    assertTrue(QueryString.parse("?").isEmpty());
+    assertTrue(QueryString.parse("&&").isEmpty());
+    assertTrue(QueryString.parse("#a=1").isEmpty());
+  }
+
+  @Test
+  public void test_lazyDecode() {
+    QueryString query = QueryString.parse("ok=1&bad=%zz");
+    assertEquals("1", query.get("ok"));
+    try {
+      query.get("bad");
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+
+  @Test
+  public void test_builder() {
+    QueryString.Builder builder = QueryString.builder()
+        .add("id", 1)
+        .add("name", "닭 꺼")
+        .add("a&b", "c=d")
+        .add("flag", null);
+    String built = builder.build();
+    assertEquals("id=1&name=%EB%8B%AD+%EA%BA%BC&a%26b=c%3Dd&flag", built);
+    assertEquals(built.length(), builder.length());
+
+    QueryString query = QueryString.parse(built);
+    assertEquals("닭 꺼", query.get("name"));
+    assertEquals("c=d", query.get("a&b"));
+    assertTrue(query.contains("flag"));
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("x", "😀");
+    map.put("y", 2);
+    assertEquals("x=%F0%9F%98%80&y=2", QueryString.builder().addAll(map).build());
+    assertEquals("", QueryString.builder().build());
+  }
+}
@@ -0,0 +1,75 @@
+package utils;
+
+import io.rebolt.core.utils.Splitter;
+import io.rebolt.core.utils.StringPool;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public final class Test_StringPool {
+
+  @Test
+  public void test_intern() {
+    StringPool pool = new StringPool(16);
+    String kr = pool.intern(new String("KR"));
+
+    assertSame(kr, pool.intern(new String("KR")));
+    assertSame(kr, pool.intern("xKRx", 1, 3));
+    assertSame(kr, pool.intern(new StringBuilder("KR"), 0, 2));
+    assertSame(kr, pool.intern("aKR".toCharArray(), 1, 2));
+    assertEquals(1, pool.missCount());
+    assertEquals(4, pool.hitCount());
+    assertEquals(0.8, pool.hitRate(), 0.0001);
+  }
+
+  @Test
+  public void test_bounded() {
+    StringPool pool = new StringPool(100);
+    IntStream.range(0, 10_000).forEach(i -> pool.intern(String.valueOf(i)));
+
+    assertTrue(pool.size() <= pool.capacity());
+    assertEquals(128, pool.capacity());
+  }
+
+  @Test
+  public void test_frequency() {
+    StringPool pool = new StringPool(4);
+    String hot = pool.intern(new String("hot"));
+    for (int i = 0; i < 100; i++) {
+      pool.intern("hot");
+    }
+    for (int i = 0; i < 3; i++) {
+      pool.intern(String.valueOf(i));
+    }
+    // 가장 적게 사용된 문자열이 교체된다
+    pool.intern("new");
+    assertSame(hot, pool.intern(new String("hot")));
+  }
+
+  @Test
+  public void test_maxLength() {
+    StringPool pool = new StringPool(16, 4);
+    String value = "long value";
+
+    assertNotSame(pool.intern("xx" + value, 2, 12), pool.intern("xx" + value, 2, 12));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void test_splitter() {
+    StringPool pool = new StringPool(16);
+    Splitter splitter = Splitter.on(',').trimResults().intern(pool);
+    List<String> first = splitter.split("KR, US");
+    List<String> second = splitter.split(" KR,US ");
+
+    assertSame(first.get(0), second.get(0));
+    assertSame(first.get(1), second.get(1));
+    assertEquals(2, pool.hitCount());
+  }
+}
@@ -3,18 +3,31 @@ package utils;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.SplitCursor;
+import io.rebolt.core.utils.SplitReader;
 import io.rebolt.core.utils.StringUtil;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
 import static io.rebolt.core.constants.Constants.STRING_COMMA;
@@ -24,6 +37,7 @@ import static io.rebolt.core.utils.StringUtil.isNumeric;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class Test_StringUtil {
@@ -124,6 +138,26 @@ public final class Test_StringUtil {
     assertTrue(value1.equals(value4));
   }
 
+  @Test
+  public void test_joinTo() throws IOException {
+    final String[] values = {"a", null, "bc", "", null, "def"};
+    final String expected = String.join(STRING_COMMA, "a", "bc", "", "def");
+
+    assertEquals(expected, StringUtil.join(STRING_COMMA, values));
+    assertEquals(expected, StringUtil.join(STRING_COMMA, (Object[]) values));
+    assertEquals(expected, StringUtil.join(STRING_COMMA, (Iterable<String>) () -> Arrays.asList(values).iterator()));
+    assertEquals("x" + expected, StringUtil.joinTo(new StringBuilder("x"), STRING_COMMA, values).toString());
+    assertEquals(expected, StringUtil.joinTo(new StringBuilder(), STRING_COMMA, Arrays.asList(values)).toString());
+    assertEquals(expected, StringUtil.joinTo(new StringWriter(), STRING_COMMA, (CharSequence[]) values).toString());
+    assertEquals(expected, StringUtil.joinTo((Appendable) new StringWriter(), STRING_COMMA, Arrays.asList(values)).toString());
+    assertEquals("", StringUtil.join(STRING_COMMA, new String[]{null, null}));
+
+    // 한번만 순회할 수 있는 Iterable
+    Stream<String> stream = Arrays.stream(values);
+    Iterable<String> once = stream::iterator;
+    assertEquals(expected, StringUtil.joinTo(new StringBuilder(), STRING_COMMA, once).toString());
+  }
+
   @Test
   public void test_trim() {
     String value = "1a 닭하야4";
@@ -168,6 +202,121 @@ public final class Test_StringUtil {
     assertTrue(split.get(1).equals("b/c/d/e/f"));
   }
 
+  @Test
+  public void test_splitCursor() {
+    String[] values = {
+        "123,4214,      123,21,31,23,12     ,31,2311     231,      ,3123123,",
+        "a/b/c/d/e/f", "a,,b, ,c", "  a  ", ",", ",,", "", "a,", ",a", "a, b ", "a,b,   "
+    };
+    for (String value : values) {
+      for (int limit = 0; limit < 5; limit++) {
+        for (boolean remain : new boolean[]{false, true}) {
+          List<String> expected = StringUtil.split(value.indexOf('/') != -1 ? '/' : ',', value, limit, remain);
+          SplitCursor cursor = StringUtil.splitCursor(value.indexOf('/') != -1 ? '/' : ',', new StringBuilder(value), limit, remain);
+          List<String> actual = new ArrayList<>();
+          while (cursor.next()) {
+            actual.add(value.substring(cursor.start(), cursor.end()));
+          }
+          assertEquals(expected, actual);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void test_splitCursorReset() {
+    SplitCursor cursor = StringUtil.splitCursor(',', "a,b");
+    assertTrue(cursor.next() && cursor.contentEquals("a"));
+    assertTrue(cursor.next() && cursor.contentEquals("b"));
+    assertFalse(cursor.next());
+
+    cursor.reset("c, d ,e");
+    assertTrue(cursor.next() && "c".equals(cursor.tokenString()));
+    assertTrue(cursor.next() && "d".equals(cursor.tokenString()));
+    assertTrue(cursor.next() && cursor.length() == 1 && cursor.charAt(0) == 'e');
+    assertFalse(cursor.next());
+    assertEquals(3, cursor.count());
+  }
+
+  @Test
+  public void test_splitter() {
+    String value = "123:: 4214::      123::21::31:::23::12     ::31::2311     231::      ::::3123123::";
+    List<String> origin = Splitter.on("::").omitEmptyStrings().trimResults().splitToList(value);
+    List<String> split = StringUtil.split("::", value);
+    assertEquals(origin, split);
+
+    io.rebolt.core.utils.Splitter splitter = io.rebolt.core.utils.Splitter.on("::");
+    assertEquals(Splitter.on("::").splitToList(value), splitter.split(value));
+    assertEquals(Splitter.on("::").splitToList(value), splitter.split(new StringBuilder(value)));
+    assertEquals(Splitter.on("::").trimResults().limit(3).splitToList(value), splitter.trimResults().limit(3).split(value));
+    assertEquals(Splitter.on(", ").omitEmptyStrings().limit(2).splitToList("a, , b, c"),
+        io.rebolt.core.utils.Splitter.on(", ").omitEmptyStrings().limit(2).split("a, , b, c"));
+    assertEquals(Arrays.asList("a", "b"), io.rebolt.core.utils.Splitter.on(',').split("a,b"));
+    assertEquals(Arrays.asList(""), splitter.split(""));
+    assertTrue(splitter.omitEmptyStrings().split("::::").isEmpty());
+  }
+
+  @Test
+  public void test_splitReader() {
+    String value = "123,4214,      123,21,31,23,12     ,31,2311     231,      ,3123123,닭하야, ⓐⓑ ,,";
+    List<String> origin = Splitter.on(',').omitEmptyStrings().trimResults().splitToList(value);
+
+    for (int bufferSize = 2; bufferSize < 16; bufferSize++) {
+      List<String> split = new ArrayList<>();
+      SplitReader.of(',', new StringReader(value), bufferSize).forEachRemaining(split::add);
+      assertEquals(origin, split);
+    }
+    byte[] bytes = value.getBytes(CHARSET_UTF8);
+    assertEquals(origin, SplitReader.of(',', new ByteArrayInputStream(bytes), CHARSET_UTF8).stream().collect(Collectors.toList()));
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes).flip();
+    assertEquals(origin, SplitReader.of(',', buffer, CHARSET_UTF8).stream().collect(Collectors.toList()));
+    assertEquals(bytes.length, buffer.remaining());
+    assertFalse(SplitReader.of(',', new StringReader(" , ,")).hasNext());
+
+    // 마지막 구분자 뒤의 토큰은 trim하지 않는다
+    String[] values = {"a, b ,c ", "a,,b, ,c", "  a  ", ",", ",,", "", "a,", ",a", "a, b ", "a,b,   ", " , "};
+    for (String each : values) {
+      for (int bufferSize = 2; bufferSize < 6; bufferSize++) {
+        List<String> split = new ArrayList<>();
+        SplitReader.of(',', new StringReader(each), bufferSize).forEachRemaining(split::add);
+        assertEquals(StringUtil.split(',', each), split);
+      }
+    }
+  }
+
+  @Test(expected = IllegalParameterException.class)
+  public void test_splitReaderMaxTokenLength() {
+    SplitReader.of(',', new StringReader("a,bbbbbbbb,c"), 4).maxTokenLength(4).forEachRemaining(token -> {});
+  }
+
+  @Test
+  public void test_splitStream() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      builder.append(i % 7 == 0 ? "  " : StringUtil.randomAlpha(1, 20)).append(i % 5 == 0 ? " ,," : ",");
+    }
+    String value = builder.toString();
+    List<String> origin = Splitter.on(',').omitEmptyStrings().trimResults().splitToList(value);
+
+    assertEquals(origin, StringUtil.splitStream(',', value, false).map(CharSequence::toString).collect(Collectors.toList()));
+    assertEquals(origin, StringUtil.splitStream(',', value, true).map(CharSequence::toString).collect(Collectors.toList()));
+    assertEquals(0, StringUtil.splitStream(',', " ,, ,", true).count());
+
+    // 마지막 구분자 뒤의 토큰은 trim하지 않는다
+    assertEquals(Arrays.asList("a", "b", "c "),
+        StringUtil.splitStream(',', "a, b ,c ", false).map(CharSequence::toString).collect(Collectors.toList()));
+    String[] values = {"a, b ,c ", "a,,b, ,c", "  a  ", ",", ",,", "", "a,", ",a", "a, b ", "a,b,   ", " , "};
+    for (String each : values) {
+      List<String> expected = StringUtil.split(',', each);
+      assertEquals(expected, StringUtil.splitStream(',', each, false).map(CharSequence::toString).collect(Collectors.toList()));
+      assertEquals(expected, StringUtil.splitStream(',', each, true).map(CharSequence::toString).collect(Collectors.toList()));
+    }
+    String tailed = value + " x ";
+    assertEquals(StringUtil.split(',', tailed), StringUtil.splitStream(',', tailed, true).map(CharSequence::toString).collect(Collectors.toList()));
+  }
+
   @Test
   public void test_urlEncode() {
     String value = "http://\\!@#$43%^^...21!!!#@$%$^$%----__=+_++_+_~!@~good.com/good-job/key=value&key1=value%&;";
@@ -222,6 +371,37 @@ public final class Test_StringUtil {
     final String decryptedValue = StringUtil.decryptRsa(keyPair1.getPrivate(), encryptedValue);
 
     assertTrue(value.equals(decryptedValue));
+
+    // 같은 키 바이트는 캐시된 인스턴스를 반환
+    assertSame(keyPair1, StringUtil.createKeyPairRsa(publicKey.getEncoded(), privateKey.getEncoded()));
+  }
+
+  @Test
+  public void test_rsaBatch() {
+    KeyPair keyPair = StringUtil.getDefaultKeyPairRsa();
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 37; i++) {
+      values.add(StringUtil.randomAlpha(i + 1));
+    }
+    values.add("닭꺼져ⓐ");
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      List<String> encrypted = StringUtil.encryptRsa(keyPair.getPublic(), values, executor);
+      assertEquals(values.size(), encrypted.size());
+      for (int i = 0; i < values.size(); i++) {
+        assertEquals(values.get(i), StringUtil.decryptRsa(keyPair.getPrivate(), encrypted.get(i)));
+      }
+      assertEquals(values, StringUtil.decryptRsa(keyPair.getPrivate(), encrypted, executor));
+      assertEquals(values, StringUtil.decryptRsa(keyPair.getPrivate(), StringUtil.encryptRsa(keyPair.getPublic(), values)));
+    } finally {
+      executor.shutdown();
+    }
+
+    // 실패한 항목은 입력을 그대로 반환
+    assertEquals(Arrays.asList("invalid", "nosungpark"), StringUtil.decryptRsa(keyPair.getPrivate(), Arrays.asList("invalid",
+        "QvHuo7YiIx0UU6aHtt9YJLtL0UNYZQVVPcy/FjAWCr8txelIj/ePMGxE++J+l49MjGUm7VcsdBCHTHSutjZJ1DIDY1LX+kpe2M5tBndDXitD/VCbXWO9pIgOxQjdtcc+e0jXngPweYZA7zaExdxI6hgyBbwyIecLFj8PshGsSDnpbVVUn+SKRi6kF9338HFCnV/u9Loikj3GXLSZpGcy9GBQ/C0o/hfABqCy9KuS5+++O8sEVA2UCAUpapujYARO9ox1Ra7qDsypwBpNMnaKu7QIaY45MsmOiqexI2ewl/MJFpV0sxIcUWzr+flZ4uN0wBzf1eRarXF0WEIIEsZmJg==")));
+    assertTrue(StringUtil.decryptRsa(keyPair.getPrivate(), new ArrayList<>()).isEmpty());
   }
 
   @Test
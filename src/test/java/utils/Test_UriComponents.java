@@ -0,0 +1,77 @@
+package utils;
+
+import io.rebolt.core.utils.UriComponents;
+import org.junit.Test;
+
+import java.net.URI;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public final class Test_UriComponents {
+
+  @Test
+  public void test_parse() {
+    UriComponents uri = UriComponents.parse("https://user:pw@Nexon.com:8080/forum/123?id=1&q=a?b#top?x");
+    assertEquals("https", uri.scheme());
+    assertEquals("user:pw@Nexon.com:8080", uri.authority());
+    assertEquals("Nexon.com", uri.host());
+    assertEquals(8080, uri.port());
+    assertEquals("/forum/123", uri.path());
+    assertEquals("id=1&q=a?b", uri.query());
+    assertEquals("top?x", uri.fragment());
+    assertEquals("Nexon.com", uri.source().substring(uri.hostStart(), uri.hostEnd()));
+
+    uri = UriComponents.parse("http://[::1]:80");
+    assertEquals("[::1]", uri.host());
+    assertEquals(80, uri.port());
+    assertEquals("", uri.path());
+    assertNull(uri.query());
+    assertNull(uri.fragment());
+
+    uri = UriComponents.parse("/path#frag");
+    assertNull(uri.scheme());
+    assertNull(uri.host());
+    assertEquals("/path", uri.path());
+    assertNull(uri.query());
+    assertEquals("frag", uri.fragment());
+
+    uri = UriComponents.parse("mailto:user@nexon.com");
+    assertEquals("mailto", uri.scheme());
+    assertNull(uri.authority());
+    assertEquals("user@nexon.com", uri.path());
+
+    uri = UriComponents.parse("unknown://///NEXON.com/123");
+    assertEquals("", uri.authority());
+    assertFalse(uri.hasHost());
+
+    uri = UriComponents.parse("http://nexon.com:/a?");
+    assertEquals(-1, uri.port());
+    assertEquals("", uri.query());
+
+    assertNull(UriComponents.parse("http://nexon.com:80a/"));
+    assertNull(UriComponents.parse("http://nexon.com:65536/"));
+    assertNull(UriComponents.parse("http://nexon .com/"));
+    assertNull(UriComponents.parse("http://[::1/"));
+  }
+
+  @Test
+  public void test_javaNetUri() throws Exception {
+    for (String value : new String[]{
+        "https://www.nexon.com", "http://a.b.c:8444/forum?x=1#y", "ftp://user@host/file", "http://[fe80::1]:8080/",
+        "urn:isbn:0451450523", "//nexon.com/path", "relative/path?q", "http://host?q#f"}) {
+      URI expected = new URI(value);
+      UriComponents uri = UriComponents.parse(value);
+      assertEquals(value, expected.getScheme(), uri.scheme());
+      assertEquals(value, expected.getRawAuthority(), uri.authority());
+      assertEquals(value, expected.getHost(), uri.host());
+      assertEquals(value, expected.getPort(), uri.port());
+      if (expected.getRawPath() != null) {
+        assertEquals(value, expected.getRawPath(), uri.path());
+        assertEquals(value, expected.getRawQuery(), uri.query());
+      }
+      assertEquals(value, expected.getRawFragment(), uri.fragment());
+    }
+  }
+}
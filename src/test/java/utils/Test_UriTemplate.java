@@ -0,0 +1,67 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.UriTemplate;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public final class Test_UriTemplate {
+
+  @Test
+  public void test_expand() throws Exception {
+    UriTemplate template = UriTemplate.compile("/users/{id}/orders/{orderId}");
+    assertEquals(Arrays.asList("id", "orderId"), template.names());
+    assertEquals("/users/1/orders/a%2Fb%20c", template.expand(1, "a/b c"));
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("id", "닭");
+    values.put("orderId", 2L);
+    assertEquals("/users/%EB%8B%AD/orders/2", template.expand(values));
+
+    StringBuilder builder = new StringBuilder("GET ");
+    assertEquals("GET /users/x/orders/y", template.expandTo(builder, "x", "y").toString());
+
+    assertEquals("/static", UriTemplate.compile("/static").expand());
+    assertEquals("a-a", UriTemplate.compile("{v}-{v}").expand("a"));
+  }
+
+  @Test
+  public void test_combine() {
+    UriTemplate template = UriTemplate.compile("https://api.nexon.com/", "/users/{id}/", "/orders/{orderId}?lang={lang}&q={q}");
+    assertEquals("https://api.nexon.com/users/{id}/orders/{orderId}?lang={lang}&q={q}", template.toString());
+    assertEquals("https://api.nexon.com/users/1/orders/a%2Fb?lang=ko&q=a+b%2Fc", template.expand(1, "a/b", "ko", "a b/c"));
+  }
+
+  @Test
+  public void test_illegal() {
+    for (String illegal : new String[]{"/users/{id", "/users/id}", "/users/{}", "/users/{a{b}"}) {
+      try {
+        UriTemplate.compile(illegal);
+        fail(illegal);
+      } catch (IllegalParameterException ignored) {
+      }
+    }
+    UriTemplate template = UriTemplate.compile("/users/{id}");
+    try {
+      template.expand();
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+    try {
+      template.expand((Object) null);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+    try {
+      template.expand(new HashMap<String, Object>());
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+}
@@ -23,6 +23,11 @@ public class Test_UriUtil {
     final String host4 = "unknown://///NEXON.com/123";
 
     assertFalse(UriUtil.containsHost(host3, host4));
+
+    assertTrue(UriUtil.containsHost("http://WWW.Nexon.com:8080", "https://user@nexon.COM/a"));
+    assertFalse(UriUtil.containsHost("https://nexon.com", "https://nexon.com.evil.com"));
+    assertFalse(UriUtil.containsHost("https://nexon.com", "https://awww.nexon.com"));
+    assertFalse(UriUtil.containsHost("https://nexon.com", "/relative"));
   }
 
   @Test
@@ -33,6 +38,10 @@ public class Test_UriUtil {
     assertEquals(UriUtil.getHost(host1), host2);
     assertEquals(UriUtil.getHost(null), null);
     assertEquals(UriUtil.getHost(""), null);
+    assertEquals(UriUtil.getHost("http://Sub.WWW.Nexon.com/path"), "sub.www.nexon.com");
+    assertEquals(UriUtil.getHost("http://nexon.com:8080?q"), "nexon.com");
+    assertEquals(UriUtil.getHost("/relative"), null);
+    assertEquals(UriUtil.getHost("http://nexon .com"), null);
   }
 
   @Test
@@ -44,6 +53,33 @@ public class Test_UriUtil {
     assertEquals(UriUtil.getOrigin(host1), "https://www.nexon.com");
     assertEquals(UriUtil.getOrigin(host2), "https://nexon.com");
     assertEquals(UriUtil.getOrigin(host3), "http://nexon.com:8444");
+    assertEquals(UriUtil.getOrigin("https://nexon.com:443/forum"), "https://nexon.com");
+    assertEquals(UriUtil.getOrigin("nexon.com/forum"), null);
+  }
+
+  @Test
+  public void test_getQuery() {
+    assertEquals("1", UriUtil.getQuery("https://nexon.com/forum?id=1&q=a?b#top?x=2").get("id"));
+    assertEquals("a?b", UriUtil.getQuery("https://nexon.com/forum?id=1&q=a?b#top?x=2").get("q"));
+    assertFalse(UriUtil.getQuery("https://nexon.com/forum?id=1#top?x=2").contains("x"));
+    assertTrue(UriUtil.getQuery("https://nexon.com/forum#top?x=2").isEmpty());
+    assertTrue(UriUtil.getQuery(null).isEmpty());
   }
-}
 
+  @Test
+  public void test_combineUri() {
+    assertEquals("a/b/c/d/e/f", UriUtil.combineUri("a/b", "c", "d/", "/e/", "/f"));
+    assertEquals("https://nexon.com/a/b", UriUtil.combineUri("https://nexon.com/", "", "/a", null, "b"));
+    assertEquals("/a", UriUtil.combineUri(null, "/a"));
+    assertEquals("a/", UriUtil.combineUri("a", "/"));
+  }
+
+  @Test
+  public void test_getRegistrableDomain() {
+    assertEquals("example.co.kr", UriUtil.getRegistrableDomain("https://a.b.Example.co.kr:8080/path?q"));
+    assertEquals("nexon.com", UriUtil.getRegistrableDomain("https://www.nexon.com."));
+    assertEquals(null, UriUtil.getRegistrableDomain("http://co.kr/"));
+    assertEquals(null, UriUtil.getRegistrableDomain("http://127.0.0.1:8080/"));
+    assertEquals(null, UriUtil.getRegistrableDomain("/relative"));
+  }
+}
@@ -0,0 +1,101 @@
+package utils;
+
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.StringUtil;
+import io.rebolt.core.utils.UrlCodec;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class Test_UrlCodec {
+  private static final String value = "http://\\!@#$43%^^...21!!!#@$%$^%--__=+_++_+_~!@~good.co          m/good-job/key=value&key1=value%&;닭꺼져ⓐ😀";
+
+  @Test
+  public void test_form() throws Exception {
+    String encoded = UrlCodec.FORM.encode(value);
+    assertEquals(URLEncoder.encode(value, "UTF-8"), encoded);
+    assertEquals(value, UrlCodec.FORM.decode(encoded));
+    assertEquals(URLDecoder.decode("a+b%20c%EB%8B%AD+", "UTF-8"), UrlCodec.FORM.decode("a+b%20c%EB%8B%AD+"));
+    assertEquals(encoded, StringUtil.encodeUrl(value));
+    assertEquals(value, StringUtil.decodeUrl(encoded));
+
+    Random random = new Random(0);
+    for (int i = 0; i < 1000; i++) {
+      char[] chars = new char[random.nextInt(20)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = (char) (random.nextBoolean() ? random.nextInt(128) : random.nextInt(Character.MAX_VALUE + 1));
+      }
+      String text = new String(chars);
+      assertEquals(text, URLEncoder.encode(text, "UTF-8"), UrlCodec.FORM.encode(text));
+      assertEquals(text, UrlCodec.FORM.encode(text).length(), UrlCodec.FORM.encodedLength(text, 0, text.length()));
+      String expected = URLDecoder.decode(URLEncoder.encode(text, "UTF-8"), "UTF-8");
+      assertEquals(text, expected, UrlCodec.FORM.decode(URLEncoder.encode(text, "UTF-8")));
+    }
+  }
+
+  @Test
+  public void test_path() {
+    assertEquals("/a%20b/c+d/%EB%8B%AD~:@", UrlCodec.PATH.encode("/a b/c+d/닭~:@"));
+    assertEquals("/a b/c+d/닭~:@", UrlCodec.PATH.decode("/a%20b/c+d/%EB%8B%AD~:@"));
+  }
+
+  @Test
+  public void test_unchanged() {
+    String plain = "abc-DEF_123.*";
+    assertSame(plain, UrlCodec.FORM.encode(plain));
+    assertSame(plain, UrlCodec.FORM.decode(plain));
+    String path = "/a/b;c=d";
+    assertSame(path, UrlCodec.PATH.encode(path));
+    assertSame("a+b", UrlCodec.PATH.decode("a+b"));
+  }
+
+  @Test
+  public void test_range() throws Exception {
+    StringBuilder builder = new StringBuilder("q=");
+    UrlCodec.FORM.encode("[a b&c]", 1, 6, builder);
+    assertEquals("q=a+b%26c", builder.toString());
+
+    builder.setLength(0);
+    UrlCodec.FORM.decode("q=a+b%26c&x", 2, 9, builder);
+    assertEquals("a b&c", builder.toString());
+  }
+
+  @Test
+  public void test_bytes() {
+    byte[] source = ("xx" + value).getBytes(CHARSET_UTF8);
+    int length = source.length - 2;
+    byte[] encoded = new byte[UrlCodec.FORM.encodedLength(source, 2, length) + 1];
+    int written = UrlCodec.FORM.encode(source, 2, length, encoded, 1);
+    assertEquals(encoded.length - 1, written);
+    assertEquals(UrlCodec.FORM.encode(value), new String(encoded, 1, written, CHARSET_UTF8));
+
+    // 같은 배열에 덮어쓰기
+    int decoded = UrlCodec.FORM.decode(encoded, 1, written, encoded, 0);
+    assertArrayEquals(value.getBytes(CHARSET_UTF8), Arrays.copyOf(encoded, decoded));
+  }
+
+  @Test
+  public void test_illegal() {
+    for (String illegal : new String[]{"%", "a%2", "%zz", "%2é", "%%41"}) {
+      try {
+        UrlCodec.FORM.decode(illegal);
+        fail(illegal);
+      } catch (IllegalParameterException ignored) {
+      }
+    }
+    try {
+      UrlCodec.FORM.decode("ab%4".getBytes(CHARSET_UTF8), 0, 4, new byte[4], 0);
+      fail();
+    } catch (IllegalParameterException ignored) {
+    }
+  }
+}
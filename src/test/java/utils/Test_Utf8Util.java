@@ -0,0 +1,71 @@
+package utils;
+
+import com.google.common.base.Splitter;
+import io.rebolt.core.exceptions.IllegalParameterException;
+import io.rebolt.core.utils.StringUtil;
+import io.rebolt.core.utils.Utf8Util;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.rebolt.core.constants.Constants.CHARSET_UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class Test_Utf8Util {
+
+  private static String decode(ByteBuffer buffer) {
+    return CHARSET_UTF8.decode(buffer.duplicate()).toString();
+  }
+
+  @Test
+  public void test_split() {
+    String value = "123,4214,      닭하야,21,31,23,12     ,ⓐⓑ,2311     231,      ,3123123,";
+    List<String> origin = Splitter.on(',').omitEmptyStrings().trimResults().splitToList(value);
+
+    List<ByteBuffer> split = Utf8Util.split(',', value.getBytes(CHARSET_UTF8));
+    assertEquals(origin, split.stream().map(Test_Utf8Util::decode).collect(Collectors.toList()));
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(64);
+    direct.put("xx a, b ,c".getBytes(CHARSET_UTF8)).flip();
+    direct.position(2);
+    List<String> tokens = Utf8Util.split(',', direct).stream().map(Test_Utf8Util::decode).collect(Collectors.toList());
+    assertEquals(StringUtil.split(',', "a, b ,c"), tokens);
+    assertEquals(2, direct.position());
+  }
+
+  @Test
+  public void test_join() {
+    byte[][] values = {"a".getBytes(CHARSET_UTF8), null, new byte[0], "닭".getBytes(CHARSET_UTF8)};
+    byte[] expected = StringUtil.join(",", "a", null, "", "닭").getBytes(CHARSET_UTF8);
+
+    assertArrayEquals(expected, Utf8Util.join(',', values));
+
+    ByteBuffer[] buffers = {ByteBuffer.wrap(values[0]), null, ByteBuffer.wrap(values[2]), ByteBuffer.wrap(values[3])};
+    assertArrayEquals(expected, Utf8Util.join(',', buffers));
+
+    ByteBuffer target = ByteBuffer.allocate(expected.length + 1);
+    target.put((byte) '>');
+    Utf8Util.joinTo(target, ',', buffers);
+    assertEquals(">" + new String(expected, CHARSET_UTF8), new String(target.array(), CHARSET_UTF8));
+    assertEquals(0, buffers[0].position());
+  }
+
+  @Test
+  public void test_trim() {
+    byte[] value = "  1a 닭하야4 \t".getBytes(CHARSET_UTF8);
+    assertArrayEquals("1a 닭하야4".getBytes(CHARSET_UTF8), Utf8Util.trim(value));
+    assertEquals("1a 닭하야4", decode(Utf8Util.trim(ByteBuffer.wrap(value))));
+
+    byte[] trimmed = "닭".getBytes(CHARSET_UTF8);
+    assertSame(trimmed, Utf8Util.trim(trimmed));
+  }
+
+  @Test(expected = IllegalParameterException.class)
+  public void test_nonAsciiSeparator() {
+    Utf8Util.split('닭', new byte[0]);
+  }
+}